@@ -20,8 +20,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.holonplatform.core.datastore.bulk.BulkUpdate;
 import com.holonplatform.core.i18n.Localizable;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemListingDataProviderAdapter;
 import com.holonplatform.vaadin.flow.data.ItemSort;
 import com.holonplatform.vaadin.flow.i18n.LocalizationProvider;
@@ -106,12 +110,184 @@ public interface ItemListing<T, P> extends ItemSet, Selectable<T>, HasComponent
 	 */
 	void setSelectionMode(SelectionMode selectionMode);
 
+	/**
+	 * Select all the items which match the current listing filters.
+	 * <p>
+	 * When the listing uses a {@link DatastoreDataProvider}, the selection is kept
+	 * symbolically as <em>all the items which match the current filters, except
+	 * the deselected ones</em>: the items are not loaded, only the displayed items
+	 * are marked as selected and the ids of the items deselected afterwards are
+	 * tracked. The {@link #getSelectedItems()} set loads the selected items lazily
+	 * from the data source when iterated, and {@link #getSelectionFilter()} can be
+	 * used to obtain the selection as a query filter. Otherwise, all the data
+	 * provider items are selected.
+	 * </p>
+	 * <p>
+	 * When the listing uses a {@link DatastoreDataProvider}, the grid select all
+	 * checkbox is bound to this method and to {@link #deselectAll()}, and its state
+	 * reflects {@link #isAllSelected()}.
+	 * </p>
+	 * <p>
+	 * The all items selection is discarded by {@link #deselectAll()} and when the
+	 * selection mode changes.
+	 * </p>
+	 * @throws IllegalStateException If the listing selection mode is not
+	 *                               {@link SelectionMode#MULTI}
+	 * @since 6.0.3
+	 */
+	void selectAll();
+
+	/**
+	 * Get whether all the items which match the current listing filters are
+	 * selected, except the ones deselected afterwards.
+	 * @return <code>true</code> if the all items selection is active
+	 * @see #selectAll()
+	 * @since 6.0.3
+	 */
+	boolean isAllSelected();
+
+	/**
+	 * Get the current selection as a {@link QueryFilter}, when the listing uses a
+	 * {@link DatastoreDataProvider}.
+	 * <p>
+	 * When all the items are selected (see {@link #selectAll()}), the filter
+	 * combines the current data provider filter (see
+	 * {@link DatastoreDataProvider#getCurrentFilter()}) with the exclusion of the
+	 * deselected item ids, or selects all the items with a not <code>null</code>
+	 * identifier if no filter is available. Otherwise, the filter selects the ids
+	 * of the selected items. See {@link DatastoreDataProvider#getIdentifiersFilter(java.util.Collection)}
+	 * for the item ids resolution.
+	 * </p>
+	 * @return Optional selection filter, empty if there is no selection, the
+	 *         listing does not use a {@link DatastoreDataProvider} or the item ids
+	 *         cannot be resolved to a filter
+	 * @since 6.0.3
+	 */
+	Optional<QueryFilter> getSelectionFilter();
+
+	/**
+	 * Delete the selected items using a single {@link DatastoreDataProvider}
+	 * bulk delete operation, built from the selection filter (see
+	 * {@link #getSelectionFilter()}). The selection is cleared and the listing
+	 * data is refreshed afterwards.
+	 * @return The number of deleted items, <code>0</code> if there is no
+	 *         selection
+	 * @throws IllegalStateException If the listing does not use a
+	 *                               {@link DatastoreDataProvider} or the
+	 *                               selection cannot be expressed as a query
+	 *                               filter
+	 * @since 6.0.3
+	 */
+	long deleteSelectedItems();
+
+	/**
+	 * Delete all the items which match the current listing filters (see
+	 * {@link DatastoreDataProvider#getCurrentFilter()}) using a single
+	 * {@link DatastoreDataProvider} bulk delete operation. The selection is
+	 * cleared and the listing data is refreshed afterwards.
+	 * @return The number of deleted items
+	 * @throws IllegalStateException If the listing does not use a
+	 *                               {@link DatastoreDataProvider} or the
+	 *                               listing has no filter (see
+	 *                               {@link #deleteFilteredItems(boolean)})
+	 * @since 6.0.3
+	 */
+	default long deleteFilteredItems() {
+		return deleteFilteredItems(false);
+	}
+
+	/**
+	 * Delete all the items which match the current listing filters (see
+	 * {@link DatastoreDataProvider#getCurrentFilter()}) using a single
+	 * {@link DatastoreDataProvider} bulk delete operation. The selection is
+	 * cleared and the listing data is refreshed afterwards.
+	 * @param allowUnfiltered Whether to delete all the items of the data target
+	 *                        when the listing has no filter
+	 * @return The number of deleted items
+	 * @throws IllegalStateException If the listing does not use a
+	 *                               {@link DatastoreDataProvider}, or the
+	 *                               listing has no filter and
+	 *                               <code>allowUnfiltered</code> is
+	 *                               <code>false</code>
+	 * @since 6.0.3
+	 */
+	long deleteFilteredItems(boolean allowUnfiltered);
+
+	/**
+	 * Update the selected items using a single {@link DatastoreDataProvider}
+	 * bulk update operation, built from the selection filter (see
+	 * {@link #getSelectionFilter()}). The listing data is refreshed afterwards.
+	 * @param operation The callback to use to configure the values to update on
+	 *                  the bulk update operation (not null)
+	 * @return The number of updated items, <code>0</code> if there is no
+	 *         selection
+	 * @throws IllegalStateException If the listing does not use a
+	 *                               {@link DatastoreDataProvider} or the
+	 *                               selection cannot be expressed as a query
+	 *                               filter
+	 * @since 6.0.3
+	 */
+	long updateSelectedItems(Consumer<BulkUpdate> operation);
+
+	/**
+	 * Update all the items which match the current listing filters (see
+	 * {@link DatastoreDataProvider#getCurrentFilter()}) using a single
+	 * {@link DatastoreDataProvider} bulk update operation. The listing data is
+	 * refreshed afterwards.
+	 * <p>
+	 * If the listing has no filter, all the items of the data target are updated.
+	 * </p>
+	 * @param operation The callback to use to configure the values to update on
+	 *                  the bulk update operation (not null)
+	 * @return The number of updated items
+	 * @throws IllegalStateException If the listing does not use a
+	 *                               {@link DatastoreDataProvider}
+	 * @since 6.0.3
+	 */
+	long updateFilteredItems(Consumer<BulkUpdate> operation);
+
 	/**
 	 * Refresh given item in data source
 	 * @param item Item to refresh (not null)
 	 */
 	void refreshItem(T item);
 
+	/**
+	 * Reload the item with given id from the data source and refresh it, without
+	 * reloading the other items.
+	 * <p>
+	 * When the listing uses a Datastore data provider and the item id can be
+	 * resolved to a query filter, the item is loaded using a single query and
+	 * replaces the current item with the same id, which is the only one updated in
+	 * the listing. If the item is being edited, the editing is cancelled.
+	 * Otherwise, the whole items set is refreshed, as by {@link #refresh()}.
+	 * </p>
+	 * @param id The item id (not null)
+	 * @return <code>true</code> if the item was reloaded and refreshed,
+	 *         <code>false</code> if it was not found or the whole items set was
+	 *         refreshed
+	 * @since 6.0.3
+	 */
+	boolean refreshItemById(Object id);
+
+	/**
+	 * Reload the items currently loaded in the listing from the data source and
+	 * update only the ones which changed.
+	 * <p>
+	 * Unlike {@link #refresh()}, the editor, the scroll position and the selection
+	 * are preserved. The loaded items are matched with the reloaded ones by id and
+	 * compared using the item version, if an item version provider is configured,
+	 * or the item values otherwise. The item being edited is never updated.
+	 * </p>
+	 * <p>
+	 * If the items count or the ids of the loaded items changed, the whole items
+	 * set is refreshed, as by {@link #refresh()}.
+	 * </p>
+	 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#itemVersionProvider(java.util.function.Function)
+	 * @since 6.0.3
+	 */
+	void softRefresh();
+
 	/**
 	 * Get the item listing header section rows handler, if available.
 	 * @return Optional item listing header handler
@@ -233,6 +409,18 @@ public interface ItemListing<T, P> extends ItemSet, Selectable<T>, HasComponent
 	 */
 	void setFrozen(boolean frozen);
 
+	/**
+	 * Get whether the listing data provider is loading data asynchronously.
+	 * <p>
+	 * While loading, the <code>h-loading</code> CSS class name is added to the
+	 * listing component.
+	 * </p>
+	 * @return Whether the listing is loading data
+	 * @see DatastoreDataProvider#setAsyncExecutor(java.util.concurrent.Executor)
+	 * @since 6.0.3
+	 */
+	boolean isLoading();
+
 	/**
 	 * Get the current additional items, if any.
 	 * <p>
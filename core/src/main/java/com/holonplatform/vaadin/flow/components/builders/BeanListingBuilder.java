@@ -15,8 +15,16 @@
  */
 package com.holonplatform.vaadin.flow.components.builders;
 
+import java.util.function.Supplier;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
 import com.holonplatform.vaadin.flow.components.BeanListing;
 import com.holonplatform.vaadin.flow.components.builders.BeanListingBuilder.DatastoreBeanListingBuilder;
+import com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.DatastoreDataProviderListingConfigurator;
 
 /**
  * {@link BeanListing} builder.
@@ -29,6 +37,19 @@ public interface BeanListingBuilder<T> extends BeanListingConfigurator<T, BeanLi
 		HasBeanDatastoreDataProviderConfigurator<T, DatastoreBeanListingBuilder<T>, BeanListingBuilder<T>>,
 		ItemListingBuilder<T, String, BeanListing<T>, BeanListingBuilder<T>> {
 
+	/**
+	 * Set the data provider which acts as items data source, using given {@link Datastore} as backend data handler and
+	 * given {@link DataTarget} as query target. The Datastore {@link PropertyBox} type items will be converted into the
+	 * required bean type, using given <code>beanFactory</code> to create the bean instances.
+	 * @param datastore The {@link Datastore} to use (not null)
+	 * @param target The {@link DataTarget} to use as query target (not null)
+	 * @param beanFactory The function to use to create the bean instances (not null)
+	 * @return An extended builder which allow further data provider configuration, for example to add fixed
+	 *         {@link QueryFilter} and {@link QuerySort}.
+	 * @since 6.0.3
+	 */
+	DatastoreBeanListingBuilder<T> dataSource(Datastore datastore, DataTarget<?> target, Supplier<T> beanFactory);
+
 	/**
 	 * {@link BeanListing} builder with {@link DatastoreDataProviderConfigurator} support.
 	 * 
@@ -37,7 +58,7 @@ public interface BeanListingBuilder<T> extends BeanListingConfigurator<T, BeanLi
 	 * @since 5.2.0
 	 */
 	public interface DatastoreBeanListingBuilder<T> extends BeanListingConfigurator<T, DatastoreBeanListingBuilder<T>>,
-			DatastoreDataProviderConfigurator<T, DatastoreBeanListingBuilder<T>>,
+			DatastoreDataProviderListingConfigurator<T, DatastoreBeanListingBuilder<T>>,
 			ItemListingBuilder<T, String, BeanListing<T>, DatastoreBeanListingBuilder<T>> {
 
 	}
@@ -15,12 +15,18 @@
  */
 package com.holonplatform.vaadin.flow.components.builders;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import com.holonplatform.core.property.Property;
 import com.holonplatform.core.query.QueryConfigurationProvider;
 import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.vaadin.flow.components.ItemListing;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 
@@ -114,5 +120,193 @@ public interface DatastoreDataProviderConfigurator<ITEM, C extends DatastoreData
 		 */
 		C additionalItemsProvider(AdditionalItemsProvider<ITEM> additionalItemsProvider);
 
+		/**
+		 * Enable a bounded lookup cache for the select value to item conversion, to
+		 * avoid to perform a query each time the same value is set as the select
+		 * value.
+		 * <p>
+		 * The lookup cache is seeded with the items fetched by the select data
+		 * provider and it is invalidated when the select items are refreshed.
+		 * </p>
+		 * @param maxSize    The maximum number of items to cache, <code>0</code> or
+		 *                   less to disable the lookup cache
+		 * @param timeToLive The cached items time-to-live, <code>null</code> if
+		 *                   cached items never expire
+		 * @return this
+		 * @since 6.0.3
+		 */
+		C lookupCache(int maxSize, Duration timeToLive);
+
+		/**
+		 * Subscribe the data provider to the changes of its data target published
+		 * through given {@link DatastoreChangeBus}, while the component is attached to
+		 * a UI. The changed items are refreshed, and the lookup cache, if enabled, is
+		 * updated accordingly.
+		 * @param changeBus The change bus (not null)
+		 * @return this
+		 * @see DatastoreDataProvider#subscribe(DatastoreChangeBus,
+		 *      com.vaadin.flow.component.UI)
+		 * @since 6.0.3
+		 */
+		C changeBus(DatastoreChangeBus changeBus);
+
+	}
+
+	/**
+	 * DatastoreDataProviderConfigurator for item listing components.
+	 *
+	 * @param <ITEM> Item type
+	 * @param <C>    Concrete configurator type
+	 * 
+	 * @since 6.0.3
+	 */
+	public interface DatastoreDataProviderListingConfigurator<ITEM, C extends DatastoreDataProviderListingConfigurator<ITEM, C>>
+			extends DatastoreDataProviderConfigurator<ITEM, C> {
+
+		/**
+		 * Set the strategy to use to obtain the items count.
+		 * <p>
+		 * By default, the {@link DatastoreCountStrategy#exact()} strategy is used.
+		 * </p>
+		 * @param countStrategy The count strategy to set (not null)
+		 * @return this
+		 * @see DatastoreCountStrategy#cached(java.time.Duration)
+		 * @see DatastoreCountStrategy#estimated(DatastoreCountStrategy.CountEstimator)
+		 */
+		C countStrategy(DatastoreCountStrategy countStrategy);
+
+		/**
+		 * Set whether to enable the keyset (seek) pagination mode, which uses the sort
+		 * values of the last item of the previous page as query filter instead of the
+		 * query <code>offset</code>.
+		 * <p>
+		 * Requires the property set to declare at least one identifier property.
+		 * </p>
+		 * @param keysetPagination <code>true</code> to enable the keyset pagination
+		 *                         mode
+		 * @return this
+		 * @see DatastoreDataProvider#setKeysetPagination(boolean)
+		 */
+		C keysetPagination(boolean keysetPagination);
+
+		/**
+		 * Enable the asynchronous data loading mode, using given {@link Executor} to
+		 * perform the Datastore queries, so that the UI session lock is not held while
+		 * waiting for the query results.
+		 * <p>
+		 * While loading, the {@link ItemListing#isLoading()} method returns
+		 * <code>true</code>.
+		 * </p>
+		 * @param executor The executor to use (not null)
+		 * @return this
+		 * @see DatastoreDataProvider#setAsyncExecutor(Executor)
+		 */
+		C asyncExecutor(Executor executor);
+
+		/**
+		 * Enable the predictive read-ahead of adjacent pages: after a page is served,
+		 * the next pages (or the previous ones when scrolling upwards) are fetched in
+		 * background using given executor.
+		 * @param pages    The number of pages to read ahead, <code>0</code> to disable
+		 *                 read-ahead
+		 * @param executor The executor to use to fetch the pages in background (not
+		 *                 null if <code>pages</code> is greater than <code>0</code>)
+		 * @return this
+		 * @see DatastoreDataProvider#setReadAhead(int, Executor)
+		 */
+		C readAhead(int pages, Executor executor);
+
+		/**
+		 * Set whether to load the listing items without obtaining the items count
+		 * (infinite scroll mode): no count query is performed and the items are
+		 * fetched page by page while scrolling, until a page with less items than
+		 * requested is returned.
+		 * @param undefinedSize <code>true</code> to enable the undefined size mode
+		 * @return this
+		 */
+		C undefinedSize(boolean undefinedSize);
+
+		/**
+		 * Enable the undefined size mode (see {@link #undefinedSize(boolean)}), using
+		 * given items count estimate as initial size of the listing scrollable area.
+		 * @param itemCountEstimate The items count estimate (must be greater than
+		 *                          <code>0</code>)
+		 * @return this
+		 */
+		C undefinedSize(int itemCountEstimate);
+
+		/**
+		 * Enable the listing auto refresh: while the listing is attached to a UI, the
+		 * items count is probed at given interval using the UI polling and, when it
+		 * changes, only the changed items are refreshed (see
+		 * {@link ItemListing#softRefresh()}).
+		 * @param interval The probe interval (not null), {@link Duration#ZERO} to
+		 *                 disable auto refresh
+		 * @return this
+		 * @see DatastoreDataProvider#probe(Property)
+		 */
+		default C autoRefresh(Duration interval) {
+			return autoRefresh(interval, null);
+		}
+
+		/**
+		 * Enable the listing auto refresh: while the listing is attached to a UI, the
+		 * items count and the max value of given version property are probed at given
+		 * interval using the UI polling and, when they change, only the changed items
+		 * are refreshed (see {@link ItemListing#softRefresh()}).
+		 * <p>
+		 * The probe query applies the filters provided by the query configuration
+		 * providers and it is executed out of the UI thread, using the data provider
+		 * asynchronous executor if configured, or a small shared pool of daemon
+		 * threads otherwise. The UI poll interval is
+		 * shared with the other components which use the UI polling: the shortest
+		 * requested interval is applied, and the previous UI poll interval is
+		 * restored when no component requires the polling anymore.
+		 * </p>
+		 * @param interval        The probe interval (not null), {@link Duration#ZERO}
+		 *                        to disable auto refresh
+		 * @param versionProperty The version property, for example a column which
+		 *                        is increased at each item change. Must be a
+		 *                        {@link com.holonplatform.core.Path}. If
+		 *                        <code>null</code>, only the items count is probed.
+		 * @return this
+		 * @see DatastoreDataProvider#probe(Property)
+		 */
+		C autoRefresh(Duration interval, Property<?> versionProperty);
+
+		/**
+		 * Subscribe the listing data provider to the changes of its data target
+		 * published through given {@link DatastoreChangeBus}, while the listing is
+		 * attached to a UI, and publish the listing editor saves to the change bus.
+		 * <p>
+		 * Only the changed items are refreshed, when their ids are known.
+		 * </p>
+		 * @param changeBus The change bus (not null)
+		 * @return this
+		 * @see DatastoreDataProvider#subscribe(DatastoreChangeBus,
+		 *      com.vaadin.flow.component.UI)
+		 */
+		C changeBus(DatastoreChangeBus changeBus);
+
+		/**
+		 * Set whether to store only the ids of the selected items, instead of the
+		 * item instances, in
+		 * {@link com.holonplatform.vaadin.flow.components.Selectable.SelectionMode#MULTI}
+		 * selection mode.
+		 * <p>
+		 * The integral ids are stored as primitive values. Only the selected items
+		 * which are displayed are kept as instances, and the
+		 * {@link ItemListing#getSelectedItems()} set loads the selected items lazily
+		 * from the Datastore, in batches, when iterated. The item ids must
+		 * be resolvable to a query filter (see
+		 * {@link DatastoreDataProvider#getIdentifiersFilter(java.util.Collection)}).
+		 * </p>
+		 * @param idSelection <code>true</code> to store only the selected item ids
+		 * @return this
+		 * @since 6.0.3
+		 */
+		C idSelection(boolean idSelection);
+
 	}
+
 }
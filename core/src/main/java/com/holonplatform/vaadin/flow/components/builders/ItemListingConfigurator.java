@@ -19,9 +19,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.i18n.Localizable;
@@ -50,6 +52,8 @@ import com.holonplatform.vaadin.flow.components.events.ItemListingDragStartEvent
 import com.holonplatform.vaadin.flow.components.events.ItemListingDropEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingItemEvent;
 import com.holonplatform.vaadin.flow.data.ItemSort;
+import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn;
+import com.holonplatform.vaadin.flow.internal.components.support.PooledComponentRenderer;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.grid.GridMultiSelectionModel.SelectAllCheckboxVisibility;
 import com.vaadin.flow.component.grid.GridVariant;
@@ -59,6 +63,7 @@ import com.vaadin.flow.component.grid.contextmenu.GridSubMenu;
 import com.vaadin.flow.component.grid.dnd.GridDropMode;
 import com.vaadin.flow.data.renderer.ClickableRenderer.ItemClickListener;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.data.renderer.LitRenderer;
 import com.vaadin.flow.data.renderer.Renderer;
 import com.vaadin.flow.data.renderer.TextRenderer;
 import com.vaadin.flow.function.ValueProvider;
@@ -365,6 +370,38 @@ public interface ItemListingConfigurator<T, P, L extends ItemListing<T, P>, C ex
 	 */
 	C alignment(P property, ColumnAlignment alignment);
 
+	/**
+	 * Enable the presentation cache for the column which corresponds to given property, using given maximum cache
+	 * size.
+	 * <p>
+	 * When the column contents are rendered using the property presenter, the presentation string of each
+	 * property value is cached and reused for any other row with the same value, instead of presenting the value
+	 * again. The cache is bounded: the least recently used values are evicted when the maximum size is exceeded.
+	 * The cached presentations are cleared when the current {@link java.util.Locale} changes.
+	 * </p>
+	 * <p>
+	 * The presentation cache is not used when a custom renderer or value provider is configured for the column.
+	 * The property values must provide consistent <code>equals</code> and <code>hashCode</code> implementations.
+	 * </p>
+	 * @param property The property to configure (not null)
+	 * @param maxSize The maximum number of values to cache, <code>0</code> to disable the presentation cache
+	 * @return this
+	 * @since 6.0.3
+	 */
+	C presentationCache(P property, int maxSize);
+
+	/**
+	 * Enable the presentation cache for the column which corresponds to given property, using the default maximum
+	 * cache size.
+	 * @param property The property to configure (not null)
+	 * @return this
+	 * @since 6.0.3
+	 * @see #presentationCache(Object, int)
+	 */
+	default C presentationCache(P property) {
+		return presentationCache(property, ItemListingColumn.DEFAULT_PRESENTATION_CACHE_SIZE);
+	}
+
 	/**
 	 * Sets the {@link Renderer} to use for the column which corresponds to given property.
 	 * @param property The property to configure (not null)
@@ -386,6 +423,97 @@ public interface ItemListingConfigurator<T, P, L extends ItemListing<T, P>, C ex
 		return renderer(property, new ComponentRenderer<>(item -> renderer.apply(item)));
 	}
 
+	/**
+	 * Render the column which corresponds to given property as a {@link Component}, recycling the rendered
+	 * components.
+	 * <p>
+	 * The components are obtained from the given <code>componentFactory</code> and bound to each listing item
+	 * using the given <code>componentBinder</code>. When a row is no longer displayed, its component is kept in a
+	 * bounded pool and bound to the next item to render, instead of creating a new component instance. For this
+	 * reason, the binder must fully update the component state for the given item.
+	 * </p>
+	 * @param <R> Component type
+	 * @param property The property to configure (not null)
+	 * @param componentFactory The function to use to create a new component (not null)
+	 * @param componentBinder The function to use to bind a listing item to a component (not null)
+	 * @param poolSize The maximum number of components to keep in the pool for the column
+	 * @return this
+	 * @since 6.0.3
+	 */
+	default <R extends Component> C pooledComponentRenderer(P property, Supplier<R> componentFactory,
+			BiConsumer<R, T> componentBinder, int poolSize) {
+		ObjectUtils.argumentNotNull(componentFactory, "Component factory must be not null");
+		ObjectUtils.argumentNotNull(componentBinder, "Component binder must be not null");
+		return renderer(property, new PooledComponentRenderer<>(() -> componentFactory.get(),
+				(component, item) -> componentBinder.accept(component, item), poolSize));
+	}
+
+	/**
+	 * Render the column which corresponds to given property as a {@link Component}, recycling the rendered
+	 * components and using the default maximum pool size.
+	 * @param <R> Component type
+	 * @param property The property to configure (not null)
+	 * @param componentFactory The function to use to create a new component (not null)
+	 * @param componentBinder The function to use to bind a listing item to a component (not null)
+	 * @return this
+	 * @since 6.0.3
+	 * @see #pooledComponentRenderer(Object, Supplier, BiConsumer, int)
+	 */
+	default <R extends Component> C pooledComponentRenderer(P property, Supplier<R> componentFactory,
+			BiConsumer<R, T> componentBinder) {
+		return pooledComponentRenderer(property, componentFactory, componentBinder,
+				PooledComponentRenderer.DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Render the column which corresponds to given property using a client side template, through a
+	 * {@link LitRenderer}.
+	 * <p>
+	 * Unlike {@link #componentRenderer(Object, Function)}, no server side component is created for each
+	 * listing row: only the template data is sent to the client. This is the preferred way to render
+	 * simple contents such as badges, icons, links or formatted text.
+	 * </p>
+	 * <p>
+	 * The given <code>configurator</code> can be used to bind the template properties and functions, for
+	 * example using {@link LitRenderer#withProperty(String, ValueProvider)}.
+	 * </p>
+	 * @param property The property to configure (not null)
+	 * @param template The Lit template to use to render the column cells (not null)
+	 * @param configurator The renderer configurator (not null)
+	 * @return this
+	 * @since 6.0.3
+	 */
+	default C templateRenderer(P property, String template, Consumer<LitRenderer<T>> configurator) {
+		ObjectUtils.argumentNotNull(template, "Template must be not null");
+		ObjectUtils.argumentNotNull(configurator, "Renderer configurator must be not null");
+		final LitRenderer<T> renderer = LitRenderer.of(template);
+		configurator.accept(renderer);
+		return renderer(property, renderer);
+	}
+
+	/**
+	 * Render the column which corresponds to given property using a client side template, through a
+	 * {@link LitRenderer}, binding the value obtained from given <code>valueProvider</code> to the template
+	 * property with given name.
+	 * <p>
+	 * For example, using <code>value</code> as property name, the value can be referred in the template
+	 * as <code>${item.value}</code>.
+	 * </p>
+	 * @param property The property to configure (not null)
+	 * @param template The Lit template to use to render the column cells (not null)
+	 * @param templateProperty The template property name (not null)
+	 * @param valueProvider The template property value provider (not null)
+	 * @return this
+	 * @since 6.0.3
+	 * @see #templateRenderer(Object, String, Consumer)
+	 */
+	default C templateRenderer(P property, String template, String templateProperty,
+			ValueProvider<T, ?> valueProvider) {
+		ObjectUtils.argumentNotNull(templateProperty, "Template property name must be not null");
+		ObjectUtils.argumentNotNull(valueProvider, "Value provider must be not null");
+		return templateRenderer(property, template, r -> r.withProperty(templateProperty, valueProvider));
+	}
+
 	/**
 	 * Sets the {@link ValueProvider} to use to obtain the text to display in the column which
 	 * corresponds to given property.
@@ -542,6 +670,19 @@ public interface ItemListingConfigurator<T, P, L extends ItemListing<T, P>, C ex
 	 */
 	C columnReorderingAllowed(boolean columnReorderingAllowed);
 
+	/**
+	 * Set the function to use to obtain the item version, for example the value of
+	 * a version column updated at each item change.
+	 * <p>
+	 * The item version is used by {@link ItemListing#softRefresh()} to detect the
+	 * changed items. If not configured, the item values are compared.
+	 * </p>
+	 * @param versionProvider The item version provider (not null)
+	 * @return this
+	 * @since 6.0.3
+	 */
+	C itemVersionProvider(Function<T, ?> versionProvider);
+
 	/**
 	 * Set the renderer to use for displaying the item details rows.
 	 * @param renderer the renderer to use for displaying item details rows
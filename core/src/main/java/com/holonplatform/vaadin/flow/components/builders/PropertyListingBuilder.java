@@ -17,7 +17,9 @@ package com.holonplatform.vaadin.flow.components.builders;
 
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.VirtualProperty;
 import com.holonplatform.vaadin.flow.components.PropertyListing;
+import com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.DatastoreDataProviderListingConfigurator;
 import com.holonplatform.vaadin.flow.components.builders.PropertyListingBuilder.DatastorePropertyListingBuilder;
 
 /**
@@ -36,7 +38,45 @@ public interface PropertyListingBuilder extends PropertyListingConfigurator<Prop
 	 */
 	public interface DatastorePropertyListingConfigurator
 			extends PropertyListingConfigurator<DatastorePropertyListingBuilder>,
-			DatastoreDataProviderConfigurator<PropertyBox, DatastorePropertyListingBuilder> {
+			DatastoreDataProviderListingConfigurator<PropertyBox, DatastorePropertyListingBuilder> {
+
+		/**
+		 * Set whether to use only the properties bound to the visible columns as query
+		 * projection, instead of the whole listing property set.
+		 * <p>
+		 * The property set identifiers, the query sort properties and the declared
+		 * virtual property dependencies (see
+		 * {@link #withProjectionDependencies(Property, Property...)}) are always
+		 * included in the query projection. When a column is made visible, the
+		 * projection is widened and the listing data is refreshed.
+		 * </p>
+		 * <p>
+		 * The listing items only contain the values of the projection properties, so
+		 * the whole property set is used as query projection when the listing is
+		 * editable.
+		 * </p>
+		 * @param visibleColumnsProjection Whether to enable the visible columns query
+		 *                                 projection
+		 * @return this
+		 * @since 6.0.3
+		 */
+		DatastorePropertyListingBuilder visibleColumnsProjection(boolean visibleColumnsProjection);
+
+		/**
+		 * Declare the properties on which the value of given listing property depends,
+		 * for example the properties used by a {@link VirtualProperty} value provider.
+		 * <p>
+		 * When the visible columns query projection is enabled and the column bound to
+		 * given property is visible, the dependencies are included in the query
+		 * projection.
+		 * </p>
+		 * @param property     The listing property (not null)
+		 * @param dependencies The properties on which the property value depends
+		 * @return this
+		 * @see #visibleColumnsProjection(boolean)
+		 * @since 6.0.3
+		 */
+		DatastorePropertyListingBuilder withProjectionDependencies(Property<?> property, Property<?>... dependencies);
 
 	}
 
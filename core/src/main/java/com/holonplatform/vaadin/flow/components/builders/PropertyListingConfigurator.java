@@ -155,6 +155,30 @@ public interface PropertyListingConfigurator<C extends PropertyListingConfigurat
 		return editor(property, Input.from(field, converter));
 	}
 
+	/**
+	 * Render the column associated to given <code>property</code> using a client side template.
+	 * <p>
+	 * The property value presentation, obtained through {@link PropertyBox#present(Property)}, is bound to
+	 * the <code>value</code> template property and can be referred in the template as
+	 * <code>${item.value}</code>. For example: <code>&lt;span theme="badge"&gt;${item.value}&lt;/span&gt;</code>.
+	 * </p>
+	 * <p>
+	 * No server side component is created for each listing row, only the presentation string is sent to
+	 * the client.
+	 * </p>
+	 * @param <T> Property type
+	 * @param property The property to render (not null)
+	 * @param template The Lit template to use to render the column cells (not null)
+	 * @return this
+	 * @since 6.0.3
+	 * @see #templateRenderer(Object, String, String, com.vaadin.flow.function.ValueProvider)
+	 */
+	default <T> C renderAsTemplate(Property<T> property, String template) {
+		ObjectUtils.argumentNotNull(property, "Property must be not null");
+		return templateRenderer(property, template, "value",
+				item -> item.contains(property) ? item.present(property) : null);
+	}
+
 	/**
 	 * Render the column associated to given <code>property</code> using a {@link ViewComponent}.
 	 * <p>
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.data;
+
+import java.io.Serializable;
+
+import com.holonplatform.vaadin.flow.internal.data.DefaultCacheStatistics;
+
+/**
+ * A snapshot of the usage statistics of a bounded cache.
+ *
+ * @since 6.0.3
+ */
+public interface CacheStatistics extends Serializable {
+
+	/**
+	 * Get the number of cache lookups which found a cached value.
+	 * @return The cache hits count
+	 */
+	long getHitCount();
+
+	/**
+	 * Get the number of cache lookups which did not find a cached value.
+	 * @return The cache misses count
+	 */
+	long getMissCount();
+
+	/**
+	 * Get the number of entries currently stored in the cache.
+	 * @return The cache size
+	 */
+	int getSize();
+
+	/**
+	 * Get the maximum number of entries the cache can hold.
+	 * @return The cache maximum size, <code>0</code> if the cache is disabled
+	 */
+	int getMaxSize();
+
+	/**
+	 * Get the ratio of cache lookups which found a cached value.
+	 * @return The cache hit ratio, between <code>0</code> and <code>1</code>. <code>0</code> if no lookup was
+	 *         performed
+	 */
+	default double getHitRatio() {
+		final long requests = getHitCount() + getMissCount();
+		return (requests == 0) ? 0d : (double) getHitCount() / requests;
+	}
+
+	/**
+	 * Create a new {@link CacheStatistics}.
+	 * @param hitCount The cache hits count
+	 * @param missCount The cache misses count
+	 * @param size The cache size
+	 * @param maxSize The cache maximum size
+	 * @return A new {@link CacheStatistics}
+	 */
+	static CacheStatistics create(long hitCount, long missCount, int size, int maxSize) {
+		return new DefaultCacheStatistics(hitCount, missCount, size, maxSize);
+	}
+
+	/**
+	 * Get the {@link CacheStatistics} of a disabled cache.
+	 * @return Empty cache statistics
+	 */
+	static CacheStatistics disabled() {
+		return create(0L, 0L, 0, 0);
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.data;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import com.holonplatform.core.Registration;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.vaadin.flow.internal.data.DefaultDatastoreChangeBus;
+import com.vaadin.flow.component.UI;
+
+/**
+ * A bus to notify the changes of the data of a {@link DataTarget} to the interested parties, for example the
+ * {@link DatastoreDataProvider}s of the UIs which display the same data.
+ * <p>
+ * The change events are delivered in the JVM in which they are published. When a subscription is bound to a
+ * {@link UI}, the events are delivered using {@link UI#access(com.vaadin.flow.server.Command)} and the events
+ * published before the delivery are merged, so that each subscription receives a single event per batch.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface DatastoreChangeBus {
+
+	/**
+	 * Publish a change of the data of given target.
+	 * @param source The change source, i.e. the object which performed the change, if available
+	 * @param target The data target (not null)
+	 * @param ids The ids of the changed items, an empty collection if the changed items are not known
+	 */
+	void publish(Object source, DataTarget<?> target, Collection<?> ids);
+
+	/**
+	 * Publish a change of the data of given target.
+	 * @param target The data target (not null)
+	 * @param ids The ids of the changed items, an empty collection if the changed items are not known
+	 */
+	default void publish(DataTarget<?> target, Collection<?> ids) {
+		publish(null, target, ids);
+	}
+
+	/**
+	 * Publish a change of the data of given target, without specifying the changed items, for example when items are
+	 * added or removed.
+	 * @param target The data target (not null)
+	 */
+	default void publish(DataTarget<?> target) {
+		publish(null, target, Collections.emptySet());
+	}
+
+	/**
+	 * Subscribe to the changes of the data of given target. Data targets are matched by name.
+	 * @param target The data target (not null)
+	 * @param ui The UI to use to deliver the change events, <code>null</code> to deliver them synchronously in the
+	 *        publishing thread. The subscription is removed when the UI is detached.
+	 * @param listener The change listener (not null)
+	 * @return The listener registration
+	 */
+	Registration subscribe(DataTarget<?> target, UI ui, ChangeListener listener);
+
+	/**
+	 * Subscribe to the changes of the data of given target, delivering the change events synchronously in the
+	 * publishing thread. Data targets are matched by name.
+	 * @param target The data target (not null)
+	 * @param listener The change listener (not null)
+	 * @return The listener registration
+	 */
+	default Registration subscribe(DataTarget<?> target, ChangeListener listener) {
+		return subscribe(target, null, listener);
+	}
+
+	/**
+	 * A data change event.
+	 */
+	public interface ChangeEvent extends Serializable {
+
+		/**
+		 * Get the change source, i.e. the object which performed the change.
+		 * @return Optional change source
+		 */
+		Optional<Object> getSource();
+
+		/**
+		 * Get the changed data target.
+		 * @return The data target
+		 */
+		DataTarget<?> getTarget();
+
+		/**
+		 * Get the ids of the changed items.
+		 * @return The changed item ids, empty if the changed items are not known
+		 */
+		Set<Object> getIds();
+
+		/**
+		 * Get whether the changed items are not known, so any item of the target may be changed.
+		 * @return <code>true</code> if any item of the target may be changed
+		 */
+		default boolean isAllItems() {
+			return getIds().isEmpty();
+		}
+
+	}
+
+	/**
+	 * A data change event listener.
+	 */
+	@FunctionalInterface
+	public interface ChangeListener extends Serializable {
+
+		/**
+		 * Invoked when the data of a target changed.
+		 * @param event The change event
+		 */
+		void onChange(ChangeEvent event);
+
+	}
+
+	// ------- builders
+
+	/**
+	 * Get the default, JVM-wide, {@link DatastoreChangeBus}.
+	 * @return The default change bus
+	 */
+	static DatastoreChangeBus getDefault() {
+		return DefaultDatastoreChangeBus.getDefault();
+	}
+
+	/**
+	 * Create a new {@link DatastoreChangeBus}.
+	 * @return A new change bus
+	 */
+	static DatastoreChangeBus create() {
+		return new DefaultDatastoreChangeBus();
+	}
+
+}
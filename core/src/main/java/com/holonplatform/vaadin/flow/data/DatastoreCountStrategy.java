@@ -0,0 +1,183 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.data;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.vaadin.flow.internal.data.CachedDatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.internal.data.EstimatedDatastoreCountStrategy;
+
+/**
+ * Strategy used by a {@link DatastoreDataProvider} to obtain the number of items which match the current query
+ * filters.
+ * <p>
+ * By default, the {@link #exact()} strategy is used, which performs a <code>count</code> query every time the data
+ * provider size is requested.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+@FunctionalInterface
+public interface DatastoreCountStrategy extends Serializable {
+
+	/**
+	 * Get the number of items which match given count request.
+	 * @param request The count request
+	 * @return The items count
+	 */
+	long count(CountRequest request);
+
+	/**
+	 * Invalidate any count value retained by this strategy.
+	 * <p>
+	 * Invoked by the data provider when the data is known to be changed: when the data provider caches are cleared
+	 * (see {@link DatastoreDataProvider#clearCaches()}), after a bulk operation and when a data change which may
+	 * affect the items count is notified through a {@link DatastoreChangeBus}. It is not invoked when the data
+	 * provider is just refreshed.
+	 * </p>
+	 */
+	default void invalidate() {
+	}
+
+	// ------- builders
+
+	/**
+	 * Get a {@link DatastoreCountStrategy} which always performs an exact <code>count</code> query.
+	 * @return The exact count strategy
+	 */
+	static DatastoreCountStrategy exact() {
+		return request -> request.executeCount();
+	}
+
+	/**
+	 * Get a {@link DatastoreCountStrategy} which caches the exact count value for each distinct query target, set of
+	 * query filters and set of query parameters, for the given amount of time.
+	 * <p>
+	 * The cached values are retained across the data provider refreshes, for example when the listing filters change
+	 * back and forth: they are discarded when they expire or when the strategy is invalidated (see
+	 * {@link #invalidate()}).
+	 * </p>
+	 * @param timeToLive The time-to-live of the cached count values (not null)
+	 * @return The cached count strategy
+	 */
+	static DatastoreCountStrategy cached(Duration timeToLive) {
+		return new CachedDatastoreCountStrategy(timeToLive, CachedDatastoreCountStrategy.DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Get a {@link DatastoreCountStrategy} which caches the exact count value for each distinct query target, set of
+	 * query filters and set of query parameters, for the given amount of time.
+	 * <p>
+	 * The cached values are retained across the data provider refreshes, for example when the listing filters change
+	 * back and forth: they are discarded when they expire or when the strategy is invalidated (see
+	 * {@link #invalidate()}).
+	 * </p>
+	 * @param timeToLive The time-to-live of the cached count values (not null)
+	 * @param maxSize The maximum number of distinct queries for which to cache the count value
+	 * @return The cached count strategy
+	 */
+	static DatastoreCountStrategy cached(Duration timeToLive, int maxSize) {
+		return new CachedDatastoreCountStrategy(timeToLive, maxSize);
+	}
+
+	/**
+	 * Get a {@link DatastoreCountStrategy} which uses given {@link CountEstimator} to obtain an approximate items
+	 * count.
+	 * <p>
+	 * When the estimator is not able to provide an estimate, an exact <code>count</code> query is performed.
+	 * </p>
+	 * @param estimator The count estimator (not null)
+	 * @return The estimated count strategy
+	 */
+	static DatastoreCountStrategy estimated(CountEstimator estimator) {
+		return new EstimatedDatastoreCountStrategy(estimator);
+	}
+
+	// ------- support
+
+	/**
+	 * A count request.
+	 */
+	public interface CountRequest {
+
+		/**
+		 * Get the {@link Datastore} used by the data provider.
+		 * @return The datastore
+		 */
+		Datastore getDatastore();
+
+		/**
+		 * Get the query {@link DataTarget}.
+		 * @return The query target
+		 */
+		DataTarget<?> getTarget();
+
+		/**
+		 * Get the query filters, including the ones provided by the query configuration providers.
+		 * @return The query filters, empty if none
+		 */
+		List<QueryFilter> getFilters();
+
+		/**
+		 * Get the overall query filter, if any.
+		 * @return Optional query filter
+		 */
+		default Optional<QueryFilter> getFilter() {
+			return QueryFilter.allOf(getFilters());
+		}
+
+		/**
+		 * Get the query parameters provided by the query configuration providers.
+		 * @return The query parameters, by name, empty if none
+		 */
+		default Map<String, Object> getParameters() {
+			return Collections.emptyMap();
+		}
+
+		/**
+		 * Perform an exact <code>count</code> query.
+		 * @return The exact items count
+		 */
+		long executeCount();
+
+	}
+
+	/**
+	 * A function to obtain a cheap, approximate items count, for example using the database statistics.
+	 */
+	@FunctionalInterface
+	public interface CountEstimator extends Serializable {
+
+		/**
+		 * Get the estimated items count.
+		 * @param datastore The datastore
+		 * @param target The query target
+		 * @param filter The overall query filter, if any
+		 * @return The estimated items count, or a negative value if an estimate is not available
+		 */
+		long estimate(Datastore datastore, DataTarget<?> target, Optional<QueryFilter> filter);
+
+	}
+
+}
@@ -15,13 +15,23 @@
  */
 package com.holonplatform.vaadin.flow.data;
 
+import java.io.Serializable;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import com.holonplatform.core.Path;
+import com.holonplatform.core.Registration;
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.datastore.bulk.BulkDelete;
+import com.holonplatform.core.datastore.bulk.BulkUpdate;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
@@ -31,6 +41,7 @@ import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.core.query.QuerySort;
 import com.holonplatform.vaadin.flow.internal.data.BeanPropertySetItemConverter;
 import com.holonplatform.vaadin.flow.internal.data.DefaultDatastoreDataProvider;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 
@@ -45,6 +56,20 @@ import com.vaadin.flow.data.provider.QuerySortOrder;
  */
 public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 
+	/**
+	 * Get the {@link Datastore} used by this data provider.
+	 * @return The datastore
+	 * @since 6.0.3
+	 */
+	Datastore getDatastore();
+
+	/**
+	 * Get the query {@link DataTarget}.
+	 * @return The data target
+	 * @since 6.0.3
+	 */
+	DataTarget<?> getTarget();
+
 	/**
 	 * Get the item identifier function, if available.
 	 * @return Optional item identifier function
@@ -57,6 +82,139 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 	 */
 	void setItemIdentifier(Function<T, Object> itemIdentifier);
 
+	/**
+	 * Get the query filter which selects the item with given id, if the item id can
+	 * be resolved to a filter.
+	 * <p>
+	 * The item identifier property is used if available (see
+	 * {@link PropertyBoxItemBuilder#itemIdentifier(Property)}),
+	 * otherwise the property set identifier properties are used: when the id is a
+	 * {@link PropertyBox}, its identifier values
+	 * are used, else the id is used as value of the property set identifier, if
+	 * only one is declared and its type is consistent with the id type.
+	 * </p>
+	 * @param id The item id (not null)
+	 * @return Optional query filter which selects the item with given id
+	 * @since 6.0.3
+	 */
+	Optional<QueryFilter> getIdentifierFilter(Object id);
+
+	/**
+	 * Get the {@link Path} whose values identify the items, if available.
+	 * <p>
+	 * The item identifier property is used if available (see
+	 * {@link PropertyBoxItemBuilder#itemIdentifier(Property)}), otherwise the
+	 * property set identifier is used, if only one is declared and it is a
+	 * {@link Path}.
+	 * </p>
+	 * @return Optional identifier path
+	 * @since 6.0.3
+	 */
+	Optional<Path<?>> getIdentifierPath();
+
+	/**
+	 * Load the item with given id from the {@link Datastore}, using a single
+	 * query.
+	 * <p>
+	 * The filters provided by the query configuration providers are applied, so
+	 * the item is not found if it no longer matches them.
+	 * </p>
+	 * @param id The item id (not null)
+	 * @return Optional item with given id, empty if not found
+	 * @throws IllegalStateException If the item id cannot be resolved to a query
+	 *                               filter (see {@link #getIdentifierFilter(Object)})
+	 * @since 6.0.3
+	 */
+	Optional<T> findById(Object id);
+
+	/**
+	 * Get a {@link QueryFilter} which selects the items with given ids.
+	 * <p>
+	 * When the ids are values of a single identifier property, the filter is
+	 * made of <code>IN</code> conditions. Otherwise, each id is resolved as
+	 * described in {@link #getIdentifierFilter(Object)}.
+	 * </p>
+	 * @param ids The item ids (not null)
+	 * @return Optional query filter which selects the items with given ids, empty
+	 *         if the ids collection is empty or any id cannot be resolved to a
+	 *         filter
+	 * @since 6.0.3
+	 */
+	Optional<QueryFilter> getIdentifiersFilter(Collection<?> ids);
+
+	/**
+	 * Count the items which match the filters provided by the query configuration
+	 * providers and given filter, if any.
+	 * @param filter The additional filter, may be <code>null</code>
+	 * @return The items count
+	 * @since 6.0.3
+	 */
+	long count(QueryFilter filter);
+
+	/**
+	 * Stream the items which match the filters provided by the query
+	 * configuration providers and given filter, if any.
+	 * <p>
+	 * The items are loaded lazily from the {@link Datastore}, one batch of given
+	 * size at a time, while the stream is consumed. The default sort and the
+	 * sorts provided by the query configuration providers are applied.
+	 * </p>
+	 * @param filter    The additional filter, may be <code>null</code>
+	 * @param batchSize The number of items to load at once, must be greater than
+	 *                  <code>0</code>
+	 * @return The items stream
+	 * @since 6.0.3
+	 */
+	Stream<T> stream(QueryFilter filter, int batchSize);
+
+	/**
+	 * Delete the items which match the current filter (see
+	 * {@link #getCurrentFilter()}) and given filter, if any, using a single
+	 * {@link BulkDelete} operation. The data provider data is refreshed
+	 * afterwards.
+	 * @param filter The additional filter, may be <code>null</code>
+	 * @return The number of deleted items
+	 * @throws IllegalStateException If no filter is available, to prevent the
+	 *                               deletion of all the items of the data target
+	 *                               (see {@link #bulkDelete(QueryFilter, boolean)})
+	 * @since 6.0.3
+	 */
+	default long bulkDelete(QueryFilter filter) {
+		return bulkDelete(filter, false);
+	}
+
+	/**
+	 * Delete the items which match the current filter (see
+	 * {@link #getCurrentFilter()}) and given filter, if any, using a single
+	 * {@link BulkDelete} operation. The data provider data is refreshed
+	 * afterwards.
+	 * @param filter          The additional filter, may be <code>null</code>
+	 * @param allowUnfiltered Whether to delete all the items of the data target
+	 *                        when no filter is available
+	 * @return The number of deleted items
+	 * @throws IllegalStateException If no filter is available and
+	 *                               <code>allowUnfiltered</code> is
+	 *                               <code>false</code>
+	 * @since 6.0.3
+	 */
+	long bulkDelete(QueryFilter filter, boolean allowUnfiltered);
+
+	/**
+	 * Update the items which match the current filter (see
+	 * {@link #getCurrentFilter()}) and given filter, if any, using a single
+	 * {@link BulkUpdate} operation. The data provider data is refreshed
+	 * afterwards.
+	 * <p>
+	 * If no filter is available, all the items of the data target are updated.
+	 * </p>
+	 * @param filter    The additional filter, may be <code>null</code>
+	 * @param operation The callback to use to configure the values to update on
+	 *                  the bulk update operation (not null)
+	 * @return The number of updated items
+	 * @since 6.0.3
+	 */
+	long bulkUpdate(QueryFilter filter, Consumer<BulkUpdate> operation);
+
 	/**
 	 * Get the {@link QueryConfigurationProvider}s.
 	 * @return the query configuration providers, empty if none
@@ -117,6 +275,21 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 	 */
 	Optional<QueryFilter> getQueryFilter();
 
+	/**
+	 * Get the filter which selects the items currently provided by this data
+	 * provider, i.e. the filter of the last size or fetch query, converted using
+	 * the filter converter (see {@link #getFilterConverter()}), combined with the
+	 * filters provided by the query configuration providers.
+	 * <p>
+	 * This is the filter to use to express the items displayed by a component
+	 * bound to this data provider, for example to perform a bulk operation.
+	 * </p>
+	 * @return Optional current filter, empty if none
+	 * @see #getQueryFilter()
+	 * @since 6.0.3
+	 */
+	Optional<QueryFilter> getCurrentFilter();
+
 	/**
 	 * Get the additional items provider, if any.
 	 * @return Optional additional items provider
@@ -129,6 +302,265 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 	 */
 	void setAdditionalItemsProvider(AdditionalItemsProvider<T> additionalItemsProvider);
 
+	/**
+	 * Get the maximum number of query result pages to keep in the page cache.
+	 * @return The page cache size, <code>0</code> if the page cache is disabled
+	 * @since 6.0.3
+	 */
+	int getPageCacheSize();
+
+	/**
+	 * Set the maximum number of query result pages to keep in the page cache.
+	 * <p>
+	 * When the page cache is enabled, the fetched pages are cached using the query
+	 * filters, sorts, offset and limit as key, and the least recently used page is
+	 * evicted when the cache is full. The page cache is cleared when
+	 * {@link #refreshAll()} or {@link #refreshItem(Object)} is invoked.
+	 * </p>
+	 * <p>
+	 * Query filters and sorts are compared using their <code>equals</code> method.
+	 * </p>
+	 * @param pageCacheSize The page cache size, <code>0</code> to disable the page
+	 *                      cache
+	 * @since 6.0.3
+	 */
+	void setPageCacheSize(int pageCacheSize);
+
+	/**
+	 * Get the page cache usage statistics.
+	 * @return The page cache statistics
+	 * @see #setPageCacheSize(int)
+	 * @since 6.0.3
+	 */
+	CacheStatistics getPageCacheStatistics();
+
+	/**
+	 * Get the strategy used to obtain the items count.
+	 * @return The count strategy
+	 * @since 6.0.3
+	 */
+	DatastoreCountStrategy getCountStrategy();
+
+	/**
+	 * Set the strategy to use to obtain the items count.
+	 * <p>
+	 * By default, the {@link DatastoreCountStrategy#exact()} strategy is used.
+	 * </p>
+	 * @param countStrategy The count strategy to set (not null)
+	 * @since 6.0.3
+	 */
+	void setCountStrategy(DatastoreCountStrategy countStrategy);
+
+	/**
+	 * Get whether the keyset pagination mode is enabled.
+	 * @return <code>true</code> if the keyset pagination mode is enabled
+	 * @see #setKeysetPagination(boolean)
+	 * @since 6.0.3
+	 */
+	boolean isKeysetPagination();
+
+	/**
+	 * Set whether to enable the keyset (seek) pagination mode.
+	 * <p>
+	 * When enabled, the data provider remembers the sort values of the last item of
+	 * each fetched page and uses them to build a <code>WHERE sortKey &gt;
+	 * lastSeen</code> query filter for the next pages, instead of skipping the
+	 * previous rows using the query <code>offset</code>.
+	 * </p>
+	 * <p>
+	 * The keyset mode is used only when all the query sorts are property path sorts
+	 * whose properties belong to the data provider property set, and the property
+	 * set declares at least one identifier property, which is used as last sort to
+	 * make the sort order stable. Otherwise, the default <code>offset</code> based
+	 * pagination is used. The sort property values are expected to be not
+	 * <code>null</code>.
+	 * </p>
+	 * @param keysetPagination <code>true</code> to enable the keyset pagination
+	 *                         mode
+	 * @since 6.0.3
+	 */
+	void setKeysetPagination(boolean keysetPagination);
+
+	/**
+	 * Get the {@link Executor} used to perform the asynchronous fetch and count
+	 * operations, if the asynchronous mode is enabled.
+	 * @return Optional asynchronous operations executor
+	 * @see #setAsyncExecutor(Executor)
+	 * @since 6.0.3
+	 */
+	Optional<Executor> getAsyncExecutor();
+
+	/**
+	 * Set the {@link Executor} to use to perform the fetch and count operations
+	 * asynchronously, enabling the asynchronous mode.
+	 * <p>
+	 * In asynchronous mode, when the data provider is queried from a {@link UI}
+	 * thread, the Datastore queries are executed using given executor, so that the
+	 * UI session lock is not held while waiting for the query results. The data
+	 * provider returns the last known items count and the previously loaded
+	 * version of the requested page, or an empty page, until the results are
+	 * available. The results are then delivered using
+	 * {@link UI#access(com.vaadin.flow.server.Command)} and, when all the pending
+	 * operations are completed, a single data change event is fired, so that the
+	 * UI components request them again.
+	 * </p>
+	 * <p>
+	 * Since the results are delivered outside of a client request, the UI must
+	 * have server push or polling enabled for them to be displayed as soon as they
+	 * are available: otherwise, they are displayed at the next client request. A
+	 * warning is logged if neither is enabled.
+	 * </p>
+	 * <p>
+	 * The results of operations which were superseded by a filter or sort change
+	 * or by a {@link #refreshAll()} invocation are discarded. The keyset
+	 * pagination mode is not applied to asynchronous fetches. When the data
+	 * provider is not queried from a UI thread, the synchronous mode is used.
+	 * </p>
+	 * @param executor The executor to use, <code>null</code> to disable the
+	 *                 asynchronous mode
+	 * @since 6.0.3
+	 */
+	void setAsyncExecutor(Executor executor);
+
+	/**
+	 * Get whether an asynchronous fetch or count operation is in progress.
+	 * @return <code>true</code> if the data provider is loading data
+	 * @see #setAsyncExecutor(Executor)
+	 * @since 6.0.3
+	 */
+	boolean isLoading();
+
+	/**
+	 * Add a {@link LoadingStateListener} to be notified when the data provider
+	 * loading state changes.
+	 * @param listener The listener to add (not null)
+	 * @return The listener registration
+	 * @see #isLoading()
+	 * @since 6.0.3
+	 */
+	Registration addLoadingStateListener(LoadingStateListener listener);
+
+	/**
+	 * Add a {@link FetchListener} to be notified when a set of items is fetched by
+	 * the data provider.
+	 * @param listener The listener to add (not null)
+	 * @return The listener registration
+	 * @since 6.0.3
+	 */
+	Registration addFetchListener(FetchListener<T> listener);
+
+	/**
+	 * Get the number of adjacent pages to read ahead.
+	 * @return The read-ahead pages number, <code>0</code> if read-ahead is
+	 *         disabled
+	 * @see #setReadAhead(int, Executor)
+	 * @since 6.0.3
+	 */
+	int getReadAheadPages();
+
+	/**
+	 * Enable the predictive read-ahead of adjacent pages.
+	 * <p>
+	 * After a page is served, the following <code>pages</code> pages (or the
+	 * preceding ones, when the pages are requested backwards) are fetched in
+	 * background using given executor and kept in a small buffer, so that the next
+	 * page requests can be served from memory.
+	 * </p>
+	 * <p>
+	 * Any pending read-ahead is cancelled and the buffer is cleared when the query
+	 * filters or sorts change and when the data provider is refreshed. The
+	 * read-ahead is not performed in asynchronous mode.
+	 * </p>
+	 * @param pages    The number of pages to read ahead, <code>0</code> to disable
+	 *                 read-ahead
+	 * @param executor The executor to use to fetch the pages in background (not
+	 *                 null if <code>pages</code> is greater than <code>0</code>)
+	 * @since 6.0.3
+	 */
+	void setReadAhead(int pages, Executor executor);
+
+	/**
+	 * Get the read-ahead buffer usage statistics.
+	 * @return The read-ahead buffer statistics
+	 * @see #setReadAhead(int, Executor)
+	 * @since 6.0.3
+	 */
+	CacheStatistics getReadAheadStatistics();
+
+	/**
+	 * Discard the cached pages, the cached items count and the read-ahead buffer,
+	 * without notifying any data change. The next fetch and size operations will
+	 * query the {@link Datastore}.
+	 * <p>
+	 * Use {@link #refreshAll()} to discard the cached data and notify the data
+	 * provider listeners.
+	 * </p>
+	 * @since 6.0.3
+	 */
+	void clearCaches();
+
+	/**
+	 * Execute a probe query to detect data changes, applying the filters provided
+	 * by the query configuration providers.
+	 * <p>
+	 * The probe value is made of the items count and, if a version property is
+	 * given, the max version value. Two probe values obtained at different times
+	 * are not equal when items were added or removed, or when an item version was
+	 * increased.
+	 * </p>
+	 * @param versionProperty The version property, <code>null</code> to probe the
+	 *                        items count only. Must be a
+	 *                        {@link com.holonplatform.core.Path} type property.
+	 * @return The probe value, to be compared using <code>equals</code>
+	 * @since 6.0.3
+	 */
+	Object probe(Property<?> versionProperty);
+
+	/**
+	 * Subscribe to the changes of the data provider target published through given
+	 * {@link DatastoreChangeBus}.
+	 * <p>
+	 * When the changed item ids are known and can be resolved to a query filter
+	 * (see {@link #getIdentifierFilter(Object)}), the changed items are loaded
+	 * using a single query and only the corresponding items are refreshed.
+	 * Otherwise, or if any changed item is no longer available, all the data is
+	 * refreshed. The change events published using this data provider as source
+	 * are ignored.
+	 * </p>
+	 * @param changeBus The change bus (not null)
+	 * @param ui        The UI to use to deliver the change events,
+	 *                  <code>null</code> to deliver them synchronously
+	 * @return The subscription registration
+	 * @since 6.0.3
+	 */
+	Registration subscribe(DatastoreChangeBus changeBus, UI ui);
+
+	/**
+	 * Get the properties to use as query projection, if a subset of the data
+	 * provider property set was configured.
+	 * @return Optional query projection properties
+	 * @see #setQueryProjection(PropertySet)
+	 * @since 6.0.3
+	 */
+	Optional<PropertySet<?>> getQueryProjection();
+
+	/**
+	 * Set the properties to use as query projection, which should be a subset of the
+	 * data provider property set.
+	 * <p>
+	 * The property set identifiers and the properties used by the query sorts are
+	 * always included in the query projection. The fetched {@link PropertyBox}
+	 * items only contain the values of the query projection properties.
+	 * </p>
+	 * <p>
+	 * Any cached page is discarded when the query projection changes.
+	 * </p>
+	 * @param projection The query projection properties, <code>null</code> to use
+	 *                   the whole data provider property set
+	 * @since 6.0.3
+	 */
+	void setQueryProjection(PropertySet<?> projection);
+
 	// ------- builders
 
 	/**
@@ -206,6 +638,25 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 		return builder(datastore, target, beanType).build();
 	}
 
+	/**
+	 * Create a new {@link DatastoreDataProvider} which uses given
+	 * <code>beanType</code> as items type and {@link QueryFilter} type data
+	 * provider filters, using given <code>beanFactory</code> to create the bean
+	 * instances.
+	 * @param <T>         Bean type
+	 * @param datastore   The {@link Datastore} to use (not null)
+	 * @param target      The {@link DataTarget} to use as query target (not null)
+	 * @param beanType    The bean class (not null)
+	 * @param beanFactory The function to use to create the bean instances (not
+	 *                    null)
+	 * @return A new {@link DatastoreDataProvider}
+	 * @since 6.0.3
+	 */
+	static <T> DatastoreDataProvider<T, QueryFilter> create(Datastore datastore, DataTarget<?> target,
+			Class<T> beanType, Supplier<T> beanFactory) {
+		return builder(datastore, target, beanType, beanFactory).build();
+	}
+
 	/**
 	 * Create a new {@link DatastoreDataProvider} which uses given
 	 * <code>beanType</code> as items type.
@@ -331,6 +782,32 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 				new BeanPropertySetItemConverter<>(beanPropertySet), Function.identity());
 	}
 
+	/**
+	 * Get a builder to create and configure a new {@link DatastoreDataProvider}
+	 * using given <code>beanType</code> as item type and {@link QueryFilter} type
+	 * data provider filters, using given <code>beanFactory</code> to create the
+	 * bean instances.
+	 * <p>
+	 * The provided <code>beanType</code> class must be compliant with the JavaBeans
+	 * specifications.
+	 * </p>
+	 * @param <T>         Bean type
+	 * @param datastore   The {@link Datastore} to use (not null)
+	 * @param target      The {@link DataTarget} to use as query target (not null)
+	 * @param beanType    The bean type (not null)
+	 * @param beanFactory The function to use to create the bean instances (not
+	 *                    null)
+	 * @return a new {@link DatastoreDataProvider} builder
+	 * @since 6.0.3
+	 */
+	static <T> Builder<T, QueryFilter> builder(Datastore datastore, DataTarget<?> target, Class<T> beanType,
+			Supplier<T> beanFactory) {
+		ObjectUtils.argumentNotNull(beanFactory, "Bean factory must be not null");
+		final BeanPropertySet<T> beanPropertySet = BeanPropertySet.create(beanType);
+		return new DefaultDatastoreDataProvider.DefaultBuilder<>(datastore, target, beanPropertySet,
+				new BeanPropertySetItemConverter<>(beanPropertySet, beanFactory), Function.identity());
+	}
+
 	/**
 	 * Get a builder to create and configure a new {@link DatastoreDataProvider}
 	 * using given <code>beanType</code> as item type.
@@ -481,6 +958,68 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 		 */
 		Builder<T, F> additionalItemsProvider(AdditionalItemsProvider<T> additionalItemsProvider);
 
+		/**
+		 * Enable the query result page cache, using given maximum number of pages.
+		 * <p>
+		 * The page cache is cleared when the data provider is refreshed.
+		 * </p>
+		 * @param maxPages The maximum number of pages to keep in cache,
+		 *                 <code>0</code> to disable the page cache
+		 * @return this
+		 * @see DatastoreDataProvider#setPageCacheSize(int)
+		 * @since 6.0.3
+		 */
+		Builder<T, F> pageCache(int maxPages);
+
+		/**
+		 * Set the strategy to use to obtain the items count.
+		 * <p>
+		 * By default, the {@link DatastoreCountStrategy#exact()} strategy is used.
+		 * </p>
+		 * @param countStrategy The count strategy to set (not null)
+		 * @return this
+		 * @see DatastoreCountStrategy#cached(java.time.Duration)
+		 * @see DatastoreCountStrategy#estimated(DatastoreCountStrategy.CountEstimator)
+		 * @since 6.0.3
+		 */
+		Builder<T, F> countStrategy(DatastoreCountStrategy countStrategy);
+
+		/**
+		 * Set whether to enable the keyset (seek) pagination mode.
+		 * @param keysetPagination <code>true</code> to enable the keyset pagination
+		 *                         mode
+		 * @return this
+		 * @see DatastoreDataProvider#setKeysetPagination(boolean)
+		 * @since 6.0.3
+		 */
+		Builder<T, F> keysetPagination(boolean keysetPagination);
+
+		/**
+		 * Enable the asynchronous mode, using given {@link Executor} to perform the
+		 * fetch and count operations.
+		 * <p>
+		 * The UI must have server push or polling enabled to display the results as
+		 * soon as they are available.
+		 * </p>
+		 * @param executor The executor to use (not null)
+		 * @return this
+		 * @see DatastoreDataProvider#setAsyncExecutor(Executor)
+		 * @since 6.0.3
+		 */
+		Builder<T, F> asyncExecutor(Executor executor);
+
+		/**
+		 * Enable the predictive read-ahead of adjacent pages.
+		 * @param pages    The number of pages to read ahead, <code>0</code> to
+		 *                 disable read-ahead
+		 * @param executor The executor to use to fetch the pages in background (not
+		 *                 null if <code>pages</code> is greater than <code>0</code>)
+		 * @return this
+		 * @see DatastoreDataProvider#setReadAhead(int, Executor)
+		 * @since 6.0.3
+		 */
+		Builder<T, F> readAhead(int pages, Executor executor);
+
 		/**
 		 * Build the {@link DatastoreDataProvider}.
 		 * @return The {@link DatastoreDataProvider} instance
@@ -506,4 +1045,40 @@ public interface DatastoreDataProvider<T, F> extends DataProvider<T, F> {
 
 	}
 
+	/**
+	 * A listener to be notified when the {@link DatastoreDataProvider} loading state
+	 * changes.
+	 * 
+	 * @since 6.0.3
+	 */
+	@FunctionalInterface
+	public interface LoadingStateListener extends Serializable {
+
+		/**
+		 * Invoked when the data provider loading state changes.
+		 * @param loading Whether the data provider is loading data
+		 */
+		void onLoadingStateChange(boolean loading);
+
+	}
+
+	/**
+	 * A listener to be notified when a set of items is fetched by the
+	 * {@link DatastoreDataProvider}.
+	 * 
+	 * @param <T> Item type
+	 * 
+	 * @since 6.0.3
+	 */
+	@FunctionalInterface
+	public interface FetchListener<T> extends Serializable {
+
+		/**
+		 * Invoked when a set of items is fetched by the data provider.
+		 * @param items The fetched items (not empty, not modifiable)
+		 */
+		void onItemsFetched(List<T> items);
+
+	}
+
 }
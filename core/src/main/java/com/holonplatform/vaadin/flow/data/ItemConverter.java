@@ -15,8 +15,12 @@
  */
 package com.holonplatform.vaadin.flow.data;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.holonplatform.vaadin.flow.internal.data.CallbackItemConverter;
 
@@ -44,6 +48,24 @@ public interface ItemConverter<T, ITEM> {
 	 */
 	Optional<ITEM> getItem(T value);
 
+	/**
+	 * Convert a collection of <code>values</code> into the corresponding item instances. Values for which an item is
+	 * not available are skipped.
+	 * <p>
+	 * By default, {@link #getItem(Object)} is invoked for each value. Implementations backed by a persistence store
+	 * should override this method to resolve all the values at once, for example using a single query.
+	 * </p>
+	 * @param values The values to convert
+	 * @return The available items, in the values iteration order. An empty list if none
+	 * @since 6.0.3
+	 */
+	default List<ITEM> getItems(Collection<T> values) {
+		if (values == null || values.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return values.stream().map(v -> getItem(v).orElse(null)).filter(i -> i != null).collect(Collectors.toList());
+	}
+
 	// ------- builders
 
 	/**
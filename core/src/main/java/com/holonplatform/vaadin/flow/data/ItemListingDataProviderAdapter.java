@@ -16,6 +16,7 @@
 package com.holonplatform.vaadin.flow.data;
 
 import java.util.List;
+import java.util.function.BiPredicate;
 
 import com.holonplatform.vaadin.flow.internal.data.DefaultItemListingDataProviderAdapter;
 import com.vaadin.flow.data.provider.DataProvider;
@@ -61,6 +62,18 @@ public interface ItemListingDataProviderAdapter<T, F> extends DataProvider<T, F>
 	 */
 	List<T> getAdditionalItems();
 
+	/**
+	 * Get whether given item is an additional item, i.e. the same instance or an equal item was added as additional
+	 * item.
+	 * @param item The item to check
+	 * @return <code>true</code> if given item is an additional item, <code>false</code> otherwise
+	 * @see #addAdditionalItem(Object)
+	 * @since 6.0.3
+	 */
+	default boolean isAdditionalItem(T item) {
+		return item != null && getAdditionalItems().contains(item);
+	}
+
 	/**
 	 * Add an additional item to the data provider.
 	 * <p>
@@ -96,6 +109,23 @@ public interface ItemListingDataProviderAdapter<T, F> extends DataProvider<T, F>
 	 */
 	void removeAdditionalItems();
 
+	/**
+	 * Reload the concrete data provider items which were last fetched and notify an item refresh only for the ones
+	 * which changed, according to given function.
+	 * <p>
+	 * A soft refresh is not possible when no item was fetched yet, or the items count or the ids of the reloaded items
+	 * changed: in that case, no data change is notified and <code>-1</code> is returned, so a full refresh (see
+	 * {@link #refreshAll()}) should be performed instead.
+	 * </p>
+	 * @param changed The function to use to check whether an item changed, given the current item and the reloaded
+	 *        one (not null)
+	 * @return The number of refreshed items, or <code>-1</code> if a soft refresh is not possible
+	 * @since 6.0.3
+	 */
+	default int softRefresh(BiPredicate<T, T> changed) {
+		return -1;
+	}
+
 	// ------- builders
 
 	/**
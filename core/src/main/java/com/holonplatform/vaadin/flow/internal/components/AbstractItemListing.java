@@ -15,18 +15,28 @@
  */
 package com.holonplatform.vaadin.flow.internal.components;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -35,13 +45,19 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.holonplatform.core.Path;
 import com.holonplatform.core.Registration;
 import com.holonplatform.core.Validator;
+import com.holonplatform.core.datastore.bulk.BulkUpdate;
 import com.holonplatform.core.i18n.Localizable;
+import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyRendererRegistry;
 import com.holonplatform.core.property.VirtualProperty;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
 import com.holonplatform.vaadin.flow.components.GroupValidationStatusHandler;
 import com.holonplatform.vaadin.flow.components.Input;
 import com.holonplatform.vaadin.flow.components.ItemListing;
@@ -75,6 +91,9 @@ import com.holonplatform.vaadin.flow.components.events.ItemListingDragEndEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDragStartEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDropEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingItemEvent;
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
+import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemListingDataProviderAdapter;
 import com.holonplatform.vaadin.flow.data.ItemSort;
 import com.holonplatform.vaadin.flow.i18n.LocalizationProvider;
@@ -102,7 +121,11 @@ import com.holonplatform.vaadin.flow.internal.components.support.DefaultItemList
 import com.holonplatform.vaadin.flow.internal.components.support.DefaultUserInputValidator;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn.SortMode;
+import com.holonplatform.vaadin.flow.internal.components.support.UIPollIntervals;
+import com.holonplatform.vaadin.flow.internal.data.ChangeBusSubscription;
+import com.holonplatform.vaadin.flow.internal.utils.BoundedCache;
 import com.holonplatform.vaadin.flow.internal.utils.CollectionUtils;
+import com.holonplatform.vaadin.flow.internal.utils.ItemIdSet;
 import com.vaadin.flow.component.BlurNotifier;
 import com.vaadin.flow.component.BlurNotifier.BlurEvent;
 import com.vaadin.flow.component.Component;
@@ -113,6 +136,8 @@ import com.vaadin.flow.component.HasEnabled;
 import com.vaadin.flow.component.HasSize;
 import com.vaadin.flow.component.HasStyle;
 import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.contextmenu.ContextMenuBase.OpenedChangeEvent;
 import com.vaadin.flow.component.grid.ColumnTextAlign;
 import com.vaadin.flow.component.grid.Grid;
@@ -120,6 +145,7 @@ import com.vaadin.flow.component.grid.Grid.Column;
 import com.vaadin.flow.component.grid.GridMultiSelectionModel;
 import com.vaadin.flow.component.grid.GridMultiSelectionModel.SelectAllCheckboxVisibility;
 import com.vaadin.flow.component.grid.GridNoneSelectionModel;
+import com.vaadin.flow.component.grid.GridSelectionColumn;
 import com.vaadin.flow.component.grid.GridSelectionModel;
 import com.vaadin.flow.component.grid.GridSortOrder;
 import com.vaadin.flow.component.grid.GridVariant;
@@ -137,12 +163,17 @@ import com.vaadin.flow.data.binder.PropertySet;
 import com.vaadin.flow.data.binder.Setter;
 import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.flow.data.provider.DataGenerator;
+import com.vaadin.flow.data.provider.DataKeyMapper;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.QuerySortOrder;
 import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.data.renderer.Renderer;
+import com.vaadin.flow.data.selection.MultiSelectionEvent;
 import com.vaadin.flow.function.ValueProvider;
 
+import elemental.json.JsonObject;
+
 /**
  * Abstract {@link ItemListing} implementation using a {@link Grid}.
  *
@@ -161,6 +192,16 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	protected static final Logger LOGGER = VaadinLogger.create();
 
+	/**
+	 * CSS class name added to the listing component while loading data
+	 */
+	private static final String LOADING_CLASS_NAME = "h-loading";
+
+	/**
+	 * Number of selected items to load at once from a Datastore data provider
+	 */
+	private static final int SELECTION_BATCH_SIZE = 100;
+
 	/**
 	 * Selection mode
 	 */
@@ -181,6 +222,116 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	private ItemListingDataProviderAdapter<T, ?> dataProvider;
 
+	/**
+	 * Datastore data provider, if the listing data provider is a {@link DatastoreDataProvider}
+	 */
+	private DatastoreDataProvider<T, ?> datastoreDataProvider;
+
+	/**
+	 * Item version provider
+	 */
+	private Function<T, ?> itemVersionProvider;
+
+	/**
+	 * Whether all the items which match the current filters are selected
+	 */
+	private boolean allSelected = false;
+
+	/**
+	 * The ids of the items deselected after all the items were selected
+	 */
+	private final ItemIdSet deselectedIds = new ItemIdSet();
+
+	/**
+	 * Whether to store only the ids of the selected items
+	 */
+	private boolean idSelection = false;
+
+	/**
+	 * The ids of the selected items, when only the ids are stored
+	 */
+	private final ItemIdSet selectedIds = new ItemIdSet();
+
+	/**
+	 * Grid selection sync data generator registration
+	 */
+	private com.vaadin.flow.shared.Registration selectionGeneratorRegistration;
+
+	/**
+	 * Grid client side selection changes listener registration
+	 */
+	private com.vaadin.flow.shared.Registration selectionSyncRegistration;
+
+	/**
+	 * Select all checkbox visibility mode
+	 */
+	private SelectAllCheckboxVisibility selectAllCheckboxVisibility = SelectAllCheckboxVisibility.DEFAULT;
+
+	/**
+	 * Grid select all checkbox listener registration, when the checkbox is bound to the all items selection
+	 */
+	private com.vaadin.flow.shared.Registration selectAllCheckboxRegistration;
+
+	/**
+	 * The displayed items to mark as selected in the grid
+	 */
+	private List<T> pendingSelection;
+
+	/**
+	 * Whether the grid selection sync is scheduled
+	 */
+	private boolean selectionSyncScheduled = false;
+
+	/**
+	 * Whether the grid selection is being synchronized
+	 */
+	private boolean selectionSync = false;
+
+	/**
+	 * Data provider loading state listener registration
+	 */
+	private transient Registration loadingStateRegistration;
+
+	/**
+	 * Whether the data provider is loading data
+	 */
+	private boolean loading = false;
+
+	/**
+	 * Whether to load the items without obtaining the items count
+	 */
+	private boolean undefinedSize = false;
+
+	/**
+	 * Items count estimate to use when the size is undefined
+	 */
+	private int itemCountEstimate = 0;
+
+	/**
+	 * Auto refresh interval in milliseconds, <code>0</code> if disabled
+	 */
+	private int autoRefreshInterval = 0;
+
+	/**
+	 * Auto refresh version property
+	 */
+	private Property<?> autoRefreshVersionProperty;
+
+	/**
+	 * Auto refresh state, available while the listing is attached
+	 */
+	private transient AutoRefresh autoRefresh;
+
+	/**
+	 * Auto refresh attach and detach listener registrations
+	 */
+	private transient List<com.vaadin.flow.shared.Registration> autoRefreshRegistrations;
+
+	/**
+	 * Change bus subscription
+	 */
+	private ChangeBusSubscription changeBusSubscription;
+
 	/**
 	 * A list of the item properties which correspond to a listing column, in the display order
 	 */
@@ -196,6 +347,16 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	private final transient Map<P, ItemListingColumn<P, T, ?>> propertyColumns = new HashMap<>();
 
+	/**
+	 * Column values presentation caches
+	 */
+	private final transient Map<P, BoundedCache<Object, String>> presentationCaches = new HashMap<>();
+
+	/**
+	 * The locale for which the presentation caches were populated
+	 */
+	private transient Locale presentationLocale;
+
 	/**
 	 * Column headers.
 	 */
@@ -337,10 +498,331 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 * Set the {@link DataProvider} to use for the backing Grid.
 	 * @param dataProvider The data provider to set
 	 */
+	@SuppressWarnings("unchecked")
 	protected void setDataProvider(DataProvider<T, ?> dataProvider) {
 		ObjectUtils.argumentNotNull(dataProvider, "DataProvider must be not null");
+		// loading state
+		if (loadingStateRegistration != null) {
+			loadingStateRegistration.remove();
+			loadingStateRegistration = null;
+		}
+		setLoading(false);
+		clearAllSelected();
+		selectedIds.clear();
+		this.datastoreDataProvider = null;
+		if (dataProvider instanceof DatastoreDataProvider) {
+			this.datastoreDataProvider = (DatastoreDataProvider<T, ?>) dataProvider;
+			loadingStateRegistration = this.datastoreDataProvider
+					.addLoadingStateListener(loading -> setLoading(loading));
+		}
 		this.dataProvider = ItemListingDataProviderAdapter.adapt(dataProvider);
 		getGrid().setDataProvider(this.dataProvider);
+		setupSelectAllCheckbox();
+		// size mode
+		if (undefinedSize) {
+			setupUndefinedSize();
+		}
+	}
+
+	/**
+	 * Get whether the listing items are loaded without obtaining the items count.
+	 * @return Whether the listing size is undefined
+	 */
+	protected boolean isUndefinedSize() {
+		return undefinedSize;
+	}
+
+	/**
+	 * Set whether to load the listing items without obtaining the items count: the items are fetched page by page
+	 * while scrolling, until a page with less items than requested is returned.
+	 * @param undefinedSize Whether the listing size is undefined
+	 */
+	protected void setUndefinedSize(boolean undefinedSize) {
+		this.undefinedSize = undefinedSize;
+		if (dataProvider != null) {
+			if (undefinedSize) {
+				setupUndefinedSize();
+			} else {
+				getGrid().getDataCommunicator().setDefinedSize(true);
+			}
+		}
+	}
+
+	/**
+	 * Get the items count estimate to use when the listing size is undefined.
+	 * @return The items count estimate, <code>0</code> if not configured
+	 */
+	protected int getItemCountEstimate() {
+		return itemCountEstimate;
+	}
+
+	/**
+	 * Set the items count estimate to use when the listing size is undefined, i.e. the initial size of the scrollable
+	 * area.
+	 * @param itemCountEstimate The items count estimate, <code>0</code> to use the default one
+	 */
+	protected void setItemCountEstimate(int itemCountEstimate) {
+		this.itemCountEstimate = Math.max(0, itemCountEstimate);
+		if (dataProvider != null && undefinedSize) {
+			setupUndefinedSize();
+		}
+	}
+
+	/**
+	 * Get the auto refresh interval.
+	 * @return The auto refresh interval in milliseconds, <code>0</code> if auto refresh is disabled
+	 */
+	protected int getAutoRefreshInterval() {
+		return autoRefreshInterval;
+	}
+
+	/**
+	 * Enable or disable the listing auto refresh: while the listing is attached to a UI, the Datastore data provider
+	 * is probed (see {@link DatastoreDataProvider#probe(Property)}) at given interval, using the UI polling, and a
+	 * {@link #softRefresh()} is performed when the probe value changes.
+	 * @param intervalMillis The auto refresh interval in milliseconds, <code>0</code> to disable auto refresh
+	 * @param versionProperty The version property to probe, <code>null</code> to probe the items count only
+	 */
+	protected void setAutoRefresh(int intervalMillis, Property<?> versionProperty) {
+		stopAutoRefresh();
+		if (autoRefreshRegistrations != null) {
+			autoRefreshRegistrations.forEach(r -> r.remove());
+			autoRefreshRegistrations = null;
+		}
+		this.autoRefreshInterval = Math.max(0, intervalMillis);
+		this.autoRefreshVersionProperty = versionProperty;
+		if (autoRefreshInterval > 0) {
+			autoRefreshRegistrations = new LinkedList<>();
+			autoRefreshRegistrations.add(getGrid().addAttachListener(e -> startAutoRefresh(e.getUI())));
+			autoRefreshRegistrations.add(getGrid().addDetachListener(e -> stopAutoRefresh()));
+			getGrid().getUI().ifPresent(ui -> startAutoRefresh(ui));
+		}
+	}
+
+	/**
+	 * Start the auto refresh using given UI polling.
+	 * @param ui The UI to which the listing is attached
+	 */
+	private void startAutoRefresh(UI ui) {
+		stopAutoRefresh();
+		if (autoRefreshInterval > 0 && datastoreDataProvider != null) {
+			autoRefresh = new AutoRefresh(ui, datastoreDataProvider);
+		}
+	}
+
+	/**
+	 * Stop the auto refresh, if active.
+	 */
+	private void stopAutoRefresh() {
+		if (autoRefresh != null) {
+			autoRefresh.stop();
+			autoRefresh = null;
+		}
+	}
+
+	/**
+	 * Set the change bus to which to subscribe the listing Datastore data provider while the listing is attached,
+	 * and to which to publish the editor saves.
+	 * @param changeBus The change bus (not null)
+	 */
+	protected void setChangeBus(DatastoreChangeBus changeBus) {
+		ObjectUtils.argumentNotNull(changeBus, "Change bus must be not null");
+		if (datastoreDataProvider == null) {
+			throw new IllegalStateException("The change bus requires a Datastore data provider");
+		}
+		if (changeBusSubscription != null) {
+			changeBusSubscription.unsubscribe();
+		} else {
+			getGrid().addAttachListener(e -> {
+				if (changeBusSubscription != null) {
+					changeBusSubscription.subscribe(e.getUI());
+				}
+			});
+			getGrid().addDetachListener(e -> {
+				if (changeBusSubscription != null) {
+					changeBusSubscription.unsubscribe();
+				}
+			});
+		}
+		changeBusSubscription = new ChangeBusSubscription(datastoreDataProvider, changeBus);
+		getGrid().getUI().ifPresent(ui -> changeBusSubscription.subscribe(ui));
+	}
+
+	/**
+	 * Publish the change of given item to the change bus, if available.
+	 * @param item The changed item
+	 */
+	private void publishChange(T item) {
+		final DatastoreDataProvider<T, ?> provider = datastoreDataProvider;
+		if (provider != null && item != null) {
+			publishChanges(Collections.singleton(provider.getId(item)));
+		}
+	}
+
+	/**
+	 * Publish the change of the items with given ids to the change bus, if available.
+	 * @param ids The changed item ids, an empty collection if the changed items are not known
+	 */
+	private void publishChanges(Collection<?> ids) {
+		final DatastoreDataProvider<T, ?> provider = datastoreDataProvider;
+		final DatastoreChangeBus changeBus = (changeBusSubscription != null) ? changeBusSubscription.getChangeBus()
+				: null;
+		if (changeBus != null && provider != null) {
+			changeBus.publish(provider, provider.getTarget(), ids);
+		}
+	}
+
+	/**
+	 * Listing auto refresh state, bound to the UI to which the listing is attached.
+	 * <p>
+	 * The probe query is executed out of the UI thread, using the Datastore data provider asynchronous executor if
+	 * available or the shared {@link AutoRefreshExecutor} otherwise, and the soft refresh is performed using
+	 * {@link UI#access(com.vaadin.flow.server.Command)}. A new probe is not started while the previous one is running.
+	 * The UI poll interval is requested through {@link UIPollIntervals}, since other components may use the UI
+	 * polling too.
+	 * </p>
+	 */
+	private final class AutoRefresh {
+
+		private final UI ui;
+		private final DatastoreDataProvider<T, ?> provider;
+		private final Executor executor;
+		private final com.vaadin.flow.shared.Registration pollIntervalRegistration;
+		private final com.vaadin.flow.shared.Registration pollRegistration;
+		private Object probe;
+		private boolean probed = false;
+		private boolean probing = false;
+		private boolean stopped = false;
+		private long lastProbe;
+
+		AutoRefresh(UI ui, DatastoreDataProvider<T, ?> provider) {
+			super();
+			this.ui = ui;
+			this.provider = provider;
+			this.executor = provider.getAsyncExecutor().orElseGet(() -> AutoRefreshExecutor.INSTANCE);
+			this.pollIntervalRegistration = UIPollIntervals.request(ui, autoRefreshInterval);
+			this.pollRegistration = ui.addPollListener(e -> onPoll());
+			startProbe();
+		}
+
+		private void onPoll() {
+			// the UI may be polled more frequently by other components
+			if (probing || System.currentTimeMillis() - lastProbe < autoRefreshInterval) {
+				return;
+			}
+			startProbe();
+		}
+
+		private void startProbe() {
+			final Property<?> versionProperty = autoRefreshVersionProperty;
+			lastProbe = System.currentTimeMillis();
+			probing = true;
+			try {
+				executor.execute(() -> {
+					Object current;
+					boolean failed = false;
+					try {
+						current = provider.probe(versionProperty);
+					} catch (RuntimeException e) {
+						LOGGER.warn("The listing auto refresh probe query failed", e);
+						current = null;
+						failed = true;
+					}
+					final Object value = current;
+					final boolean success = !failed;
+					try {
+						ui.access(() -> onProbe(value, success));
+					} catch (UIDetachedException e) {
+						// ignore
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				LOGGER.warn("The listing auto refresh probe query was rejected by the executor", e);
+				probing = false;
+			}
+		}
+
+		private void onProbe(Object current, boolean success) {
+			probing = false;
+			if (stopped || !success) {
+				return;
+			}
+			if (!probed) {
+				probed = true;
+				probe = current;
+			} else if (!Objects.equals(probe, current)) {
+				probe = current;
+				softRefresh();
+			}
+		}
+
+		void stop() {
+			stopped = true;
+			pollRegistration.remove();
+			pollIntervalRegistration.remove();
+		}
+
+	}
+
+	/**
+	 * Holder of the executor used by the listing auto refresh probes when the Datastore data provider has no
+	 * asynchronous executor: a small pool of daemon threads with a bounded queue, so that the probe queries do not
+	 * occupy the common pool and a backlog of probes is rejected rather than retained.
+	 */
+	private static final class AutoRefreshExecutor {
+
+		/**
+		 * Maximum number of probe threads
+		 */
+		static final int MAX_THREADS = 2;
+
+		/**
+		 * Maximum number of pending probes
+		 */
+		static final int MAX_PENDING = 256;
+
+		static final Executor INSTANCE = create();
+
+		private static Executor create() {
+			final AtomicInteger threads = new AtomicInteger(0);
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(MAX_PENDING), r -> {
+						final Thread thread = new Thread(r, "holon-listing-auto-refresh-" + threads.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
+	/**
+	 * Configure the grid data communicator for the undefined size mode.
+	 */
+	private void setupUndefinedSize() {
+		getGrid().getDataCommunicator().setDefinedSize(false);
+		if (itemCountEstimate > 0) {
+			getGrid().getDataCommunicator().setItemCountEstimate(itemCountEstimate);
+		}
+	}
+
+	/**
+	 * Set whether the listing data provider is loading data.
+	 * @param loading Whether the data provider is loading data
+	 */
+	protected void setLoading(boolean loading) {
+		this.loading = loading;
+		getGrid().setClassName(LOADING_CLASS_NAME, loading);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#isLoading()
+	 */
+	@Override
+	public boolean isLoading() {
+		return loading;
 	}
 
 	/*
@@ -507,6 +989,72 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 				ensureUniqueColumnKey(generateColumnKey(p)), isReadOnlyByDefault(p)));
 	}
 
+	/**
+	 * Present given property value using given <code>presenter</code>, using the column presentation cache if
+	 * enabled for the column.
+	 * <p>
+	 * The presentation caches are cleared when the current {@link Locale} changes. <code>null</code> values are
+	 * never cached.
+	 * </p>
+	 * @param configuration The property column configuration (not null)
+	 * @param value The value to present
+	 * @param presenter The function to use to present the value (not null)
+	 * @return The value presentation
+	 */
+	protected String presentValue(ItemListingColumn<P, T, ?> configuration, Object value,
+			Function<Object, String> presenter) {
+		if (value == null || configuration.getPresentationCacheSize() < 1) {
+			return presenter.apply(value);
+		}
+		final BoundedCache<Object, String> cache;
+		synchronized (presentationCaches) {
+			final Locale locale = getPresentationLocale();
+			if (!Objects.equals(locale, presentationLocale)) {
+				presentationCaches.values().forEach(c -> c.clear());
+				presentationLocale = locale;
+			}
+			cache = presentationCaches.computeIfAbsent(configuration.getProperty(),
+					p -> new BoundedCache<>(configuration.getPresentationCacheSize()));
+		}
+		final Optional<String> cached = cache.get(value);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		final String presentation = presenter.apply(value);
+		cache.put(value, presentation);
+		return presentation;
+	}
+
+	/**
+	 * Get the presentation cache statistics for the column which corresponds to given property.
+	 * @param property The property (not null)
+	 * @return The presentation cache statistics, empty if the presentation cache is not enabled for the column or
+	 *         it was not used yet
+	 */
+	public Optional<CacheStatistics> getPresentationCacheStatistics(P property) {
+		synchronized (presentationCaches) {
+			return Optional.ofNullable(presentationCaches.get(property)).map(c -> c.getStatistics());
+		}
+	}
+
+	/**
+	 * Clear all the column values presentation caches.
+	 */
+	public void clearPresentationCaches() {
+		synchronized (presentationCaches) {
+			presentationCaches.values().forEach(c -> c.clear());
+		}
+	}
+
+	/**
+	 * Get the current {@link Locale} to use to identify the cached values presentations.
+	 * @return The current locale, <code>null</code> if not available
+	 */
+	private static Locale getPresentationLocale() {
+		return LocalizationContext.getCurrent().filter(c -> c.isLocalized()).flatMap(c -> c.getLocale())
+				.orElseGet(() -> LocalizationProvider.getCurrentLocale().orElse(null));
+	}
+
 	/**
 	 * Get the column key which corresponds to given item property id.
 	 * @param property The item property id for which to obtain the column key
@@ -828,6 +1376,8 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 		columnsHeaders.clear();
 		// add a column for each visible property
 		getVisibleColumnProperties().forEach(property -> addGridColumn(property));
+		// check sorts
+		validateColumnSorts();
 		// selection listeners
 		setupSelectionListeners();
 		// check init editor
@@ -838,6 +1388,42 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 		this.built = true;
 	}
 
+	/**
+	 * When the listing data provider is a {@link DatastoreDataProvider}, check that the sort orders of the sortable
+	 * columns can be converted into query sorts.
+	 * <p>
+	 * The sorts explicitly configured for a column, using sort properties other than the column property or a sort
+	 * order provider, must be valid, otherwise an {@link IllegalStateException} is thrown. For the default column
+	 * sorts a warning is logged instead, since some listings enable sorting on every column, including virtual ones.
+	 * </p>
+	 * @throws IllegalStateException If an explicitly configured column sort cannot be converted into a query sort
+	 */
+	private void validateColumnSorts() {
+		if (datastoreDataProvider != null) {
+			final Function<QuerySortOrder, QuerySort> converter = datastoreDataProvider.getQuerySortOrderConverter();
+			getVisibleColumnProperties().forEach(property -> {
+				final ItemListingColumn<P, T, ?> configuration = getColumnConfiguration(property);
+				final Column<T> column = getGrid().getColumnByKey(configuration.getColumnKey());
+				if (column != null && column.isSortable()) {
+					final boolean explicit = configuration.getSortOrderProvider().isPresent()
+							|| !configuration.getSortProperties().equals(Collections.singletonList(property));
+					column.getSortOrder(SortDirection.ASCENDING).forEach(order -> {
+						try {
+							converter.apply(order);
+						} catch (RuntimeException e) {
+							final String message = "The sort order [" + order.getSorted() + "] of the listing column ["
+									+ column.getKey() + "] cannot be converted into a query sort: " + e.getMessage();
+							if (explicit) {
+								throw new IllegalStateException(message, e);
+							}
+							LOGGER.warn(message);
+						}
+					});
+				}
+			});
+		}
+	}
+
 	/**
 	 * Add a column bound to given item property to the grid.
 	 * @param property Item property id (not null)
@@ -896,7 +1482,7 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 				// check sort properties
 				if (!configuration.getSortProperties().isEmpty()) {
 					final List<String> sorts = configuration.getSortProperties().stream()
-							.map(p -> getSortPropertyName(property).orElse(null)).filter(p -> p != null)
+							.map(p -> getSortPropertyName(p).orElse(null)).filter(p -> p != null)
 							.collect(Collectors.toList());
 					column.setSortOrderProvider(
 							direction -> sorts.stream().map(sort -> new QuerySortOrder(sort, direction)));
@@ -1097,6 +1683,81 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 		getGrid().getDataProvider().refreshItem(item);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#refreshItemById(java.lang.Object)
+	 */
+	@Override
+	public boolean refreshItemById(Object id) {
+		ObjectUtils.argumentNotNull(id, "Item id must be not null");
+		final DatastoreDataProvider<T, ?> provider = datastoreDataProvider;
+		if (provider == null || !provider.getIdentifierFilter(id).isPresent()) {
+			refresh();
+			return false;
+		}
+		final T item = provider.findById(id).orElse(null);
+		if (item == null) {
+			return false;
+		}
+		// check editing
+		if (isEditable() && getEditor().isOpen() && getEditor().getItem() != null
+				&& Objects.equals(id, getGrid().getDataProvider().getId(getEditor().getItem()))) {
+			cancelEditing();
+		}
+		getGrid().getDataProvider().refreshItem(item);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#softRefresh()
+	 */
+	@Override
+	public void softRefresh() {
+		final ItemListingDataProviderAdapter<T, ?> provider = getItemListingDataProvider().orElse(null);
+		if (provider == null || provider.isFrozen()) {
+			refresh();
+			return;
+		}
+		final T editing = (isEditable() && getEditor().isOpen()) ? getEditor().getItem() : null;
+		final Object editingId = (editing != null) ? provider.getId(editing) : null;
+		final int refreshed = provider.softRefresh((item, reloaded) -> (editingId == null
+				|| !Objects.equals(editingId, provider.getId(item))) && isItemChanged(item, reloaded));
+		if (refreshed < 0) {
+			refresh();
+		}
+	}
+
+	/**
+	 * Get the function to use to obtain the item version, if available.
+	 * @return Optional item version provider
+	 */
+	protected Optional<Function<T, ?>> getItemVersionProvider() {
+		return Optional.ofNullable(itemVersionProvider);
+	}
+
+	/**
+	 * Set the function to use to obtain the item version.
+	 * @param itemVersionProvider The item version provider
+	 */
+	protected void setItemVersionProvider(Function<T, ?> itemVersionProvider) {
+		this.itemVersionProvider = itemVersionProvider;
+	}
+
+	/**
+	 * Check whether an item changed, comparing the item version if an item version provider is available, or the
+	 * items using <code>equals</code> otherwise.
+	 * @param item The current item
+	 * @param reloaded The reloaded item
+	 * @return <code>true</code> if the item changed
+	 */
+	protected boolean isItemChanged(T item, T reloaded) {
+		if (itemVersionProvider != null) {
+			return !Objects.equals(itemVersionProvider.apply(item), itemVersionProvider.apply(reloaded));
+		}
+		return !Objects.equals(item, reloaded);
+	}
+
 	@Override
 	public void recalculateColumnWidths() {
 		getGrid().recalculateColumnWidths();
@@ -1207,6 +1868,12 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	@Override
 	public Set<T> getSelectedItems() {
+		if (allSelected) {
+			return new AllSelectedItems();
+		}
+		if (isIdSelectionActive()) {
+			return new SelectedIdItems();
+		}
 		return getGrid().getSelectedItems();
 	}
 
@@ -1216,7 +1883,11 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	@Override
 	public Optional<T> getFirstSelectedItem() {
-		return getGrid().getSelectedItems().stream().findFirst();
+		final Optional<T> displayed = getGrid().getSelectedItems().stream().findFirst();
+		if (!displayed.isPresent() && isSymbolicSelection()) {
+			return getSelectedItems().stream().findFirst();
+		}
+		return displayed;
 	}
 
 	/*
@@ -1229,7 +1900,23 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 			throw new IllegalStateException("The listing selection mode is NONE: no selection is allowed");
 		}
 		ObjectUtils.argumentNotNull(item, "Item to select must be not null");
+		if (isSymbolicSelection()) {
+			final Object id = getItemId(item);
+			if (allSelected) {
+				deselectedIds.remove(id);
+			} else {
+				selectedIds.add(id);
+			}
+			setupSelectionGenerator();
+			// keep only the displayed items in the grid selection
+			if (!getGrid().getDataCommunicator().getKeyMapper().has(item)) {
+				updateSelectAllCheckbox();
+				fireSelectionChange();
+				return;
+			}
+		}
 		getGrid().select(item);
+		updateSelectAllCheckbox();
 	}
 
 	/*
@@ -1242,7 +1929,21 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 			throw new IllegalStateException("The listing selection mode is NONE: no selection is allowed");
 		}
 		ObjectUtils.argumentNotNull(item, "Item to deselect must be not null");
+		if (isSymbolicSelection()) {
+			final Object id = getItemId(item);
+			if (allSelected) {
+				deselectedIds.add(id);
+			} else {
+				selectedIds.remove(id);
+			}
+			if (!getGrid().getSelectionModel().isSelected(item)) {
+				updateSelectAllCheckbox();
+				fireSelectionChange();
+				return;
+			}
+		}
 		getGrid().deselect(item);
+		updateSelectAllCheckbox();
 	}
 
 	/*
@@ -1251,7 +1952,560 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	@Override
 	public void deselectAll() {
-		getGrid().deselectAll();
+		final boolean symbolic = allSelected || (isIdSelectionActive() && !selectedIds.isEmpty());
+		clearAllSelected();
+		selectedIds.clear();
+		if (symbolic && getGrid().getSelectedItems().isEmpty()) {
+			updateSelectAllCheckbox();
+			fireSelectionChange();
+		} else {
+			getGrid().deselectAll();
+			updateSelectAllCheckbox();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#selectAll()
+	 */
+	@Override
+	public void selectAll() {
+		if (SelectionMode.MULTI != getSelectionMode()) {
+			throw new IllegalStateException("The listing selection mode is not MULTI");
+		}
+		if (datastoreDataProvider == null) {
+			((GridMultiSelectionModel<T>) getGrid().getSelectionModel()).selectAll();
+			return;
+		}
+		clearAllSelected();
+		selectedIds.clear();
+		this.allSelected = true;
+		// mark the displayed items as selected
+		setupSelectionGenerator();
+		getGrid().getDataCommunicator().reset();
+		updateSelectAllCheckbox();
+		fireSelectionChange();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#isAllSelected()
+	 */
+	@Override
+	public boolean isAllSelected() {
+		return allSelected;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#getSelectionFilter()
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Optional<QueryFilter> getSelectionFilter() {
+		final DatastoreDataProvider<T, ?> provider = datastoreDataProvider;
+		if (provider == null) {
+			return Optional.empty();
+		}
+		if (isIdSelectionActive()) {
+			return provider.getIdentifiersFilter(selectedIds);
+		}
+		if (!allSelected) {
+			final Set<T> selected = getGrid().getSelectedItems();
+			return selected.isEmpty() ? Optional.empty()
+					: provider.getIdentifiersFilter(
+							selected.stream().map(item -> getItemId(item)).collect(Collectors.toList()));
+		}
+		final List<QueryFilter> filters = new LinkedList<>();
+		provider.getCurrentFilter().ifPresent(f -> filters.add(f));
+		if (!deselectedIds.isEmpty()) {
+			final Optional<QueryFilter> deselected = provider.getIdentifiersFilter(deselectedIds);
+			if (!deselected.isPresent()) {
+				return Optional.empty();
+			}
+			filters.add(deselected.get().not());
+		}
+		if (filters.isEmpty()) {
+			return provider.getIdentifierPath().map(path -> QueryFilter.isNotNull((Path) path));
+		}
+		return QueryFilter.allOf(filters);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#deleteSelectedItems()
+	 */
+	@Override
+	public long deleteSelectedItems() {
+		final DatastoreDataProvider<T, ?> provider = getBulkOperationDataProvider();
+		if (!hasSelection()) {
+			return 0L;
+		}
+		final QueryFilter filter = getBulkSelectionFilter();
+		final Collection<Object> ids = getSelectedIds();
+		cancelBulkEditing();
+		final long count = provider.bulkDelete(filter);
+		deselectAll();
+		publishChanges(ids);
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#deleteFilteredItems(boolean)
+	 */
+	@Override
+	public long deleteFilteredItems(boolean allowUnfiltered) {
+		final DatastoreDataProvider<T, ?> provider = getBulkOperationDataProvider();
+		if (!allowUnfiltered && !provider.getCurrentFilter().isPresent()) {
+			throw new IllegalStateException("The listing has no filter: refusing to delete all the items");
+		}
+		cancelBulkEditing();
+		final long count = provider.bulkDelete(null, allowUnfiltered);
+		deselectAll();
+		publishChanges(Collections.emptySet());
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#updateSelectedItems(java.util.function.Consumer)
+	 */
+	@Override
+	public long updateSelectedItems(Consumer<BulkUpdate> operation) {
+		ObjectUtils.argumentNotNull(operation, "Bulk update operation callback must be not null");
+		final DatastoreDataProvider<T, ?> provider = getBulkOperationDataProvider();
+		if (!hasSelection()) {
+			return 0L;
+		}
+		final QueryFilter filter = getBulkSelectionFilter();
+		cancelBulkEditing();
+		final long count = provider.bulkUpdate(filter, operation);
+		publishChanges(getSelectedIds());
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.components.ItemListing#updateFilteredItems(java.util.function.Consumer)
+	 */
+	@Override
+	public long updateFilteredItems(Consumer<BulkUpdate> operation) {
+		ObjectUtils.argumentNotNull(operation, "Bulk update operation callback must be not null");
+		final DatastoreDataProvider<T, ?> provider = getBulkOperationDataProvider();
+		cancelBulkEditing();
+		final long count = provider.bulkUpdate(null, operation);
+		publishChanges(Collections.emptySet());
+		return count;
+	}
+
+	/**
+	 * Get the Datastore data provider to use for bulk operations.
+	 * @return The Datastore data provider
+	 * @throws IllegalStateException If the listing does not use a Datastore data provider
+	 */
+	private DatastoreDataProvider<T, ?> getBulkOperationDataProvider() {
+		final DatastoreDataProvider<T, ?> provider = datastoreDataProvider;
+		if (provider == null) {
+			throw new IllegalStateException("The listing does not use a Datastore data provider");
+		}
+		return provider;
+	}
+
+	/**
+	 * Get the selection filter to use for bulk operations.
+	 * @return The selection filter
+	 * @throws IllegalStateException If the selection cannot be expressed as a query filter
+	 */
+	private QueryFilter getBulkSelectionFilter() {
+		return getSelectionFilter().orElseThrow(() -> new IllegalStateException(
+				"The listing selection cannot be expressed as a query filter: no suitable item identifier available"));
+	}
+
+	/**
+	 * Cancel the item editing, if any, before a bulk operation.
+	 */
+	private void cancelBulkEditing() {
+		if (isEditable() && getEditor().isOpen()) {
+			cancelEditing();
+		}
+	}
+
+	/**
+	 * Get whether any item is selected.
+	 * @return <code>true</code> if any item is selected
+	 */
+	private boolean hasSelection() {
+		if (allSelected) {
+			return true;
+		}
+		if (isIdSelectionActive()) {
+			return !selectedIds.isEmpty();
+		}
+		return !getGrid().getSelectedItems().isEmpty();
+	}
+
+	/**
+	 * Get the ids of the selected items, if they are known.
+	 * @return The selected item ids, empty if all the items are selected
+	 */
+	private Collection<Object> getSelectedIds() {
+		if (allSelected) {
+			return Collections.emptySet();
+		}
+		if (isIdSelectionActive()) {
+			return new ArrayList<>(selectedIds);
+		}
+		return getGrid().getSelectedItems().stream().map(item -> getItemId(item)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Get whether only the ids of the selected items are stored.
+	 * @return <code>true</code> if only the ids of the selected items are stored
+	 */
+	public boolean isIdSelection() {
+		return idSelection;
+	}
+
+	/**
+	 * Set whether to store only the ids of the selected items in {@link SelectionMode#MULTI} selection mode, when the
+	 * listing uses a {@link DatastoreDataProvider}.
+	 * <p>
+	 * Only the selected items which are displayed are kept in the grid selection, and the selected items are loaded
+	 * lazily from the data provider when the {@link #getSelectedItems()} set is iterated.
+	 * </p>
+	 * @param idSelection <code>true</code> to store only the ids of the selected items
+	 */
+	public void setIdSelection(boolean idSelection) {
+		if (this.idSelection != idSelection) {
+			this.idSelection = idSelection;
+			selectedIds.clear();
+			if (idSelection) {
+				getGrid().getSelectedItems().forEach(item -> selectedIds.add(getItemId(item)));
+				setupSelectionGenerator();
+			}
+		}
+	}
+
+	/**
+	 * Get whether the item ids selection mode is active.
+	 * @return <code>true</code> if only the ids of the selected items are stored
+	 */
+	private boolean isIdSelectionActive() {
+		return idSelection && !allSelected && datastoreDataProvider != null
+				&& SelectionMode.MULTI == getSelectionMode();
+	}
+
+	/**
+	 * Get whether the selection is not backed by the grid selected items, i.e. all the items are selected or only the
+	 * selected item ids are stored.
+	 * @return <code>true</code> if the selection is symbolic
+	 */
+	private boolean isSymbolicSelection() {
+		return allSelected || isIdSelectionActive();
+	}
+
+	/**
+	 * Get whether the item with given id is selected, when the selection is symbolic.
+	 * @param id The item id
+	 * @return <code>true</code> if the item with given id is selected
+	 */
+	private boolean isSelectedId(Object id) {
+		return allSelected ? !deselectedIds.contains(id) : selectedIds.contains(id);
+	}
+
+	/**
+	 * Get the id of given item, using the listing data provider.
+	 * @param item The item
+	 * @return The item id
+	 */
+	private Object getItemId(T item) {
+		return getGrid().getDataProvider().getId(item);
+	}
+
+	/**
+	 * Discard the all items selection state, if active.
+	 */
+	private void clearAllSelected() {
+		this.allSelected = false;
+		this.deselectedIds.clear();
+	}
+
+	/**
+	 * Notify the selection listeners of a symbolic selection change which does not involve the grid selected items.
+	 */
+	private void fireSelectionChange() {
+		if (isBuilt() && isSelectableSelectionModel()) {
+			final Set<T> selected = getSelectedItems();
+			selectionListenerRegistrations.keySet()
+					.forEach(l -> l.onSelectionChange(new DefaultSelectionEvent<>(selected, false)));
+		}
+	}
+
+	/**
+	 * Register the data generator which keeps the grid selection consistent with the symbolic selection, if not
+	 * already registered.
+	 */
+	private void setupSelectionGenerator() {
+		if (selectionGeneratorRegistration == null) {
+			selectionGeneratorRegistration = getGrid().addDataGenerator(new DataGenerator<T>() {
+
+				private static final long serialVersionUID = 2264583190683405296L;
+
+				@Override
+				public void generateData(T item, JsonObject jsonObject) {
+					if (isSymbolicSelection() && !getGrid().getSelectionModel().isSelected(item)
+							&& isSelectedId(getItemId(item))) {
+						jsonObject.put("selected", true);
+						if (pendingSelection == null) {
+							pendingSelection = new LinkedList<>();
+						}
+						pendingSelection.add(item);
+						scheduleSelectionSync();
+					}
+				}
+
+				@Override
+				public void destroyData(T item) {
+					if (isSymbolicSelection()) {
+						scheduleSelectionSync();
+					}
+				}
+
+				@Override
+				public void destroyAllData() {
+					if (isSymbolicSelection()) {
+						scheduleSelectionSync();
+					}
+				}
+
+			});
+		}
+	}
+
+	/**
+	 * Schedule the grid selection sync before the client response.
+	 */
+	private void scheduleSelectionSync() {
+		if (!selectionSyncScheduled) {
+			selectionSyncScheduled = true;
+			final Optional<UI> ui = getGrid().getUI();
+			if (ui.isPresent()) {
+				// the items are generated while the grid data is being sent to the client
+				ui.get().beforeClientResponse(getGrid(), ctx -> syncSelection());
+			} else {
+				syncSelection();
+			}
+		}
+	}
+
+	/**
+	 * Keep in the grid selection only the displayed items which are selected according to the symbolic selection.
+	 */
+	private void syncSelection() {
+		selectionSyncScheduled = false;
+		final List<T> pending = pendingSelection;
+		pendingSelection = null;
+		if (!isSymbolicSelection()) {
+			return;
+		}
+		final DataKeyMapper<T> keyMapper = getGrid().getDataCommunicator().getKeyMapper();
+		final GridSelectionModel<T> model = getGrid().getSelectionModel();
+		final Set<T> added = (pending == null) ? Collections.emptySet()
+				: pending.stream().filter(i -> keyMapper.has(i) && !model.isSelected(i))
+						.filter(i -> isSelectedId(getItemId(i))).collect(Collectors.toCollection(LinkedHashSet::new));
+		final Set<T> removed = model.getSelectedItems().stream().filter(i -> !keyMapper.has(i))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		if (!added.isEmpty() || !removed.isEmpty()) {
+			selectionSync = true;
+			try {
+				getGrid().asMultiSelect().updateSelection(added, removed);
+			} finally {
+				selectionSync = false;
+			}
+			updateSelectAllCheckbox();
+		}
+	}
+
+	/**
+	 * Track the client side selection changes when the selection is symbolic.
+	 * @param event The selection event
+	 */
+	private void onClientSelectionChange(MultiSelectionEvent<Grid<T>, T> event) {
+		if (selectionSync || !event.isFromClient() || !isSymbolicSelection()) {
+			return;
+		}
+		if (event.getAllSelectedItems().isEmpty() && event.getRemovedSelection().size() > 1) {
+			// deselect all
+			clearAllSelected();
+			selectedIds.clear();
+		} else if (allSelected) {
+			event.getRemovedSelection().forEach(i -> deselectedIds.add(getItemId(i)));
+			event.getAddedSelection().forEach(i -> deselectedIds.remove(getItemId(i)));
+		} else {
+			event.getRemovedSelection().forEach(i -> selectedIds.remove(getItemId(i)));
+			event.getAddedSelection().forEach(i -> selectedIds.add(getItemId(i)));
+		}
+		updateSelectAllCheckbox();
+	}
+
+	/**
+	 * Bind the grid select all checkbox to the all items selection (see {@link #selectAll()}) when the listing data
+	 * provider is a {@link DatastoreDataProvider} and the selection mode is {@link SelectionMode#MULTI}.
+	 * <p>
+	 * In this case the select all requests are ignored by the grid selection model, which would load all the items,
+	 * and the checkbox is shown unless its visibility mode is {@link SelectAllCheckboxVisibility#HIDDEN}.
+	 * </p>
+	 */
+	private void setupSelectAllCheckbox() {
+		if (selectAllCheckboxRegistration != null) {
+			selectAllCheckboxRegistration.remove();
+			selectAllCheckboxRegistration = null;
+		}
+		if (!(getGrid().getSelectionModel() instanceof GridMultiSelectionModel)) {
+			return;
+		}
+		final GridMultiSelectionModel<T> model = (GridMultiSelectionModel<T>) getGrid().getSelectionModel();
+		final Optional<GridSelectionColumn> column = getSelectionColumn();
+		if (datastoreDataProvider == null || !column.isPresent()) {
+			model.setSelectAllCheckboxVisibility(selectAllCheckboxVisibility);
+			return;
+		}
+		model.setSelectAllCheckboxVisibility(SelectAllCheckboxVisibility.HIDDEN);
+		column.get().setSelectAllCheckBoxVisibility(selectAllCheckboxVisibility != SelectAllCheckboxVisibility.HIDDEN);
+		selectAllCheckboxRegistration = column.get().getElement().addPropertyChangeListener("selectAll",
+				"select-all-changed", e -> {
+					if (e.isUserOriginated()) {
+						if (Boolean.TRUE.equals(e.getValue())) {
+							selectAll();
+						} else {
+							deselectAll();
+						}
+					}
+				});
+		updateSelectAllCheckbox();
+	}
+
+	/**
+	 * Update the grid select all checkbox state according to the all items selection, if the checkbox is bound to it.
+	 */
+	private void updateSelectAllCheckbox() {
+		if (selectAllCheckboxRegistration != null) {
+			getSelectionColumn().ifPresent(column -> {
+				final boolean all = allSelected && deselectedIds.isEmpty();
+				column.setSelectAllCheckboxState(all);
+				column.setSelectAllCheckboxIndeterminateState(!all && (allSelected || !selectedIds.isEmpty()
+						|| !getGrid().getSelectedItems().isEmpty()));
+			});
+		}
+	}
+
+	/**
+	 * Get the grid selection column, available in {@link SelectionMode#MULTI} selection mode.
+	 * @return Optional grid selection column
+	 */
+	private Optional<GridSelectionColumn> getSelectionColumn() {
+		return getGrid().getChildren().filter(c -> c instanceof GridSelectionColumn).map(c -> (GridSelectionColumn) c)
+				.findFirst();
+	}
+
+	/**
+	 * The items selected when all the items which match the current filters are selected, loaded lazily from the
+	 * Datastore data provider.
+	 */
+	private class AllSelectedItems extends AbstractSet<T> {
+
+		@Override
+		public Iterator<T> iterator() {
+			return datastoreDataProvider.stream(getItemsFilter(getDeselectedFilter()), SELECTION_BATCH_SIZE)
+					.filter(item -> !deselectedIds.contains(getItemId(item))).iterator();
+		}
+
+		@Override
+		public int size() {
+			final QueryFilter deselectedFilter = getDeselectedFilter();
+			final long count = datastoreDataProvider.count(getItemsFilter(deselectedFilter));
+			return (int) Math.min(Integer.MAX_VALUE,
+					(deselectedFilter != null) ? count : Math.max(0, count - deselectedIds.size()));
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean contains(Object o) {
+			if (o == null) {
+				return false;
+			}
+			final Object id = getItemId((T) o);
+			if (deselectedIds.contains(id)) {
+				return false;
+			}
+			if (getGrid().getSelectionModel().isSelected((T) o)) {
+				return true;
+			}
+			return datastoreDataProvider.getIdentifierFilter(id)
+					.map(f -> datastoreDataProvider.count(getItemsFilter(f)) > 0).orElse(false);
+		}
+
+		/**
+		 * Get the filter which selects the items, combining the current data provider filter with given filter.
+		 * @param filter The filter to combine, may be <code>null</code>
+		 * @return The filter, <code>null</code> if none
+		 */
+		private QueryFilter getItemsFilter(QueryFilter filter) {
+			final List<QueryFilter> filters = new LinkedList<>();
+			datastoreDataProvider.getCurrentFilter().ifPresent(f -> filters.add(f));
+			if (filter != null) {
+				filters.add(filter);
+			}
+			return QueryFilter.allOf(filters).orElse(null);
+		}
+
+		/**
+		 * Get the filter which excludes the deselected items.
+		 * @return The filter, <code>null</code> if none or if the deselected ids cannot be resolved to a filter
+		 */
+		private QueryFilter getDeselectedFilter() {
+			if (deselectedIds.isEmpty()) {
+				return null;
+			}
+			return datastoreDataProvider.getIdentifiersFilter(deselectedIds).map(f -> f.not()).orElse(null);
+		}
+
+	}
+
+	/**
+	 * The items selected when only the selected item ids are stored, loaded lazily from the Datastore data provider,
+	 * one batch of ids at a time.
+	 */
+	private class SelectedIdItems extends AbstractSet<T> {
+
+		@Override
+		public Iterator<T> iterator() {
+			final Iterator<Object> ids = selectedIds.iterator();
+			return Stream.generate(() -> {
+				final List<Object> batch = new ArrayList<>(SELECTION_BATCH_SIZE);
+				while (ids.hasNext() && batch.size() < SELECTION_BATCH_SIZE) {
+					batch.add(ids.next());
+				}
+				return batch;
+			}).takeWhile(batch -> !batch.isEmpty()).flatMap(batch -> datastoreDataProvider
+					.getIdentifiersFilter(batch).map(f -> datastoreDataProvider.stream(f, SELECTION_BATCH_SIZE))
+					.orElseGet(() -> batch.stream().map(id -> datastoreDataProvider.findById(id))
+							.filter(i -> i.isPresent()).map(i -> i.get())))
+					.iterator();
+		}
+
+		@Override
+		public int size() {
+			return selectedIds.size();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean contains(Object o) {
+			return o != null && selectedIds.contains(getItemId((T) o));
+		}
+
 	}
 
 	/*
@@ -1271,8 +2525,11 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	@Override
 	public void setSelectionMode(SelectionMode selectionMode) {
 		ObjectUtils.argumentNotNull(selectionMode, "Selection mode must be not null");
+		clearAllSelected();
+		selectedIds.clear();
 		this.selectionMode = selectionMode;
 		getGrid().setSelectionMode(asGridSelectionMode(selectionMode));
+		setupSelectAllCheckbox();
 		// check built
 		if (isBuilt()) {
 			setupSelectionListeners();
@@ -1284,9 +2541,9 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 * @param selectAllCheckBoxVisibility the visiblity mode to use
 	 */
 	public void setSelectAllCheckboxVisibility(SelectAllCheckboxVisibility selectAllCheckBoxVisibility) {
-		if (selectAllCheckBoxVisibility != null && getGrid().getSelectionModel() instanceof GridMultiSelectionModel) {
-			((GridMultiSelectionModel<T>) getGrid().getSelectionModel())
-					.setSelectAllCheckboxVisibility(selectAllCheckBoxVisibility);
+		if (selectAllCheckBoxVisibility != null) {
+			this.selectAllCheckboxVisibility = selectAllCheckBoxVisibility;
+			setupSelectAllCheckbox();
 		}
 	}
 
@@ -1322,6 +2579,15 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 			}
 		});
 		this.selectionListenerRegistrations.clear();
+		if (selectionSyncRegistration != null) {
+			selectionSyncRegistration.remove();
+			selectionSyncRegistration = null;
+		}
+		// track the client side changes of the symbolic selections before notifying the listeners
+		if (getGrid().getSelectionModel() instanceof GridMultiSelectionModel) {
+			selectionSyncRegistration = getGrid().asMultiSelect()
+					.addSelectionListener(e -> onClientSelectionChange(e));
+		}
 		if (isSelectableSelectionModel()) {
 			this.selectionListeners.forEach(selectionListener -> {
 				addAndRegisterSelectionListener(selectionListener);
@@ -1347,7 +2613,10 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 	 */
 	private void addAndRegisterSelectionListener(SelectionListener<T> selectionListener) {
 		final com.vaadin.flow.shared.Registration registration = getGrid().addSelectionListener(e -> {
-			selectionListener.onSelectionChange(new DefaultSelectionEvent<>(e.getAllSelectedItems(), e.isFromClient()));
+			if (!selectionSync) {
+				selectionListener.onSelectionChange(new DefaultSelectionEvent<>(
+						isSymbolicSelection() ? getSelectedItems() : e.getAllSelectedItems(), e.isFromClient()));
+			}
 		});
 		this.selectionListenerRegistrations.put(selectionListener, registration);
 	}
@@ -1657,6 +2926,8 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 			// fire listeners
 			final ItemEditorEvent<T, P> event = createItemEditorEvent(e.getSource(), e.getItem());
 			editorSaveListeners.forEach(l -> l.onEditorSave(event));
+			// notify other subscribers
+			publishChange(e.getItem());
 		});
 		getEditor().addCancelListener(e -> {
 			// fire listeners
@@ -2636,6 +3907,20 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 			return getConfigurator();
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
+		 * presentationCache(java.lang.Object, int)
+		 */
+		@Override
+		public C presentationCache(P property, int maxSize) {
+			if (maxSize < 0) {
+				throw new IllegalArgumentException("The presentation cache size must be greater or equal to 0");
+			}
+			instance.getColumnConfiguration(property).setPresentationCacheSize(maxSize);
+			return getConfigurator();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -2801,6 +4086,18 @@ public abstract class AbstractItemListing<T, P> implements ItemListing<T, P>, Ed
 			return getConfigurator();
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
+		 * itemVersionProvider(java.util.function.Function)
+		 */
+		@Override
+		public C itemVersionProvider(Function<T, ?> versionProvider) {
+			ObjectUtils.argumentNotNull(versionProvider, "Item version provider must be not null");
+			instance.setItemVersionProvider(versionProvider);
+			return getConfigurator();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
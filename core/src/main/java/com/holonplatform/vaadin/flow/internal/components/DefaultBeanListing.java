@@ -15,6 +15,8 @@
  */
 package com.holonplatform.vaadin.flow.internal.components;
 
+import java.lang.invoke.MethodType;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -22,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -30,6 +33,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.holonplatform.core.Path;
 import com.holonplatform.core.Validator;
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.DataTarget;
@@ -65,11 +69,14 @@ import com.holonplatform.vaadin.flow.components.events.ItemListingDnDListener;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDragEndEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDragStartEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDropEvent;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemSort;
 import com.holonplatform.vaadin.flow.internal.components.builders.DefaultShortcutConfigurator;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn.SortMode;
+import com.holonplatform.vaadin.flow.internal.utils.BeanPropertyAccessors;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.BlurNotifier.BlurEvent;
 import com.vaadin.flow.component.Component;
@@ -182,11 +189,20 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 	 * generateDefaultGridColumn(com.holonplatform
 	 * .vaadin.flow.internal.components.support.ItemListingColumn)
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	protected Column<T> generateDefaultGridColumn(ItemListingColumn<String, T, ?> configuration) {
 		final String property = configuration.getProperty();
+		final ValueProvider<T, ?> getter = getPropertyValueGetter(property);
+		if (configuration.getPresentationCacheSize() > 0) {
+			return getGrid().addColumn(item -> {
+				return propertySet.getProperty(property).map(p -> presentValue(configuration, getter.apply(item),
+						value -> ((PathProperty<Object>) p).present(value))).orElse(null);
+			});
+		}
 		return getGrid().addColumn(item -> {
-			return propertySet.getProperty(property).map(p -> p.present(propertySet.read(p, item))).orElse(null);
+			return propertySet.getProperty(property).map(p -> ((PathProperty<Object>) p).present(getter.apply(item)))
+					.orElse(null);
 		});
 	}
 
@@ -250,6 +266,10 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 	 */
 	@Override
 	protected ValueProvider<T, ?> getPropertyValueGetter(String property) {
+		if (isGeneratedAccessorSupported(property)
+				&& BeanPropertyAccessors.getReader(getBeanType(), property).isPresent()) {
+			return new GeneratedPropertyValueGetter<>(getBeanType(), property);
+		}
 		return item -> propertySet.read(property, item);
 	}
 
@@ -260,7 +280,23 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 	 */
 	@Override
 	protected Optional<Setter<T, ?>> getPropertyValueSetter(String property) {
-		return Optional.of((item, value) -> propertySet.write(property, value, item));
+		final Setter<T, Object> setter = (item, value) -> propertySet.write(property, value, item);
+		if (isGeneratedAccessorSupported(property)
+				&& BeanPropertyAccessors.getWriter(getBeanType(), property).isPresent()) {
+			return Optional.of(new GeneratedPropertyValueSetter<>(getBeanType(), property, setter));
+		}
+		return Optional.of(setter);
+	}
+
+	/**
+	 * Checks whether the generated bean property accessors can be used for given property, i.e. if the property is a
+	 * top level bean property with no value converter.
+	 * @param property The property name
+	 * @return <code>true</code> if the generated bean property accessors can be used for given property
+	 */
+	private boolean isGeneratedAccessorSupported(String property) {
+		return propertySet.getProperty(property).filter(p -> property.equals(p.getName()))
+				.filter(p -> !p.getParent().isPresent() && !p.getConverter().isPresent()).isPresent();
 	}
 
 	/*
@@ -447,6 +483,20 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 			return new DefaultDatastoreBeanListingBuilder<>(this, datastoreDataProvider);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.BeanListingBuilder#dataSource(com.holonplatform.core.
+		 * datastore.Datastore, com.holonplatform.core.datastore.DataTarget, java.util.function.Supplier)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> dataSource(Datastore datastore, DataTarget<?> target,
+				Supplier<T> beanFactory) {
+			final DatastoreDataProvider<T, QueryFilter> datastoreDataProvider = DatastoreDataProvider.create(datastore,
+					target, getInstance().getBeanType(), beanFactory);
+			getInstance().setDataProvider(datastoreDataProvider);
+			return new DefaultDatastoreBeanListingBuilder<>(this, datastoreDataProvider);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.internal.components.AbstractItemListing.
@@ -560,6 +610,120 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#countStrategy(com.holonplatform.vaadin.flow.data.
+		 * DatastoreCountStrategy)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> countStrategy(DatastoreCountStrategy countStrategy) {
+			datastoreDataProvider.setCountStrategy(countStrategy);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#keysetPagination(boolean)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> keysetPagination(boolean keysetPagination) {
+			datastoreDataProvider.setKeysetPagination(keysetPagination);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#asyncExecutor(java.util.concurrent.Executor)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> asyncExecutor(Executor executor) {
+			ObjectUtils.argumentNotNull(executor, "Executor must be not null");
+			datastoreDataProvider.setAsyncExecutor(executor);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#readAhead(int, java.util.concurrent.Executor)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> readAhead(int pages, Executor executor) {
+			datastoreDataProvider.setReadAhead(pages, executor);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#undefinedSize(boolean)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> undefinedSize(boolean undefinedSize) {
+			builder.getInstance().setUndefinedSize(undefinedSize);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#undefinedSize(int)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> undefinedSize(int itemCountEstimate) {
+			if (itemCountEstimate < 1) {
+				throw new IllegalArgumentException("The item count estimate must be greater than 0");
+			}
+			builder.getInstance().setItemCountEstimate(itemCountEstimate);
+			builder.getInstance().setUndefinedSize(true);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#autoRefresh(java.time.Duration,
+		 * com.holonplatform.core.property.Property)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> autoRefresh(Duration interval, Property<?> versionProperty) {
+			ObjectUtils.argumentNotNull(interval, "Auto refresh interval must be not null");
+			if (interval.isNegative()) {
+				throw new IllegalArgumentException("The auto refresh interval must not be negative");
+			}
+			if (versionProperty != null && !(versionProperty instanceof Path)) {
+				throw new IllegalArgumentException("The version property [" + versionProperty + "] is not a Path");
+			}
+			builder.getInstance().setAutoRefresh((int) Math.min(Integer.MAX_VALUE, interval.toMillis()),
+					versionProperty);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#changeBus(com.holonplatform.vaadin.flow.data.DatastoreChangeBus)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			builder.getInstance().setChangeBus(changeBus);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#idSelection(boolean)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> idSelection(boolean idSelection) {
+			builder.getInstance().setIdSelection(idSelection);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -782,6 +946,17 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
+		 * presentationCache(java.lang.Object, int)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> presentationCache(String property, int maxSize) {
+			builder.presentationCache(property, maxSize);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -932,6 +1107,17 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
+		 * itemVersionProvider(java.util.function.Function)
+		 */
+		@Override
+		public DatastoreBeanListingBuilder<T> itemVersionProvider(Function<T, ?> versionProvider) {
+			builder.itemVersionProvider(versionProvider);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -1622,6 +1808,80 @@ public class DefaultBeanListing<T> extends AbstractItemListing<T, String> implem
 
 	}
 
+	/**
+	 * A property value getter which uses a generated bean property read accessor.
+	 * 
+	 * @param <T> Bean type
+	 */
+	private static class GeneratedPropertyValueGetter<T> implements ValueProvider<T, Object> {
+
+		private static final long serialVersionUID = 6283624315927064853L;
+
+		private final Class<T> beanType;
+		private final String property;
+
+		private transient Function<Object, Object> reader;
+
+		public GeneratedPropertyValueGetter(Class<T> beanType, String property) {
+			super();
+			this.beanType = beanType;
+			this.property = property;
+		}
+
+		@Override
+		public Object apply(T source) {
+			if (reader == null) {
+				reader = BeanPropertyAccessors.getReader(beanType, property).orElseThrow(
+						() -> new IllegalStateException("Read accessor not available for property [" + property + "]"));
+			}
+			return reader.apply(source);
+		}
+
+	}
+
+	/**
+	 * A property value setter which uses a generated bean property write accessor. When the value is not assignable
+	 * to the bean property type, the fallback setter is used.
+	 * 
+	 * @param <T> Bean type
+	 */
+	private static class GeneratedPropertyValueSetter<T> implements Setter<T, Object> {
+
+		private static final long serialVersionUID = -4617237396618150238L;
+
+		private final Class<T> beanType;
+		private final String property;
+		private final Setter<T, Object> fallback;
+		private final Class<?> valueType;
+		private final boolean primitive;
+
+		private transient BiConsumer<Object, Object> writer;
+
+		public GeneratedPropertyValueSetter(Class<T> beanType, String property, Setter<T, Object> fallback) {
+			super();
+			this.beanType = beanType;
+			this.property = property;
+			this.fallback = fallback;
+			final Class<?> type = BeanPropertyAccessors.getPropertyType(beanType, property).orElse(Object.class);
+			this.primitive = type.isPrimitive();
+			this.valueType = MethodType.methodType(type).wrap().returnType();
+		}
+
+		@Override
+		public void accept(T bean, Object value) {
+			if ((value == null && primitive) || (value != null && !valueType.isInstance(value))) {
+				fallback.accept(bean, value);
+				return;
+			}
+			if (writer == null) {
+				writer = BeanPropertyAccessors.getWriter(beanType, property).orElseThrow(
+						() -> new IllegalStateException("Write accessor not available for property [" + property + "]"));
+			}
+			writer.accept(bean, value);
+		}
+
+	}
+
 	static class ValueProviderAdapter<T, V> implements ValueProvider<T, String> {
 
 		private static final long serialVersionUID = -3231386190085166260L;
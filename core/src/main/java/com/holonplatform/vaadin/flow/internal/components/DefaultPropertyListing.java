@@ -15,11 +15,20 @@
  */
 package com.holonplatform.vaadin.flow.internal.components;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -63,6 +72,8 @@ import com.holonplatform.vaadin.flow.components.events.ItemListingDnDListener;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDragEndEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDragStartEvent;
 import com.holonplatform.vaadin.flow.components.events.ItemListingDropEvent;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemSort;
 import com.holonplatform.vaadin.flow.internal.components.builders.DefaultShortcutConfigurator;
@@ -101,6 +112,21 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 	 */
 	private final PropertySet<?> propertySet;
 
+	/**
+	 * Data provider to which to apply the visible columns query projection
+	 */
+	private DatastoreDataProvider<PropertyBox, ?> projectionDataProvider;
+
+	/**
+	 * Query projection dependencies
+	 */
+	private final transient Map<Property<?>, List<Property<?>>> projectionDependencies = new HashMap<>();
+
+	/**
+	 * Current query projection
+	 */
+	private transient Set<Property<?>> queryProjection;
+
 	/**
 	 * Constructor.
 	 * @param <P> Property type
@@ -134,6 +160,91 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 		return propertySet;
 	}
 
+	/**
+	 * Set the data provider to which to apply the visible columns query projection.
+	 * @param dataProvider The data provider, <code>null</code> to disable the
+	 *                     visible columns query projection
+	 */
+	protected void setProjectionDataProvider(DatastoreDataProvider<PropertyBox, ?> dataProvider) {
+		if (this.projectionDataProvider != null && this.projectionDataProvider != dataProvider) {
+			this.projectionDataProvider.setQueryProjection(null);
+		}
+		this.projectionDataProvider = dataProvider;
+		this.queryProjection = null;
+		updateQueryProjection();
+	}
+
+	/**
+	 * Add the properties on which the value of given property depends, to be
+	 * included in the visible columns query projection.
+	 * @param property     The property (not null)
+	 * @param dependencies The property dependencies
+	 */
+	protected void addProjectionDependencies(Property<?> property, List<Property<?>> dependencies) {
+		ObjectUtils.argumentNotNull(property, "Property must be not null");
+		if (dependencies != null && !dependencies.isEmpty()) {
+			projectionDependencies.computeIfAbsent(property, p -> new LinkedList<>()).addAll(dependencies);
+		}
+	}
+
+	/**
+	 * Update the visible columns query projection, if enabled, refreshing the
+	 * listing data when the projection is widened.
+	 */
+	protected void updateQueryProjection() {
+		if (projectionDataProvider == null || !isBuilt()) {
+			return;
+		}
+		// items must be complete when editable
+		final Set<Property<?>> projection = isEditable() ? null : getVisibleColumnsProjection();
+		if (!Objects.equals(projection, queryProjection)) {
+			final boolean widened = queryProjection != null
+					&& (projection == null || !queryProjection.containsAll(projection));
+			queryProjection = projection;
+			projectionDataProvider.setQueryProjection((projection != null) ? PropertySet.of(projection) : null);
+			if (widened) {
+				getGrid().getDataProvider().refreshAll();
+			}
+		}
+	}
+
+	/**
+	 * Get the properties bound to the visible columns which belong to the listing
+	 * property set, including their declared dependencies.
+	 * @return The visible columns query projection
+	 */
+	private Set<Property<?>> getVisibleColumnsProjection() {
+		final Set<Property<?>> projection = new LinkedHashSet<>();
+		getVisibleColumns().forEach(property -> {
+			if (getPropertySet().contains(property)) {
+				projection.add(property);
+			}
+			projection.addAll(projectionDependencies.getOrDefault(property, Collections.emptyList()));
+		});
+		return projection;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.internal.components.AbstractItemListing#build(boolean)
+	 */
+	@Override
+	public void build(boolean editable) {
+		super.build(editable);
+		updateQueryProjection();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.internal.components.AbstractItemListing#setColumnVisible(java.lang.Object,
+	 * boolean)
+	 */
+	@Override
+	public void setColumnVisible(Property<?> property, boolean visible) {
+		super.setColumnVisible(property, visible);
+		updateQueryProjection();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.flow.internal.components.AbstractItemListing#
@@ -235,6 +346,15 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 			});
 		}
 		// default provider using property presenter
+		if (configuration.getPresentationCacheSize() > 0) {
+			return getGrid().addColumn(item -> {
+				if (item.contains(property)) {
+					return presentValue(configuration, item.getValue(property),
+							value -> ((Property<Object>) property).present(value));
+				}
+				return null;
+			});
+		}
 		return getGrid().addColumn(item -> {
 			if (item.contains(property)) {
 				return item.present(property);
@@ -326,6 +446,27 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 		});
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.internal.components.AbstractItemListing#isItemChanged(java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	protected boolean isItemChanged(PropertyBox item, PropertyBox reloaded) {
+		if (getItemVersionProvider().isPresent()) {
+			return super.isItemChanged(item, reloaded);
+		}
+		// PropertyBox equality only involves the identifier values, so compare the property values
+		for (Property<?> property : item) {
+			if (!(property instanceof VirtualProperty)
+					&& !Objects.deepEquals(item.getValueIfPresent(property).orElse(null),
+							reloaded.getValueIfPresent(property).orElse(null))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	// ------- Builder
 
 	/**
@@ -641,6 +782,145 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#countStrategy(com.holonplatform.vaadin.flow.data.
+		 * DatastoreCountStrategy)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder countStrategy(DatastoreCountStrategy countStrategy) {
+			datastoreDataProvider.setCountStrategy(countStrategy);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#keysetPagination(boolean)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder keysetPagination(boolean keysetPagination) {
+			datastoreDataProvider.setKeysetPagination(keysetPagination);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#asyncExecutor(java.util.concurrent.Executor)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder asyncExecutor(Executor executor) {
+			ObjectUtils.argumentNotNull(executor, "Executor must be not null");
+			datastoreDataProvider.setAsyncExecutor(executor);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#readAhead(int, java.util.concurrent.Executor)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder readAhead(int pages, Executor executor) {
+			datastoreDataProvider.setReadAhead(pages, executor);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#undefinedSize(boolean)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder undefinedSize(boolean undefinedSize) {
+			builder.getInstance().setUndefinedSize(undefinedSize);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#undefinedSize(int)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder undefinedSize(int itemCountEstimate) {
+			if (itemCountEstimate < 1) {
+				throw new IllegalArgumentException("The item count estimate must be greater than 0");
+			}
+			builder.getInstance().setItemCountEstimate(itemCountEstimate);
+			builder.getInstance().setUndefinedSize(true);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#autoRefresh(java.time.Duration,
+		 * com.holonplatform.core.property.Property)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder autoRefresh(Duration interval, Property<?> versionProperty) {
+			ObjectUtils.argumentNotNull(interval, "Auto refresh interval must be not null");
+			if (interval.isNegative()) {
+				throw new IllegalArgumentException("The auto refresh interval must not be negative");
+			}
+			if (versionProperty != null && !(versionProperty instanceof Path)) {
+				throw new IllegalArgumentException("The version property [" + versionProperty + "] is not a Path");
+			}
+			builder.getInstance().setAutoRefresh((int) Math.min(Integer.MAX_VALUE, interval.toMillis()),
+					versionProperty);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#changeBus(com.holonplatform.vaadin.flow.data.DatastoreChangeBus)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder changeBus(DatastoreChangeBus changeBus) {
+			builder.getInstance().setChangeBus(changeBus);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.DatastoreDataProviderConfigurator.
+		 * DatastoreDataProviderListingConfigurator#idSelection(boolean)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder idSelection(boolean idSelection) {
+			builder.getInstance().setIdSelection(idSelection);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.PropertyListingBuilder.
+		 * DatastorePropertyListingConfigurator#visibleColumnsProjection(boolean)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder visibleColumnsProjection(boolean visibleColumnsProjection) {
+			builder.getInstance().setProjectionDataProvider(visibleColumnsProjection ? datastoreDataProvider : null);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.PropertyListingBuilder.
+		 * DatastorePropertyListingConfigurator#withProjectionDependencies(com.holonplatform.core.property.Property,
+		 * com.holonplatform.core.property.Property[])
+		 */
+		@Override
+		public DatastorePropertyListingBuilder withProjectionDependencies(Property<?> property,
+				Property<?>... dependencies) {
+			builder.getInstance().addProjectionDependencies(property,
+					(dependencies != null) ? Arrays.asList(dependencies) : Collections.emptyList());
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -863,6 +1143,17 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
+		 * presentationCache(java.lang.Object, int)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder presentationCache(Property<?> property, int maxSize) {
+			builder.presentationCache(property, maxSize);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -1016,6 +1307,17 @@ public class DefaultPropertyListing extends AbstractItemListing<PropertyBox, Pro
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
+		 * itemVersionProvider(java.util.function.Function)
+		 */
+		@Override
+		public DatastorePropertyListingBuilder itemVersionProvider(Function<PropertyBox, ?> versionProvider) {
+			builder.itemVersionProvider(versionProvider);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator#
@@ -115,8 +115,7 @@ public class MultiSelectInputAdapter<T, ITEM, C extends Component> implements Mu
 		if (values == null) {
 			return Collections.emptySet();
 		}
-		return values.stream().map(v -> itemConverter.getItem(v).orElse(null)).filter(i -> i != null)
-				.collect(Collectors.toSet());
+		return new HashSet<>(itemConverter.getItems(values));
 	}
 
 	/*
@@ -1,7 +1,14 @@
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
@@ -12,12 +19,16 @@ import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.query.Query;
 import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
+import com.holonplatform.vaadin.flow.internal.data.DefaultDatastoreDataProvider;
 import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 
 public class AbstractPropertySelectInputBuilder<T> {
 
 	protected PropertyItemConverter<T> propertyItemConverter;
 
+	private boolean lookupCacheListeners = false;
+
 	protected final Property<T> selectionProperty;
 
 	public AbstractPropertySelectInputBuilder(Property<T> selectionProperty) {
@@ -30,6 +41,12 @@ public class AbstractPropertySelectInputBuilder<T> {
 	 * Setup a item converter function if the current item converter is a
 	 * {@link PropertyItemConverter}, using the selection property to retrieve an
 	 * item.
+	 * <p>
+	 * A batch conversion function is setup too, which retrieves the items bound
+	 * to a collection of values using a single <code>IN</code> filter query (or
+	 * one query per {@link DefaultDatastoreDataProvider#MAX_IN_FILTER_VALUES}
+	 * values).
+	 * </p>
 	 * @param dataProvider Data provider
 	 * @param datastore    The datastore
 	 * @param target       The query target
@@ -51,16 +68,94 @@ public class AbstractPropertySelectInputBuilder<T> {
 					return item;
 				}
 				// check additional
-				if (dataProvider != null) {
-					return dataProvider.getAdditionalItemsProvider()
-							.map(p -> p.getAdditionalItems(datastore, target, propertySet))
-							.orElse(Collections.emptyList()).stream().filter(i -> i.getValueIfPresent(selectionProperty)
-									.map(v -> value.equals(v)).orElse(false))
-							.findFirst();
-				}
-				return Optional.empty();
+				return getAdditionalItems(dataProvider, datastore, target, propertySet).stream()
+						.filter(i -> i.getValueIfPresent(selectionProperty).map(v -> value.equals(v)).orElse(false))
+						.findFirst();
 			});
+			if (propertyItemConverter.getToItemsConverter() == null) {
+				propertyItemConverter.setToItemsConverter(values -> {
+					final List<T> distinct = values.stream().filter(v -> v != null).distinct()
+							.collect(Collectors.toList());
+					if (distinct.isEmpty()) {
+						return Collections.emptyList();
+					}
+					final Map<T, PropertyBox> items = new HashMap<>(distinct.size());
+					for (int i = 0; i < distinct.size(); i += DefaultDatastoreDataProvider.MAX_IN_FILTER_VALUES) {
+						final List<T> chunk = distinct.subList(i,
+								Math.min(i + DefaultDatastoreDataProvider.MAX_IN_FILTER_VALUES, distinct.size()));
+						final Query query = datastore.query(target).filter(QueryFilter.in(selectionProperty, chunk));
+						if (dataProvider != null) {
+							dataProvider.getQueryFilter().ifPresent(f -> query.filter(f));
+						}
+						query.stream(propertySet).forEach(item -> item.getValueIfPresent(selectionProperty)
+								.ifPresent(v -> items.putIfAbsent(v, item)));
+					}
+					// check additional
+					if (items.size() < distinct.size()) {
+						final Set<T> lookup = new HashSet<>(distinct);
+						getAdditionalItems(dataProvider, datastore, target, propertySet)
+								.forEach(item -> item.getValueIfPresent(selectionProperty)
+										.filter(v -> lookup.contains(v)).ifPresent(v -> items.putIfAbsent(v, item)));
+					}
+					return distinct.stream().map(v -> items.get(v)).filter(i -> i != null)
+							.collect(Collectors.toList());
+				});
+			}
+		}
+	}
+
+	/**
+	 * Enable or disable the value to item lookup cache, if the current item
+	 * converter is a {@link PropertyItemConverter}.
+	 * <p>
+	 * The lookup cache is seeded with the items fetched by given data provider,
+	 * and it is invalidated when the data provider items are refreshed.
+	 * </p>
+	 * @param dataProvider Data provider (not null)
+	 * @param maxSize      The maximum number of items to cache, <code>0</code> or
+	 *                     less to disable the lookup cache
+	 * @param timeToLive   The cached items time-to-live, <code>null</code> if
+	 *                     cached items never expire
+	 */
+	protected void setupLookupCache(DatastoreDataProvider<PropertyBox, ?> dataProvider, int maxSize,
+			Duration timeToLive) {
+		ObjectUtils.argumentNotNull(dataProvider, "Data provider must be not null");
+		if (propertyItemConverter != null) {
+			propertyItemConverter.setLookupCache(maxSize, timeToLive);
+			if (maxSize > 0 && !lookupCacheListeners) {
+				lookupCacheListeners = true;
+				final PropertyItemConverter<T> converter = propertyItemConverter;
+				dataProvider.addFetchListener(items -> converter.cacheItems(items));
+				dataProvider.addDataProviderListener(e -> {
+					if (e instanceof DataRefreshEvent) {
+						final Object item = ((DataRefreshEvent<?>) e).getItem();
+						if (item instanceof PropertyBox) {
+							((PropertyBox) item).getValueIfPresent(selectionProperty)
+									.ifPresent(v -> converter.invalidateLookupCache(v));
+						}
+					} else {
+						converter.invalidateLookupCache();
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Get the additional items provided by the given data provider, if any.
+	 * @param dataProvider Data provider
+	 * @param datastore    The datastore
+	 * @param target       The query target
+	 * @param propertySet  The query projection
+	 * @return The additional items, an empty list if none
+	 */
+	private static List<PropertyBox> getAdditionalItems(DatastoreDataProvider<PropertyBox, ?> dataProvider,
+			Datastore datastore, DataTarget<?> target, PropertySet<?> propertySet) {
+		if (dataProvider != null) {
+			return dataProvider.getAdditionalItemsProvider()
+					.map(p -> p.getAdditionalItems(datastore, target, propertySet)).orElse(Collections.emptyList());
 		}
+		return Collections.emptyList();
 	}
 
 }
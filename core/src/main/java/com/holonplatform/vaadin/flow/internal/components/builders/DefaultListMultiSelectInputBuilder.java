@@ -16,6 +16,7 @@
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -221,6 +222,12 @@ public class DefaultListMultiSelectInputBuilder<T, ITEM> extends
 			return converter.getItem(value).filter(i -> component.getItemPosition(i) > -1);
 		}
 
+		@Override
+		public List<ITEM> getItems(Collection<T> values) {
+			return converter.getItems(values).stream().filter(i -> component.getItemPosition(i) > -1)
+					.collect(Collectors.toList());
+		}
+
 	}
 
 	/*
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
@@ -46,8 +47,10 @@ import com.holonplatform.vaadin.flow.components.builders.ShortcutConfigurator;
 import com.holonplatform.vaadin.flow.components.events.CustomValueSetListener;
 import com.holonplatform.vaadin.flow.components.events.ReadonlyChangeListener;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
+import com.holonplatform.vaadin.flow.internal.data.ChangeBusSubscription;
 import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.BlurNotifier.BlurEvent;
@@ -1569,6 +1572,19 @@ public class DefaultPropertyFilterableSingleSelectInputBuilder<T> extends Abstra
 			return this;
 		}
 
+		@Override
+		public DatastorePropertyFilterableSingleSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.setupLookupCache(datastoreDataProvider, maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public DatastorePropertyFilterableSingleSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			final ChangeBusSubscription subscription = new ChangeBusSubscription(datastoreDataProvider, changeBus);
+			withAttachListener(e -> subscription.subscribe(e.getUI()));
+			return withDetachListener(e -> subscription.unsubscribe());
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -2219,6 +2235,18 @@ public class DefaultPropertyFilterableSingleSelectInputBuilder<T> extends Abstra
 			return this;
 		}
 
+		@Override
+		public ValidatableDatastorePropertyFilterableSingleSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.lookupCache(maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public ValidatableDatastorePropertyFilterableSingleSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			builder.changeBus(changeBus);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
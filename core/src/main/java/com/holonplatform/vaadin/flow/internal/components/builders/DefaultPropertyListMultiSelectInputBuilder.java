@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
@@ -44,8 +45,10 @@ import com.holonplatform.vaadin.flow.components.ValueHolder.ValueChangeListener;
 import com.holonplatform.vaadin.flow.components.builders.ListMultiSelectConfigurator.PropertyListMultiSelectInputBuilder;
 import com.holonplatform.vaadin.flow.components.events.ReadonlyChangeListener;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
+import com.holonplatform.vaadin.flow.internal.data.ChangeBusSubscription;
 import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
@@ -1160,6 +1163,19 @@ public class DefaultPropertyListMultiSelectInputBuilder<T> extends AbstractPrope
 			return withAttachListener(e -> this.datastoreDataProvider.refreshAll());
 		}
 
+		@Override
+		public DatastorePropertyListMultiSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.setupLookupCache(datastoreDataProvider, maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public DatastorePropertyListMultiSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			final ChangeBusSubscription subscription = new ChangeBusSubscription(datastoreDataProvider, changeBus);
+			withAttachListener(e -> subscription.subscribe(e.getUI()));
+			return withDetachListener(e -> subscription.unsubscribe());
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -1637,6 +1653,18 @@ public class DefaultPropertyListMultiSelectInputBuilder<T> extends AbstractPrope
 			return this;
 		}
 
+		@Override
+		public ValidatableDatastorePropertyListMultiSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.lookupCache(maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public ValidatableDatastorePropertyListMultiSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			builder.changeBus(changeBus);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
@@ -46,8 +47,10 @@ import com.holonplatform.vaadin.flow.components.ValueHolder.ValueChangeListener;
 import com.holonplatform.vaadin.flow.components.builders.ListSingleSelectConfigurator.PropertyListSingleSelectInputBuilder;
 import com.holonplatform.vaadin.flow.components.events.ReadonlyChangeListener;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
+import com.holonplatform.vaadin.flow.internal.data.ChangeBusSubscription;
 import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
@@ -1272,6 +1275,19 @@ public class DefaultPropertyListSingleSelectInputBuilder<T> extends AbstractProp
 			return withAttachListener(e -> this.datastoreDataProvider.refreshAll());
 		}
 
+		@Override
+		public DatastorePropertyListSingleSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.setupLookupCache(datastoreDataProvider, maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public DatastorePropertyListSingleSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			final ChangeBusSubscription subscription = new ChangeBusSubscription(datastoreDataProvider, changeBus);
+			withAttachListener(e -> subscription.subscribe(e.getUI()));
+			return withDetachListener(e -> subscription.unsubscribe());
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -1800,6 +1816,18 @@ public class DefaultPropertyListSingleSelectInputBuilder<T> extends AbstractProp
 			return this;
 		}
 
+		@Override
+		public ValidatableDatastorePropertyListSingleSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.lookupCache(maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public ValidatableDatastorePropertyListSingleSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			builder.changeBus(changeBus);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
@@ -44,8 +45,10 @@ import com.holonplatform.vaadin.flow.components.ValueHolder.ValueChangeListener;
 import com.holonplatform.vaadin.flow.components.builders.OptionsMultiSelectConfigurator.PropertyOptionsMultiSelectInputBuilder;
 import com.holonplatform.vaadin.flow.components.events.ReadonlyChangeListener;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
+import com.holonplatform.vaadin.flow.internal.data.ChangeBusSubscription;
 import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -1064,6 +1067,19 @@ public class DefaultPropertyOptionsMultiSelectInputBuilder<T> extends AbstractPr
 			return withAttachListener(e -> this.datastoreDataProvider.refreshAll());
 		}
 
+		@Override
+		public DatastorePropertyOptionsMultiSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.setupLookupCache(datastoreDataProvider, maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public DatastorePropertyOptionsMultiSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			final ChangeBusSubscription subscription = new ChangeBusSubscription(datastoreDataProvider, changeBus);
+			withAttachListener(e -> subscription.subscribe(e.getUI()));
+			return withDetachListener(e -> subscription.unsubscribe());
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -1493,6 +1509,18 @@ public class DefaultPropertyOptionsMultiSelectInputBuilder<T> extends AbstractPr
 			return this;
 		}
 
+		@Override
+		public ValidatableDatastorePropertyOptionsMultiSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.lookupCache(maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public ValidatableDatastorePropertyOptionsMultiSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			builder.changeBus(changeBus);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.flow.internal.components.builders;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
@@ -43,8 +44,10 @@ import com.holonplatform.vaadin.flow.components.ValueHolder.ValueChangeListener;
 import com.holonplatform.vaadin.flow.components.builders.OptionsSingleSelectConfigurator.PropertyOptionsSingleSelectInputBuilder;
 import com.holonplatform.vaadin.flow.components.events.ReadonlyChangeListener;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
+import com.holonplatform.vaadin.flow.internal.data.ChangeBusSubscription;
 import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
 import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
@@ -1093,6 +1096,19 @@ public class DefaultPropertyOptionsSingleSelectInputBuilder<T> extends AbstractP
 			return withAttachListener(e -> this.datastoreDataProvider.refreshAll());
 		}
 
+		@Override
+		public DatastorePropertyOptionsSingleSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.setupLookupCache(datastoreDataProvider, maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public DatastorePropertyOptionsSingleSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			final ChangeBusSubscription subscription = new ChangeBusSubscription(datastoreDataProvider, changeBus);
+			withAttachListener(e -> subscription.subscribe(e.getUI()));
+			return withDetachListener(e -> subscription.unsubscribe());
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -1536,6 +1552,18 @@ public class DefaultPropertyOptionsSingleSelectInputBuilder<T> extends AbstractP
 			return this;
 		}
 
+		@Override
+		public ValidatableDatastorePropertyOptionsSingleSelectInputBuilder<T> lookupCache(int maxSize, Duration timeToLive) {
+			builder.lookupCache(maxSize, timeToLive);
+			return this;
+		}
+
+		@Override
+		public ValidatableDatastorePropertyOptionsSingleSelectInputBuilder<T> changeBus(DatastoreChangeBus changeBus) {
+			builder.changeBus(changeBus);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -63,6 +63,7 @@ public class DefaultItemListingColumn<P, T, V> implements ItemListingColumn<P, T
 	private ColumnAlignment alignment;
 	private String width = null;
 	private boolean autoWidth = false;
+	private int presentationCacheSize = 0;
 	private Localizable headerText;
 	private Component headerComponent;
 	private Localizable footerText;
@@ -233,6 +234,24 @@ public class DefaultItemListingColumn<P, T, V> implements ItemListingColumn<P, T
 		this.autoWidth = autoWidth;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn#getPresentationCacheSize()
+	 */
+	@Override
+	public int getPresentationCacheSize() {
+		return presentationCacheSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn#setPresentationCacheSize(int)
+	 */
+	@Override
+	public void setPresentationCacheSize(int presentationCacheSize) {
+		this.presentationCacheSize = presentationCacheSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn#getAlignment()
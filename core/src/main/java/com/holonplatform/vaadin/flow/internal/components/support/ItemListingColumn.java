@@ -51,6 +51,11 @@ import com.vaadin.flow.function.ValueProvider;
  */
 public interface ItemListingColumn<P, T, V> extends Serializable {
 
+	/**
+	 * Default maximum size of the column values presentation cache
+	 */
+	static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1000;
+
 	/**
 	 * Get the item property id.
 	 * @return the item property id (never null)
@@ -147,6 +152,20 @@ public interface ItemListingColumn<P, T, V> extends Serializable {
 	 */
 	void setAutoWidth(boolean autoWidth);
 
+	/**
+	 * Get the maximum size of the column values presentation cache.
+	 * @return the presentation cache size, <code>0</code> if the presentation cache is disabled
+	 * @since 6.0.3
+	 */
+	int getPresentationCacheSize();
+
+	/**
+	 * Set the maximum size of the column values presentation cache.
+	 * @param presentationCacheSize the presentation cache size, <code>0</code> to disable the presentation cache
+	 * @since 6.0.3
+	 */
+	void setPresentationCacheSize(int presentationCacheSize);
+
 	/**
 	 * Get the column alignment.
 	 * @return Optional column alignment
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.components.support;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.function.SerializableSupplier;
+
+/**
+ * A {@link ComponentRenderer} which recycles the rendered components.
+ * <p>
+ * When a rendered component is detached, for example because its row is no longer displayed, it is returned to a
+ * bounded pool and bound to the next item to render, instead of creating a new component instance.
+ * </p>
+ * <p>
+ * The components provided by the factory must be fully rebound by the binder function, since a recycled component
+ * retains the state of the previously rendered item.
+ * </p>
+ *
+ * @param <C> Component type
+ * @param <T> Item type
+ *
+ * @since 6.0.3
+ */
+public class PooledComponentRenderer<C extends Component, T> extends ComponentRenderer<C, T> {
+
+	private static final long serialVersionUID = -3297715863839424478L;
+
+	/**
+	 * Default maximum pool size
+	 */
+	public static final int DEFAULT_POOL_SIZE = 100;
+
+	private final SerializableSupplier<C> componentFactory;
+
+	private final SerializableBiConsumer<C, T> componentBinder;
+
+	private final int poolSize;
+
+	private final Deque<C> pool = new ArrayDeque<>();
+
+	/**
+	 * Constructor using the default maximum pool size.
+	 * @param componentFactory The function to use to create a new component (not null)
+	 * @param componentBinder The function to use to bind an item to a component (not null)
+	 */
+	public PooledComponentRenderer(SerializableSupplier<C> componentFactory,
+			SerializableBiConsumer<C, T> componentBinder) {
+		this(componentFactory, componentBinder, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 * @param componentFactory The function to use to create a new component (not null)
+	 * @param componentBinder The function to use to bind an item to a component (not null)
+	 * @param poolSize The maximum number of components to keep in the pool
+	 */
+	public PooledComponentRenderer(SerializableSupplier<C> componentFactory,
+			SerializableBiConsumer<C, T> componentBinder, int poolSize) {
+		super();
+		ObjectUtils.argumentNotNull(componentFactory, "Component factory must be not null");
+		ObjectUtils.argumentNotNull(componentBinder, "Component binder must be not null");
+		if (poolSize < 0) {
+			throw new IllegalArgumentException("The pool size must be greater or equal to 0");
+		}
+		this.componentFactory = componentFactory;
+		this.componentBinder = componentBinder;
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * Get the maximum number of components to keep in the pool.
+	 * @return the maximum pool size
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * Get the number of components currently available in the pool.
+	 * @return the number of pooled components
+	 */
+	public int getPooledCount() {
+		return pool.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.renderer.ComponentRenderer#createComponent(java.lang.Object)
+	 */
+	@Override
+	public C createComponent(T item) {
+		final C component = acquire();
+		componentBinder.accept(component, item);
+		return component;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.renderer.ComponentRenderer#updateComponent(com.vaadin.flow.component.Component,
+	 * java.lang.Object)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Component updateComponent(Component currentComponent, T item) {
+		componentBinder.accept((C) currentComponent, item);
+		return currentComponent;
+	}
+
+	/**
+	 * Get a component from the pool, or create a new one if the pool is empty.
+	 * @return The component to use
+	 */
+	private C acquire() {
+		C component;
+		while ((component = pool.poll()) != null) {
+			// skip any component still in use, i.e. re-attached after the detach
+			if (!component.getParent().isPresent() && !component.isAttached()) {
+				return component;
+			}
+		}
+		final C created = componentFactory.get();
+		if (poolSize > 0) {
+			created.addDetachListener(e -> release(created));
+		}
+		return created;
+	}
+
+	/**
+	 * Return given component to the pool, if the pool is not full.
+	 * @param component The component to release
+	 */
+	private void release(C component) {
+		if (pool.size() < poolSize && !pool.contains(component)) {
+			pool.push(component);
+		}
+	}
+
+}
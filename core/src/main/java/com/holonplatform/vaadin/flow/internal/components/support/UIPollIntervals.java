@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.components.support;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Tracks the poll interval requests of the components which use the polling of a {@link UI}.
+ * <p>
+ * The UI poll interval is a UI wide setting: the registry, bound to the UI, applies the shortest requested interval
+ * (or the poll interval the UI had before the first request, if shorter) and restores the previous poll interval when
+ * the last request is removed.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class UIPollIntervals implements Serializable {
+
+	private static final long serialVersionUID = 2180315346781945215L;
+
+	private final List<Request> requests = new ArrayList<>();
+
+	private int previousInterval;
+
+	private int appliedInterval;
+
+	private UIPollIntervals(int previousInterval) {
+		super();
+		this.previousInterval = previousInterval;
+		this.appliedInterval = previousInterval;
+	}
+
+	/**
+	 * Request the polling of given UI at given interval.
+	 * <p>
+	 * Must be invoked while holding the UI session lock.
+	 * </p>
+	 * @param ui The UI (not null)
+	 * @param intervalMillis The poll interval in milliseconds, must be greater than <code>0</code>
+	 * @return The request registration, to remove when the polling is no longer needed
+	 */
+	public static Registration request(UI ui, int intervalMillis) {
+		ObjectUtils.argumentNotNull(ui, "UI must be not null");
+		if (intervalMillis <= 0) {
+			throw new IllegalArgumentException("The poll interval must be greater than 0");
+		}
+		UIPollIntervals intervals = ComponentUtil.getData(ui, UIPollIntervals.class);
+		if (intervals == null) {
+			intervals = new UIPollIntervals(ui.getPollInterval());
+			ComponentUtil.setData(ui, UIPollIntervals.class, intervals);
+		}
+		final Request request = new Request(intervalMillis);
+		intervals.requests.add(request);
+		intervals.apply(ui);
+		final UIPollIntervals registry = intervals;
+		return () -> registry.remove(ui, request);
+	}
+
+	/**
+	 * Remove given request and apply the resulting poll interval.
+	 * @param ui The UI
+	 * @param request The request to remove
+	 */
+	private void remove(UI ui, Request request) {
+		if (requests.remove(request)) {
+			apply(ui);
+			if (requests.isEmpty() && ComponentUtil.getData(ui, UIPollIntervals.class) == this) {
+				ComponentUtil.setData(ui, UIPollIntervals.class, null);
+			}
+		}
+	}
+
+	/**
+	 * Apply the poll interval to given UI.
+	 * @param ui The UI
+	 */
+	private void apply(UI ui) {
+		final int current = ui.getPollInterval();
+		if (current != appliedInterval) {
+			// changed by someone else
+			previousInterval = current;
+		}
+		int interval = previousInterval;
+		for (Request request : requests) {
+			if (interval <= 0 || request.interval < interval) {
+				interval = request.interval;
+			}
+		}
+		if (interval != current) {
+			ui.setPollInterval(interval);
+		}
+		appliedInterval = interval;
+	}
+
+	/**
+	 * A poll interval request.
+	 */
+	private static final class Request implements Serializable {
+
+		private static final long serialVersionUID = -6254380616823563713L;
+
+		final int interval;
+
+		Request(int interval) {
+			super();
+			this.interval = interval;
+		}
+
+	}
+
+}
@@ -15,15 +15,31 @@
  */
 package com.holonplatform.vaadin.flow.internal.data;
 
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.holonplatform.core.Path;
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.flow.internal.utils.BeanPropertyAccessors;
 
 /**
  * A converter to convert a {@link PropertyBox} item into a bean class type.
+ * <p>
+ * The bean instances are created using the bean factory, if provided, or through a generated factory which invokes
+ * the bean class public no-args constructor. The {@link PropertyBox} values are written into the bean instance using
+ * generated property accessors when possible, resolving the write operation of each property only once. When a
+ * property requires the {@link BeanPropertySet} write logic, for example a nested property or a property with a
+ * value converter, the {@link BeanPropertySet} is used to write the item values.
+ * </p>
  *
  * @param <T> Bean type
  *
@@ -33,14 +49,33 @@ public class BeanPropertySetItemConverter<T> implements Function<PropertyBox, T>
 
 	private final BeanPropertySet<T> beanPropertySet;
 
+	private final Supplier<T> beanFactory;
+
+	/**
+	 * Property write plan
+	 */
+	private final Map<Property<?>, WriteStep> writePlan = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 * @param beanPropertySet Bean property set (not null)
 	 */
 	public BeanPropertySetItemConverter(BeanPropertySet<T> beanPropertySet) {
+		this(beanPropertySet, null);
+	}
+
+	/**
+	 * Constructor.
+	 * @param beanPropertySet Bean property set (not null)
+	 * @param beanFactory The function to use to create the bean instances. If <code>null</code>, the bean class
+	 *        no-args constructor is used.
+	 * @since 6.0.3
+	 */
+	public BeanPropertySetItemConverter(BeanPropertySet<T> beanPropertySet, Supplier<T> beanFactory) {
 		super();
 		ObjectUtils.argumentNotNull(beanPropertySet, "BeanPropertySet must be not null");
 		this.beanPropertySet = beanPropertySet;
+		this.beanFactory = beanFactory;
 	}
 
 	/*
@@ -50,16 +85,139 @@ public class BeanPropertySetItemConverter<T> implements Function<PropertyBox, T>
 	@Override
 	public T apply(PropertyBox item) {
 		if (item != null) {
-			try {
-				return beanPropertySet.write(item,
-						beanPropertySet.getBeanClass().getDeclaredConstructor().newInstance(), true);
-			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-					| InvocationTargetException | NoSuchMethodException | SecurityException e) {
-				throw new RuntimeException("Failed to convert item [" + item + "] into a bean class instance ["
-						+ beanPropertySet.getBeanClass().getName() + "]", e);
+			final T instance = createInstance(item);
+			if (!write(item, instance)) {
+				beanPropertySet.write(item, instance, true);
 			}
+			return instance;
 		}
 		return null;
 	}
 
+	/**
+	 * Create a new bean instance.
+	 * @param item The item to convert
+	 * @return The bean instance
+	 */
+	@SuppressWarnings("unchecked")
+	private T createInstance(PropertyBox item) {
+		try {
+			if (beanFactory != null) {
+				final T instance = beanFactory.get();
+				if (instance == null) {
+					throw new IllegalStateException("The bean factory returned a null instance");
+				}
+				return instance;
+			}
+			final Optional<Supplier<Object>> factory = BeanPropertyAccessors
+					.getFactory(beanPropertySet.getBeanClass());
+			if (factory.isPresent()) {
+				return (T) factory.get().get();
+			}
+			return beanPropertySet.getBeanClass().getDeclaredConstructor().newInstance();
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | IllegalStateException
+				| InvocationTargetException | NoSuchMethodException | SecurityException e) {
+			throw new RuntimeException("Failed to convert item [" + item + "] into a bean class instance ["
+					+ beanPropertySet.getBeanClass().getName() + "]", e);
+		}
+	}
+
+	/**
+	 * Write the item values into given bean instance using the property write plan.
+	 * @param item The item
+	 * @param instance The bean instance
+	 * @return <code>true</code> if the values were written, <code>false</code> if one or more item properties are
+	 *         not supported by the write plan
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private boolean write(PropertyBox item, T instance) {
+		for (Property property : item) {
+			if (getWriteStep(property) == WriteStep.UNSUPPORTED) {
+				return false;
+			}
+		}
+		for (Property property : item) {
+			getWriteStep(property).write(beanPropertySet, instance, item.getValue(property));
+		}
+		return true;
+	}
+
+	/**
+	 * Get the write step for given item property, resolving it if not available yet.
+	 * @param property The item property
+	 * @return The write step
+	 */
+	private WriteStep getWriteStep(Property<?> property) {
+		return writePlan.computeIfAbsent(property, p -> resolveWriteStep(p));
+	}
+
+	/**
+	 * Resolve the write step for given item property.
+	 * @param property The item property
+	 * @return The write step
+	 */
+	private WriteStep resolveWriteStep(Property<?> property) {
+		if (!(property instanceof Path)) {
+			return WriteStep.SKIP;
+		}
+		final Path<?> path = (Path<?>) property;
+		if (path.getParent().isPresent()) {
+			return WriteStep.UNSUPPORTED;
+		}
+		final String name = path.getName();
+		return beanPropertySet.getProperty(name).map(bp -> {
+			if (!name.equals(bp.getName()) || bp.getParent().isPresent() || bp.getConverter().isPresent()) {
+				return WriteStep.UNSUPPORTED;
+			}
+			final Optional<BiConsumer<Object, Object>> writer = BeanPropertyAccessors
+					.getWriter(beanPropertySet.getBeanClass(), name);
+			if (!writer.isPresent()) {
+				return WriteStep.UNSUPPORTED;
+			}
+			return new WriteStep(name, writer.get(), BeanPropertyAccessors
+					.getPropertyType(beanPropertySet.getBeanClass(), name).orElse(Object.class));
+		}).orElse(WriteStep.SKIP);
+	}
+
+	/**
+	 * A property write plan step.
+	 */
+	private static class WriteStep {
+
+		/**
+		 * Step for the properties which are not bean properties
+		 */
+		static final WriteStep SKIP = new WriteStep(null, null, Object.class);
+
+		/**
+		 * Step for the properties which require the {@link BeanPropertySet} write logic
+		 */
+		static final WriteStep UNSUPPORTED = new WriteStep(null, null, Object.class);
+
+		private final String name;
+		private final BiConsumer<Object, Object> writer;
+		private final Class<?> valueType;
+		private final boolean primitive;
+
+		WriteStep(String name, BiConsumer<Object, Object> writer, Class<?> type) {
+			super();
+			this.name = name;
+			this.writer = writer;
+			this.primitive = type.isPrimitive();
+			this.valueType = MethodType.methodType(type).wrap().returnType();
+		}
+
+		<T> void write(BeanPropertySet<T> beanPropertySet, T instance, Object value) {
+			if (writer == null) {
+				return;
+			}
+			if ((value == null && primitive) || (value != null && !valueType.isInstance(value))) {
+				beanPropertySet.write(name, value, instance);
+			} else {
+				writer.accept(instance, value);
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.data;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.internal.utils.BoundedCache;
+
+/**
+ * A {@link DatastoreCountStrategy} which caches the exact count values, using the {@link Datastore}, the query target,
+ * the query filters and the query parameters as key. So the same instance can be shared by data providers bound to
+ * different targets: in that case, the refresh of any of them invalidates all the cached count values.
+ *
+ * @since 6.0.3
+ */
+public class CachedDatastoreCountStrategy implements DatastoreCountStrategy {
+
+	private static final long serialVersionUID = -6468287530536183357L;
+
+	/**
+	 * Default maximum number of cached count values
+	 */
+	public static final int DEFAULT_MAX_SIZE = 32;
+
+	private final BoundedCache<List<Object>, Long> cache;
+
+	/**
+	 * Constructor.
+	 * @param timeToLive The time-to-live of the cached count values (not null)
+	 * @param maxSize The maximum number of cached count values
+	 */
+	public CachedDatastoreCountStrategy(Duration timeToLive, int maxSize) {
+		super();
+		ObjectUtils.argumentNotNull(timeToLive, "Time-to-live must be not null");
+		this.cache = new BoundedCache<>(maxSize, timeToLive);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreCountStrategy#count(com.holonplatform.vaadin.flow.data.
+	 * DatastoreCountStrategy.CountRequest)
+	 */
+	@Override
+	public long count(CountRequest request) {
+		final List<Object> key = Arrays.asList(request.getDatastore(), request.getTarget(), request.getFilters(),
+				request.getParameters());
+		return cache.get(key).orElseGet(() -> {
+			final long count = request.executeCount();
+			cache.put(key, count);
+			return count;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreCountStrategy#invalidate()
+	 */
+	@Override
+	public void invalidate() {
+		cache.clear();
+	}
+
+	/**
+	 * Get the count cache usage statistics.
+	 * @return The cache statistics
+	 */
+	public CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+}
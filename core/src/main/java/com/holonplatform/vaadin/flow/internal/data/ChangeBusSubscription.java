@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.data;
+
+import java.io.Serializable;
+
+import com.holonplatform.core.Registration;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
+import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
+import com.vaadin.flow.component.UI;
+
+/**
+ * The subscription of a {@link DatastoreDataProvider} to a {@link DatastoreChangeBus}, bound to the UI to which the
+ * data provider component is attached.
+ *
+ * @since 6.0.3
+ */
+public class ChangeBusSubscription implements Serializable {
+
+	private static final long serialVersionUID = -1719580218431395212L;
+
+	private final DatastoreDataProvider<?, ?> dataProvider;
+
+	private final transient DatastoreChangeBus changeBus;
+
+	private transient Registration registration;
+
+	/**
+	 * Constructor.
+	 * @param dataProvider The data provider (not null)
+	 * @param changeBus The change bus (not null)
+	 */
+	public ChangeBusSubscription(DatastoreDataProvider<?, ?> dataProvider, DatastoreChangeBus changeBus) {
+		super();
+		ObjectUtils.argumentNotNull(dataProvider, "Data provider must be not null");
+		ObjectUtils.argumentNotNull(changeBus, "Change bus must be not null");
+		this.dataProvider = dataProvider;
+		this.changeBus = changeBus;
+	}
+
+	/**
+	 * Get the change bus.
+	 * @return The change bus, <code>null</code> if not available after deserialization
+	 */
+	public DatastoreChangeBus getChangeBus() {
+		return changeBus;
+	}
+
+	/**
+	 * Subscribe the data provider to the change bus, delivering the change events using given UI. Any previous
+	 * subscription is removed.
+	 * @param ui The UI to use to deliver the change events
+	 */
+	public synchronized void subscribe(UI ui) {
+		unsubscribe();
+		if (changeBus != null) {
+			registration = dataProvider.subscribe(changeBus, ui);
+		}
+	}
+
+	/**
+	 * Remove the data provider subscription, if any.
+	 */
+	public synchronized void unsubscribe() {
+		if (registration != null) {
+			registration.remove();
+			registration = null;
+		}
+	}
+
+}
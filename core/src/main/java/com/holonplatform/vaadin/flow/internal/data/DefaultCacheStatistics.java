@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.data;
+
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
+
+/**
+ * Default {@link CacheStatistics} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultCacheStatistics implements CacheStatistics {
+
+	private static final long serialVersionUID = 2921373512254862386L;
+
+	private final long hitCount;
+	private final long missCount;
+	private final int size;
+	private final int maxSize;
+
+	public DefaultCacheStatistics(long hitCount, long missCount, int size, int maxSize) {
+		super();
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.CacheStatistics#getHitCount()
+	 */
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.CacheStatistics#getMissCount()
+	 */
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.CacheStatistics#getSize()
+	 */
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.CacheStatistics#getMaxSize()
+	 */
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "CacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", size=" + size
+				+ ", maxSize=" + maxSize + "]";
+	}
+
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.holonplatform.core.Registration;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
+import com.holonplatform.vaadin.flow.internal.VaadinLogger;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+/**
+ * Default {@link DatastoreChangeBus} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultDatastoreChangeBus implements DatastoreChangeBus {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Default change bus
+	 */
+	private static final DatastoreChangeBus DEFAULT = new DefaultDatastoreChangeBus();
+
+	/**
+	 * Subscriptions by data target name
+	 */
+	private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+	/**
+	 * Change event dispatchers by UI, removed when the UI has no more subscriptions
+	 */
+	private final Map<UI, UIDispatcher> dispatchers = new HashMap<>();
+
+	/**
+	 * Get the default change bus.
+	 * @return The default change bus
+	 */
+	public static DatastoreChangeBus getDefault() {
+		return DEFAULT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreChangeBus#publish(java.lang.Object,
+	 * com.holonplatform.core.datastore.DataTarget, java.util.Collection)
+	 */
+	@Override
+	public void publish(Object source, DataTarget<?> target, Collection<?> ids) {
+		ObjectUtils.argumentNotNull(target, "Data target must be not null");
+		final List<Subscription> targetSubscriptions = subscriptions.get(target.getName());
+		if (targetSubscriptions == null || targetSubscriptions.isEmpty()) {
+			return;
+		}
+		final Set<Object> changed = new LinkedHashSet<>();
+		if (ids != null) {
+			ids.stream().filter(id -> id != null).forEach(id -> changed.add(id));
+		}
+		final ChangeEvent event = new DefaultChangeEvent(source, target, changed);
+		for (Subscription subscription : targetSubscriptions) {
+			if (subscription.dispatcher == null) {
+				deliver(subscription, event);
+			} else {
+				subscription.dispatcher.enqueue(subscription, event);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreChangeBus#subscribe(com.holonplatform.core.datastore.DataTarget,
+	 * com.vaadin.flow.component.UI, com.holonplatform.vaadin.flow.data.DatastoreChangeBus.ChangeListener)
+	 */
+	@Override
+	public Registration subscribe(DataTarget<?> target, UI ui, ChangeListener listener) {
+		ObjectUtils.argumentNotNull(target, "Data target must be not null");
+		ObjectUtils.argumentNotNull(listener, "Change listener must be not null");
+		final Subscription subscription = new Subscription(target.getName(), listener,
+				(ui != null) ? acquireDispatcher(ui) : null);
+		subscriptions.computeIfAbsent(target.getName(), n -> new CopyOnWriteArrayList<>()).add(subscription);
+		final com.vaadin.flow.shared.Registration detachRegistration = (ui != null)
+				? ui.addDetachListener(e -> remove(subscription))
+				: null;
+		return () -> {
+			if (detachRegistration != null) {
+				detachRegistration.remove();
+			}
+			remove(subscription);
+		};
+	}
+
+	/**
+	 * Remove given subscription.
+	 * @param subscription The subscription to remove
+	 */
+	private void remove(Subscription subscription) {
+		final List<Subscription> targetSubscriptions = subscriptions.get(subscription.target);
+		if (targetSubscriptions != null && targetSubscriptions.remove(subscription)
+				&& subscription.dispatcher != null) {
+			releaseDispatcher(subscription.dispatcher);
+		}
+	}
+
+	/**
+	 * Get the change event dispatcher of given UI, creating it if not available, and register a new subscription
+	 * which uses it.
+	 * @param ui The UI
+	 * @return The UI dispatcher
+	 */
+	private UIDispatcher acquireDispatcher(UI ui) {
+		synchronized (dispatchers) {
+			final UIDispatcher dispatcher = dispatchers.computeIfAbsent(ui, u -> new UIDispatcher(u));
+			dispatcher.subscriptions++;
+			return dispatcher;
+		}
+	}
+
+	/**
+	 * Unregister a subscription which uses given dispatcher, removing the dispatcher when its UI has no more
+	 * subscriptions, so that the UI is not retained by this change bus.
+	 * @param dispatcher The UI dispatcher
+	 */
+	private void releaseDispatcher(UIDispatcher dispatcher) {
+		synchronized (dispatchers) {
+			if (--dispatcher.subscriptions <= 0) {
+				dispatchers.remove(dispatcher.ui, dispatcher);
+			}
+		}
+	}
+
+	/**
+	 * Deliver a change event to given subscription.
+	 * @param subscription The subscription
+	 * @param event The change event
+	 */
+	private static void deliver(Subscription subscription, ChangeEvent event) {
+		try {
+			subscription.listener.onChange(event);
+		} catch (Exception e) {
+			LOGGER.warn("Failed to deliver the change event of data target [" + event.getTarget().getName() + "]", e);
+		}
+	}
+
+	/**
+	 * A change listener subscription.
+	 */
+	private static final class Subscription {
+
+		final String target;
+		final ChangeListener listener;
+		final UIDispatcher dispatcher;
+
+		Subscription(String target, ChangeListener listener, UIDispatcher dispatcher) {
+			super();
+			this.target = target;
+			this.listener = listener;
+			this.dispatcher = dispatcher;
+		}
+
+	}
+
+	/**
+	 * Delivers the change events of a UI subscriptions, merging the events which are published before the UI access
+	 * task is executed.
+	 */
+	private static final class UIDispatcher {
+
+		private final UI ui;
+
+		/**
+		 * Number of the subscriptions which use this dispatcher, guarded by the change bus dispatchers map
+		 */
+		private int subscriptions = 0;
+
+		/**
+		 * Pending events by subscription and source
+		 */
+		private Map<Subscription, Map<Object, PendingEvent>> pending = new LinkedHashMap<>();
+
+		private boolean scheduled = false;
+
+		UIDispatcher(UI ui) {
+			super();
+			this.ui = ui;
+		}
+
+		void enqueue(Subscription subscription, ChangeEvent event) {
+			synchronized (this) {
+				pending.computeIfAbsent(subscription, s -> new LinkedHashMap<>())
+						.computeIfAbsent(event.getSource().orElse(null), s -> new PendingEvent(event)).merge(event);
+				if (scheduled) {
+					return;
+				}
+				scheduled = true;
+			}
+			try {
+				ui.access(() -> flush());
+			} catch (UIDetachedException e) {
+				synchronized (this) {
+					pending.clear();
+					scheduled = false;
+				}
+			}
+		}
+
+		private void flush() {
+			final Map<Subscription, Map<Object, PendingEvent>> events;
+			synchronized (this) {
+				events = pending;
+				pending = new LinkedHashMap<>();
+				scheduled = false;
+			}
+			events.forEach((subscription, bySource) -> bySource.values()
+					.forEach(pendingEvent -> deliver(subscription, pendingEvent.toEvent())));
+		}
+
+	}
+
+	/**
+	 * A change event which merges the events of the same source.
+	 */
+	private static final class PendingEvent {
+
+		private final Object source;
+		private final DataTarget<?> target;
+		private final Set<Object> ids = new LinkedHashSet<>();
+		private boolean allItems = false;
+
+		PendingEvent(ChangeEvent event) {
+			super();
+			this.source = event.getSource().orElse(null);
+			this.target = event.getTarget();
+		}
+
+		void merge(ChangeEvent event) {
+			if (event.isAllItems()) {
+				allItems = true;
+				ids.clear();
+			} else if (!allItems) {
+				ids.addAll(event.getIds());
+			}
+		}
+
+		ChangeEvent toEvent() {
+			return new DefaultChangeEvent(source, target, allItems ? Collections.emptySet() : ids);
+		}
+
+	}
+
+	/**
+	 * Default {@link ChangeEvent} implementation.
+	 */
+	private static final class DefaultChangeEvent implements ChangeEvent {
+
+		private static final long serialVersionUID = 2613395218637446391L;
+
+		private final transient Object source;
+		private final DataTarget<?> target;
+		private final Set<Object> ids;
+
+		DefaultChangeEvent(Object source, DataTarget<?> target, Set<Object> ids) {
+			super();
+			this.source = source;
+			this.target = target;
+			this.ids = Collections.unmodifiableSet(new LinkedHashSet<>(ids));
+		}
+
+		@Override
+		public Optional<Object> getSource() {
+			return Optional.ofNullable(source);
+		}
+
+		@Override
+		public DataTarget<?> getTarget() {
+			return target;
+		}
+
+		@Override
+		public Set<Object> getIds() {
+			return ids;
+		}
+
+		@Override
+		public String toString() {
+			return "ChangeEvent [target=" + target.getName() + ", ids=" + ids + "]";
+		}
+
+	}
+
+}
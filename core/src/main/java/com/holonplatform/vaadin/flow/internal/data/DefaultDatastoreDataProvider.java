@@ -15,33 +15,71 @@
  */
 package com.holonplatform.vaadin.flow.internal.data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.holonplatform.core.ParameterSet;
 import com.holonplatform.core.Path;
+import com.holonplatform.core.Registration;
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.datastore.bulk.BulkDelete;
+import com.holonplatform.core.datastore.bulk.BulkUpdate;
 import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.query.QueryConfigurationProvider;
 import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.core.query.QuerySort.CompositeQuerySort;
+import com.holonplatform.core.query.QuerySort.PathQuerySort;
 import com.holonplatform.core.query.QuerySort.SortDirection;
 import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus.ChangeEvent;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy.CountRequest;
 import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
+import com.holonplatform.vaadin.flow.internal.VaadinLogger;
+import com.holonplatform.vaadin.flow.internal.utils.BoundedCache;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.DataChangeEvent;
 import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.server.Command;
 
 /**
  * Defaut {@link DatastoreDataProvider} implementation.
@@ -56,6 +94,24 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 
 	private static final long serialVersionUID = -2782826188714473332L;
 
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Max number of changed items to refresh one by one when a data change is
+	 * notified: if more, all the data is refreshed
+	 */
+	private static final int MAX_CHANGED_ITEMS_REFRESH = 100;
+
+	/**
+	 * Max number of values to use in a single <code>IN</code> query filter, shared
+	 * by the components which build <code>IN</code> filters from a collection of
+	 * values
+	 */
+	public static final int MAX_IN_FILTER_VALUES = 500;
+
 	/**
 	 * Datastore
 	 */
@@ -71,6 +127,11 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	 */
 	private final PropertySet<?> propertySet;
 
+	/**
+	 * Property set path index
+	 */
+	private transient PropertySetPathIndex pathIndex;
+
 	/**
 	 * Item converter
 	 */
@@ -91,11 +152,26 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	 */
 	private Function<T, Object> itemIdentifier;
 
+	/**
+	 * Item identifier path, if the item identifier is a path value
+	 */
+	private Path<?> itemIdentifierPath;
+
 	/**
 	 * Query configuration providers
 	 */
 	private List<QueryConfigurationProvider> queryConfigurationProviders = new LinkedList<>();
 
+	/**
+	 * Query definition snapshot
+	 */
+	private transient volatile QueryDefinition queryDefinition;
+
+	/**
+	 * The data provider filter of the last size or fetch query
+	 */
+	private transient volatile F lastQueryFilter;
+
 	/**
 	 * Default query sort
 	 */
@@ -106,6 +182,86 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	 */
 	private AdditionalItemsProvider<T> additionalItemsProvider;
 
+	/**
+	 * Additional items of the current refresh cycle
+	 */
+	private transient volatile List<T> additionalItems;
+
+	/**
+	 * Page cache size
+	 */
+	private int pageCacheSize = 0;
+
+	/**
+	 * Page cache
+	 */
+	private transient BoundedCache<PageKey, List<T>> pageCache;
+
+	/**
+	 * Count strategy
+	 */
+	private DatastoreCountStrategy countStrategy = DatastoreCountStrategy.exact();
+
+	/**
+	 * Keyset pagination mode
+	 */
+	private boolean keysetPagination = false;
+
+	/**
+	 * Keyset page boundaries
+	 */
+	private transient KeysetBoundaries keysetBoundaries;
+
+	/**
+	 * Asynchronous operations executor
+	 */
+	private transient Executor asyncExecutor;
+
+	/**
+	 * Asynchronous operations state
+	 */
+	private transient AsyncOperations asyncOperations;
+
+	/**
+	 * Whether the asynchronous results delivery was checked
+	 */
+	private transient boolean asyncDeliveryChecked = false;
+
+	/**
+	 * Query projection
+	 */
+	private PropertySet<?> queryProjection;
+
+	/**
+	 * Read-ahead pages
+	 */
+	private int readAheadPages = 0;
+
+	/**
+	 * Read-ahead executor
+	 */
+	private transient Executor readAheadExecutor;
+
+	/**
+	 * Read-ahead state
+	 */
+	private transient ReadAhead readAhead;
+
+	/**
+	 * Last notified loading state
+	 */
+	private boolean loading = false;
+
+	/**
+	 * Loading state listeners
+	 */
+	private final List<LoadingStateListener> loadingStateListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Fetch listeners
+	 */
+	private final List<FetchListener<T>> fetchListeners = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Constructor.
 	 * @param datastore       The {@link Datastore} to use (not null)
@@ -129,9 +285,30 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 		this.datastore = datastore;
 		this.target = target;
 		this.propertySet = propertySet;
+		this.pathIndex = PropertySetPathIndex.of(propertySet);
 		this.itemConverter = itemConverter;
 		this.filterConverter = filterConverter;
-		this.querySortOrderConverter = order -> fromOrder(propertySet, order);
+		this.querySortOrderConverter = order -> fromOrder(getPathIndex(), order);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getDatastore()
+	 */
+	@Override
+	public Datastore getDatastore() {
+		return datastore;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getTarget()
+	 */
+	@Override
+	public DataTarget<?> getTarget() {
+		return target;
 	}
 
 	/*
@@ -155,6 +332,333 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	@Override
 	public void setItemIdentifier(Function<T, Object> itemIdentifier) {
 		this.itemIdentifier = itemIdentifier;
+		this.itemIdentifierPath = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getIdentifierFilter(
+	 * java.lang.Object)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Optional<QueryFilter> getIdentifierFilter(Object id) {
+		ObjectUtils.argumentNotNull(id, "Item id must be not null");
+		// item identifier path
+		final Path<?> identifierPath = itemIdentifierPath;
+		if (identifierPath != null) {
+			return TypeUtils.isAssignable(id.getClass(), identifierPath.getType())
+					? Optional.of(QueryFilter.eq((Path) identifierPath, id))
+					: Optional.empty();
+		}
+		// property set identifiers
+		final List<Path<?>> identifiers = propertySet.getIdentifiers().stream().filter(i -> i instanceof Path)
+				.map(i -> (Path<?>) i).collect(Collectors.toList());
+		if (identifiers.isEmpty()) {
+			return Optional.empty();
+		}
+		if (id instanceof PropertyBox) {
+			final PropertyBox box = (PropertyBox) id;
+			final List<QueryFilter> filters = new ArrayList<>(identifiers.size());
+			for (Path<?> identifier : identifiers) {
+				final Object value = box.contains((Property<?>) identifier)
+						? box.getValue((Property<?>) identifier)
+						: null;
+				if (value == null) {
+					return Optional.empty();
+				}
+				filters.add(QueryFilter.eq((Path) identifier, value));
+			}
+			return QueryFilter.allOf(filters);
+		}
+		if (identifiers.size() == 1 && TypeUtils.isAssignable(id.getClass(), identifiers.get(0).getType())) {
+			return Optional.of(QueryFilter.eq((Path) identifiers.get(0), id));
+		}
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#probe(com.
+	 * holonplatform.core.property.Property)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Object probe(Property<?> versionProperty) {
+		if (versionProperty != null && !(versionProperty instanceof Path)) {
+			throw new IllegalArgumentException("The version property [" + versionProperty + "] is not a Path");
+		}
+		final List<QueryFilter> filters = new LinkedList<>(getQueryDefinition().getFilters());
+		final long count = _query(filters, Collections.emptyList(), 0, Integer.MAX_VALUE).count();
+		if (versionProperty == null) {
+			return Collections.singletonList(count);
+		}
+		final Path<?> path = (Path<?>) versionProperty;
+		filters.add(QueryFilter.isNotNull((Path) path));
+		final Object version = _query(filters, Collections.singletonList(QuerySort.of(path, SortDirection.DESCENDING)),
+				0, 1).findOne(PropertySet.of(versionProperty)).map(v -> (Object) v.getValue(versionProperty))
+				.orElse(null);
+		return Arrays.asList(count, version);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#subscribe(com.
+	 * holonplatform.vaadin.flow.data.DatastoreChangeBus,
+	 * com.vaadin.flow.component.UI)
+	 */
+	@Override
+	public Registration subscribe(DatastoreChangeBus changeBus, UI ui) {
+		ObjectUtils.argumentNotNull(changeBus, "Change bus must be not null");
+		return changeBus.subscribe(target, ui, event -> onDataChange(event));
+	}
+
+	/**
+	 * Refresh the items changed according to given change event.
+	 * @param event The change event
+	 */
+	protected void onDataChange(ChangeEvent event) {
+		if (event.getSource().filter(s -> s == this).isPresent()) {
+			return;
+		}
+		final Set<Object> ids = event.getIds();
+		if (event.isAllItems() || ids.size() > MAX_CHANGED_ITEMS_REFRESH) {
+			countStrategy.invalidate();
+			refreshAll();
+			return;
+		}
+		final List<QueryFilter> identifierFilters = new ArrayList<>(ids.size());
+		for (Object id : ids) {
+			final Optional<QueryFilter> identifierFilter = getIdentifierFilter(id);
+			if (!identifierFilter.isPresent()) {
+				countStrategy.invalidate();
+				refreshAll();
+				return;
+			}
+			identifierFilters.add(identifierFilter.get());
+		}
+		final List<QueryFilter> filters = new LinkedList<>(getQueryDefinition().getFilters());
+		QueryFilter.anyOf(identifierFilters).ifPresent(f -> filters.add(f));
+		final List<T> items = _query(filters, Collections.emptyList(), 0, Integer.MAX_VALUE)
+				.stream(getQueryProjection(Collections.emptyList())).map(item -> itemConverter.apply(item))
+				.collect(Collectors.toList());
+		if (items.size() < ids.size()) {
+			// removed or no longer matching items
+			countStrategy.invalidate();
+			refreshAll();
+		} else {
+			items.forEach(item -> refreshItem(item));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#findById(java.lang.
+	 * Object)
+	 */
+	@Override
+	public Optional<T> findById(Object id) {
+		final QueryFilter identifierFilter = getIdentifierFilter(id).orElseThrow(() -> new IllegalStateException(
+				"Cannot resolve the item id [" + id + "] to a query filter: no suitable identifier available"));
+		final List<QueryFilter> filters = new LinkedList<>(getQueryDefinition().getFilters());
+		filters.add(identifierFilter);
+		return _query(filters, Collections.emptyList(), 0, Integer.MAX_VALUE)
+				.findOne(getQueryProjection(Collections.emptyList())).map(item -> itemConverter.apply(item));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getIdentifiersFilter(
+	 * java.util.Collection)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Optional<QueryFilter> getIdentifiersFilter(Collection<?> ids) {
+		ObjectUtils.argumentNotNull(ids, "Item ids must be not null");
+		if (ids.isEmpty()) {
+			return Optional.empty();
+		}
+		final List<QueryFilter> filters = new LinkedList<>();
+		final Path<?> identifierPath = getSingleIdentifierPath(ids);
+		if (identifierPath != null) {
+			final List<?> values = new ArrayList<>(ids);
+			for (int i = 0; i < values.size(); i += MAX_IN_FILTER_VALUES) {
+				filters.add(QueryFilter.in((Path) identifierPath,
+						values.subList(i, Math.min(i + MAX_IN_FILTER_VALUES, values.size()))));
+			}
+		} else {
+			for (Object id : ids) {
+				final Optional<QueryFilter> identifierFilter = getIdentifierFilter(id);
+				if (!identifierFilter.isPresent()) {
+					return Optional.empty();
+				}
+				filters.add(identifierFilter.get());
+			}
+		}
+		return QueryFilter.anyOf(filters);
+	}
+
+	/**
+	 * Get the identifier path of which all the given ids are values, if available.
+	 * @param ids The item ids
+	 * @return The identifier path, <code>null</code> if not available
+	 */
+	private Path<?> getSingleIdentifierPath(Collection<?> ids) {
+		final Path<?> identifierPath = getIdentifierPath().orElse(null);
+		if (identifierPath != null) {
+			for (Object id : ids) {
+				if (id == null || !TypeUtils.isAssignable(id.getClass(), identifierPath.getType())) {
+					return null;
+				}
+			}
+		}
+		return identifierPath;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getIdentifierPath()
+	 */
+	@Override
+	public Optional<Path<?>> getIdentifierPath() {
+		if (itemIdentifierPath != null) {
+			return Optional.of(itemIdentifierPath);
+		}
+		final Set<?> identifiers = propertySet.getIdentifiers();
+		if (identifiers.size() == 1 && identifiers.iterator().next() instanceof Path) {
+			return Optional.of((Path<?>) identifiers.iterator().next());
+		}
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#count(com.
+	 * holonplatform.core.query.QueryFilter)
+	 */
+	@Override
+	public long count(QueryFilter filter) {
+		final List<QueryFilter> filters = new LinkedList<>(getQueryDefinition().getFilters());
+		if (filter != null) {
+			filters.add(filter);
+		}
+		return _query(filters, Collections.emptyList(), 0, Integer.MAX_VALUE).count();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#stream(com.
+	 * holonplatform.core.query.QueryFilter, int)
+	 */
+	@Override
+	public Stream<T> stream(QueryFilter filter, int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size must be greater than 0");
+		}
+		final List<QueryFilter> filters = new LinkedList<>(getQueryDefinition().getFilters());
+		if (filter != null) {
+			filters.add(filter);
+		}
+		final List<QuerySort> sorts = getQuerySorts(null);
+		// stable order across batches
+		propertySet.getIdentifiers().stream().filter(i -> i instanceof Path)
+				.forEach(i -> sorts.add(QuerySort.of((Path<?>) i, SortDirection.ASCENDING)));
+		final PropertySet<?> projection = getQueryProjection(sorts);
+		return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+			private int offset = 0;
+			private boolean last = false;
+			private Iterator<PropertyBox> batch = Collections.emptyIterator();
+
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+				while (!batch.hasNext()) {
+					if (last) {
+						return false;
+					}
+					final List<PropertyBox> items = _query(filters, sorts, offset, batchSize).stream(projection)
+							.collect(Collectors.toList());
+					offset += batchSize;
+					last = items.size() < batchSize;
+					batch = items.iterator();
+				}
+				action.accept(itemConverter.apply(batch.next()));
+				return true;
+			}
+
+		}, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#bulkDelete(com.
+	 * holonplatform.core.query.QueryFilter, boolean)
+	 */
+	@Override
+	public long bulkDelete(QueryFilter filter, boolean allowUnfiltered) {
+		final Optional<QueryFilter> bulkFilter = getBulkOperationFilter(filter);
+		if (!bulkFilter.isPresent() && !allowUnfiltered) {
+			throw new IllegalStateException(
+					"No filter available: refusing to delete all the items of the data target [" + target + "]");
+		}
+		final BulkDelete operation = datastore.bulkDelete(target);
+		bulkFilter.ifPresent(f -> operation.filter(f));
+		final long count = operation.execute().getAffectedCount();
+		countStrategy.invalidate();
+		refreshAll();
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#bulkUpdate(com.
+	 * holonplatform.core.query.QueryFilter, java.util.function.Consumer)
+	 */
+	@Override
+	public long bulkUpdate(QueryFilter filter, Consumer<BulkUpdate> operation) {
+		ObjectUtils.argumentNotNull(operation, "Bulk update operation callback must be not null");
+		final BulkUpdate update = datastore.bulkUpdate(target);
+		operation.accept(update);
+		getBulkOperationFilter(filter).ifPresent(f -> update.filter(f));
+		final long count = update.execute().getAffectedCount();
+		countStrategy.invalidate();
+		refreshAll();
+		return count;
+	}
+
+	/**
+	 * Get the filter to use for a bulk operation, combining the current filters
+	 * (the last query data provider filter and the filters provided by the query
+	 * configuration providers) with given filter.
+	 * @param filter The additional filter, may be <code>null</code>
+	 * @return Optional bulk operation filter
+	 */
+	private Optional<QueryFilter> getBulkOperationFilter(QueryFilter filter) {
+		final List<QueryFilter> filters = resolveQueryFilters(lastQueryFilter);
+		if (filter != null) {
+			filters.add(filter);
+		}
+		return QueryFilter.allOf(filters);
 	}
 
 	/*
@@ -179,6 +683,7 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	public void setFilterConverter(Function<F, QueryFilter> filterConverter) {
 		ObjectUtils.argumentNotNull(filterConverter, "The filter converter function must be not null");
 		this.filterConverter = filterConverter;
+		invalidateQueryDefinition();
 	}
 
 	/*
@@ -203,6 +708,7 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	public void addQueryConfigurationProvider(QueryConfigurationProvider queryConfigurationProvider) {
 		ObjectUtils.argumentNotNull(queryConfigurationProvider, "QueryConfigurationProvider must be not null");
 		this.queryConfigurationProviders.add(queryConfigurationProvider);
+		invalidateQueryDefinition();
 	}
 
 	/*
@@ -249,6 +755,7 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	public void setQuerySortOrderConverter(Function<QuerySortOrder, QuerySort> querySortOrderConverter) {
 		ObjectUtils.argumentNotNull(querySortOrderConverter, "QuerySortOrder converter function must be not null");
 		this.querySortOrderConverter = querySortOrderConverter;
+		invalidateQueryDefinition();
 	}
 
 	@Override
@@ -259,78 +766,685 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	@Override
 	public void setAdditionalItemsProvider(AdditionalItemsProvider<T> additionalItemsProvider) {
 		this.additionalItemsProvider = additionalItemsProvider;
+		this.additionalItems = null;
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see com.vaadin.flow.data.provider.DataProvider#isInMemory()
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getPageCacheSize()
 	 */
 	@Override
-	public boolean isInMemory() {
-		return false;
+	public int getPageCacheSize() {
+		return pageCacheSize;
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see com.vaadin.flow.data.provider.DataProvider#getId(java.lang.Object)
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#setPageCacheSize(
+	 * int)
 	 */
 	@Override
-	public Object getId(T item) {
-		if (getItemIdentifier().isPresent()) {
-			return getItemIdentifier().get().apply(item);
+	public synchronized void setPageCacheSize(int pageCacheSize) {
+		if (pageCacheSize < 0) {
+			throw new IllegalArgumentException("The page cache size must be greater or equal to 0");
 		}
-		return super.getId(item);
+		this.pageCacheSize = pageCacheSize;
+		this.pageCache = null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#
+	 * getPageCacheStatistics()
+	 */
 	@Override
-	public Optional<QueryFilter> getQueryFilter() {
-		final List<QueryFilter> filters = new LinkedList<>();
-		queryConfigurationProviders.forEach(p -> {
-			QueryFilter qf = p.getQueryFilter();
-			if (qf != null) {
-				filters.add(qf);
-			}
-		});
-		return QueryFilter.allOf(filters);
+	public CacheStatistics getPageCacheStatistics() {
+		return getPageCache().map(c -> c.getStatistics()).orElse(CacheStatistics.disabled());
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * com.vaadin.flow.data.provider.AbstractBackEndDataProvider#fetchFromBackEnd(
-	 * com.vaadin.flow.data.provider.Query)
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getCountStrategy()
 	 */
 	@Override
-	protected Stream<T> fetchFromBackEnd(Query<T, F> query) {
-		final List<T> additional = _fetchAdditional();
-		if (!additional.isEmpty()) {
-			int additionalSize = additional.size();
-			if (query.getLimit() < Integer.MAX_VALUE && additionalSize > query.getLimit()) {
-				additionalSize = query.getLimit();
-			}
-			// check page
-			if (query.getLimit() < Integer.MAX_VALUE) {
-				if (query.getOffset() == 0) {
-					return Stream.concat(additional.stream(), _fetch(modifyQuery(query, -additionalSize, 0)));
-				} else {
-					return _fetch(modifyQuery(query, 0, -additionalSize));
-				}
-			}
-			return Stream.concat(additional.stream(), _fetch(query));
-		}
-		return _fetch(query);
-	}
-
-	private Stream<T> _fetch(Query<T, F> query) {
-		return _query(query, true).stream(propertySet).map(item -> itemConverter.apply(item));
+	public DatastoreCountStrategy getCountStrategy() {
+		return countStrategy;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#setCountStrategy(
+	 * com.holonplatform.vaadin.flow.data.DatastoreCountStrategy)
+	 */
+	@Override
+	public void setCountStrategy(DatastoreCountStrategy countStrategy) {
+		ObjectUtils.argumentNotNull(countStrategy, "Count strategy must be not null");
+		this.countStrategy = countStrategy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#isKeysetPagination()
+	 */
+	@Override
+	public boolean isKeysetPagination() {
+		return keysetPagination;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#setKeysetPagination(
+	 * boolean)
+	 */
+	@Override
+	public synchronized void setKeysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+		this.keysetBoundaries = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getAsyncExecutor()
+	 */
+	@Override
+	public Optional<Executor> getAsyncExecutor() {
+		return Optional.ofNullable(asyncExecutor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#setAsyncExecutor(
+	 * java.util.concurrent.Executor)
+	 */
+	@Override
+	public synchronized void setAsyncExecutor(Executor executor) {
+		this.asyncExecutor = executor;
+		this.asyncOperations = null;
+		updateLoadingState();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#isLoading()
+	 */
+	@Override
+	public boolean isLoading() {
+		return getAsyncOperations().map(o -> o.isLoading()).orElse(false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#
+	 * addLoadingStateListener(com.holonplatform.vaadin.flow.data.
+	 * DatastoreDataProvider.LoadingStateListener)
+	 */
+	@Override
+	public Registration addLoadingStateListener(LoadingStateListener listener) {
+		ObjectUtils.argumentNotNull(listener, "LoadingStateListener must be not null");
+		loadingStateListeners.add(listener);
+		return () -> loadingStateListeners.remove(listener);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#
+	 * addFetchListener(com.holonplatform.vaadin.flow.data.DatastoreDataProvider.
+	 * FetchListener)
+	 */
+	@Override
+	public Registration addFetchListener(FetchListener<T> listener) {
+		ObjectUtils.argumentNotNull(listener, "FetchListener must be not null");
+		fetchListeners.add(listener);
+		return () -> fetchListeners.remove(listener);
+	}
+
+	/**
+	 * Check whether the loading state changed since the last notification and
+	 * notify the registered {@link LoadingStateListener}s if so.
+	 */
+	protected void updateLoadingState() {
+		final boolean currentlyLoading = isLoading();
+		if (currentlyLoading != loading) {
+			loading = currentlyLoading;
+			loadingStateListeners.forEach(l -> l.onLoadingStateChange(currentlyLoading));
+		}
+	}
+
+	/**
+	 * Get the path index of the data provider property set.
+	 * @return The property set path index
+	 */
+	protected PropertySetPathIndex getPathIndex() {
+		if (pathIndex == null) {
+			pathIndex = PropertySetPathIndex.of(propertySet);
+		}
+		return pathIndex;
+	}
+
+	/**
+	 * Get the asynchronous operations state, if the asynchronous mode is enabled.
+	 * @return Optional asynchronous operations state
+	 */
+	protected synchronized Optional<AsyncOperations> getAsyncOperations() {
+		if (asyncExecutor != null && asyncOperations == null) {
+			asyncOperations = new AsyncOperations();
+		}
+		return Optional.ofNullable(asyncOperations);
+	}
+
+	/**
+	 * Get the {@link UI} to which the asynchronous operations results have to be
+	 * delivered, if the asynchronous mode is enabled and the current thread is a UI
+	 * thread.
+	 * @return Optional current UI
+	 */
+	private Optional<UI> getAsyncUI() {
+		if (asyncExecutor != null) {
+			return Optional.ofNullable(UI.getCurrent());
+		}
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getReadAheadPages()
+	 */
+	@Override
+	public int getReadAheadPages() {
+		return readAheadPages;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#setReadAhead(int,
+	 * java.util.concurrent.Executor)
+	 */
+	@Override
+	public synchronized void setReadAhead(int pages, Executor executor) {
+		if (pages < 0) {
+			throw new IllegalArgumentException("The read-ahead pages must be greater or equal to 0");
+		}
+		if (pages > 0) {
+			ObjectUtils.argumentNotNull(executor, "Read-ahead executor must be not null");
+		}
+		if (readAhead != null) {
+			readAhead.cancel();
+		}
+		this.readAheadPages = pages;
+		this.readAheadExecutor = executor;
+		this.readAhead = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#
+	 * getReadAheadStatistics()
+	 */
+	@Override
+	public CacheStatistics getReadAheadStatistics() {
+		return getReadAhead().map(r -> r.getStatistics()).orElse(CacheStatistics.disabled());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getQueryProjection()
+	 */
+	@Override
+	public Optional<PropertySet<?>> getQueryProjection() {
+		return Optional.ofNullable(queryProjection);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.holonplatform.vaadin.flow.data.DatastoreDataProvider#setQueryProjection(
+	 * com.holonplatform.core.property.PropertySet)
+	 */
+	@Override
+	public void setQueryProjection(PropertySet<?> projection) {
+		this.queryProjection = projection;
+		// discard the pages loaded using the previous projection
+		clearCachedPages();
+		getReadAhead().ifPresent(r -> r.cancel());
+		getAsyncOperations().ifPresent(o -> o.invalidatePages());
+		updateLoadingState();
+	}
+
+	/**
+	 * Get the property set to use as query projection with given query sorts.
+	 * <p>
+	 * If a query projection was configured, the property set identifiers and the
+	 * properties used by given sorts are included in the projection. Otherwise, the
+	 * data provider property set is returned.
+	 * </p>
+	 * @param sorts The query sorts
+	 * @return The query projection
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected PropertySet<?> getQueryProjection(List<QuerySort> sorts) {
+		final PropertySet<?> projection = queryProjection;
+		if (projection == null) {
+			return propertySet;
+		}
+		final Set<String> sortNames = new HashSet<>();
+		sorts.forEach(sort -> collectSortPathNames(sort, sortNames));
+		final Set<?> identifiers = propertySet.getIdentifiers();
+		final PropertySet.Builder builder = PropertySet.builder();
+		for (Property<?> property : propertySet) {
+			if (projection.contains(property) || identifiers.contains(property)
+					|| (property instanceof Path && sortNames.contains(((Path<?>) property).getName()))) {
+				builder.add(property);
+			}
+		}
+		identifiers.forEach(identifier -> builder.withIdentifier((Property) identifier));
+		return builder.build();
+	}
+
+	/**
+	 * Collect the names of the paths used by given query sort.
+	 * @param sort  The query sort
+	 * @param names The names set to update
+	 */
+	private static void collectSortPathNames(QuerySort sort, Set<String> names) {
+		if (sort instanceof CompositeQuerySort) {
+			((CompositeQuerySort) sort).getSorts().forEach(s -> collectSortPathNames(s, names));
+		} else if (sort instanceof PathQuerySort) {
+			names.add(((PathQuerySort<?>) sort).getPath().getName());
+		}
+	}
+
+	/**
+	 * Get the read-ahead state, if read-ahead is enabled.
+	 * @return Optional read-ahead state
+	 */
+	protected synchronized Optional<ReadAhead> getReadAhead() {
+		if (readAheadPages > 0 && readAheadExecutor != null && readAhead == null) {
+			readAhead = new ReadAhead(readAheadPages * 2 + 1);
+		}
+		return Optional.ofNullable(readAhead);
+	}
+
+	/**
+	 * Get the page cache, if enabled.
+	 * @return Optional page cache
+	 */
+	protected synchronized Optional<BoundedCache<PageKey, List<T>>> getPageCache() {
+		if (pageCacheSize > 0 && pageCache == null) {
+			pageCache = new BoundedCache<>(pageCacheSize);
+		}
+		return Optional.ofNullable(pageCache);
+	}
+
+	/**
+	 * Clear the page cache, if enabled.
+	 */
+	protected void clearPageCache() {
+		getPageCache().ifPresent(c -> c.clear());
+	}
+
+	/**
+	 * Get the keyset pagination page boundaries, if the keyset pagination mode is
+	 * enabled.
+	 * @return Optional keyset page boundaries
+	 */
+	protected synchronized Optional<KeysetBoundaries> getKeysetBoundaries() {
+		if (keysetPagination && keysetBoundaries == null) {
+			keysetBoundaries = new KeysetBoundaries(KeysetBoundaries.DEFAULT_MAX_SIZE);
+		}
+		return Optional.ofNullable(keysetBoundaries);
+	}
+
+	/**
+	 * Clear the page cache and the keyset page boundaries, if any.
+	 */
+	private void clearCachedPages() {
+		clearPageCache();
+		getKeysetBoundaries().ifPresent(b -> b.clear());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.vaadin.flow.data.provider.AbstractDataProvider#refreshAll()
+	 */
+	@Override
+	public void refreshAll() {
+		invalidateQueryDefinition();
+		clearCachedData();
+		super.refreshAll();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#clearCaches()
+	 */
+	@Override
+	public void clearCaches() {
+		countStrategy.invalidate();
+		clearCachedData();
+	}
+
+	/**
+	 * Discard the cached data, except for the count values retained by the count strategy, which are discarded only
+	 * when the data is known to be changed (see {@link #clearCaches()}).
+	 */
+	private void clearCachedData() {
+		additionalItems = null;
+		clearCachedPages();
+		getReadAhead().ifPresent(r -> r.cancel());
+		getAsyncOperations().ifPresent(o -> o.reload(false));
+		updateLoadingState();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.vaadin.flow.data.provider.AbstractDataProvider#refreshItem(java.lang.
+	 * Object)
+	 */
+	@Override
+	public void refreshItem(T item) {
+		clearCachedPages();
+		getReadAhead().ifPresent(r -> r.cancel());
+		getAsyncOperations().ifPresent(o -> o.reload(true));
+		updateLoadingState();
+		super.refreshItem(item);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.vaadin.flow.data.provider.AbstractDataProvider#refreshItem(java.lang.
+	 * Object, boolean)
+	 */
+	@Override
+	public void refreshItem(T item, boolean refreshChildren) {
+		clearCachedPages();
+		getReadAhead().ifPresent(r -> r.cancel());
+		getAsyncOperations().ifPresent(o -> o.reload(true));
+		updateLoadingState();
+		super.refreshItem(item, refreshChildren);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.vaadin.flow.data.provider.DataProvider#isInMemory()
+	 */
+	@Override
+	public boolean isInMemory() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.vaadin.flow.data.provider.DataProvider#getId(java.lang.Object)
+	 */
+	@Override
+	public Object getId(T item) {
+		if (getItemIdentifier().isPresent()) {
+			return getItemIdentifier().get().apply(item);
+		}
+		return super.getId(item);
+	}
+
+	@Override
+	public Optional<QueryFilter> getQueryFilter() {
+		return QueryFilter.allOf(getQueryDefinition().getFilters());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreDataProvider#getCurrentFilter()
+	 */
+	@Override
+	public Optional<QueryFilter> getCurrentFilter() {
+		return QueryFilter.allOf(resolveQueryFilters(lastQueryFilter));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.vaadin.flow.data.provider.AbstractBackEndDataProvider#fetchFromBackEnd(
+	 * com.vaadin.flow.data.provider.Query)
+	 */
+	@Override
+	protected Stream<T> fetchFromBackEnd(Query<T, F> query) {
+		lastQueryFilter = query.getFilter().orElse(null);
+		if (fetchListeners.isEmpty()) {
+			return _fetchWithAdditional(query);
+		}
+		final List<T> items = Collections
+				.unmodifiableList(_fetchWithAdditional(query).collect(Collectors.toList()));
+		if (!items.isEmpty()) {
+			fetchListeners.forEach(l -> l.onItemsFetched(items));
+		}
+		return items.stream();
+	}
+
+	private Stream<T> _fetchWithAdditional(Query<T, F> query) {
+		final List<T> additional = _fetchAdditional();
+		if (!additional.isEmpty()) {
+			int additionalSize = additional.size();
+			if (query.getLimit() < Integer.MAX_VALUE && additionalSize > query.getLimit()) {
+				additionalSize = query.getLimit();
+			}
+			// check page
+			if (query.getLimit() < Integer.MAX_VALUE) {
+				if (query.getOffset() == 0) {
+					return Stream.concat(additional.stream(), _fetch(modifyQuery(query, -additionalSize, 0)));
+				} else {
+					return _fetch(modifyQuery(query, 0, -additionalSize));
+				}
+			}
+			return Stream.concat(additional.stream(), _fetch(query));
+		}
+		return _fetch(query);
+	}
+
+	private Stream<T> _fetch(Query<T, F> query) {
+		if (query.getLimit() < Integer.MAX_VALUE) {
+			// check asynchronous mode
+			final Optional<UI> ui = getAsyncUI();
+			if (ui.isPresent()) {
+				return _fetchAsync(ui.get(), query);
+			}
+			// check read-ahead
+			final Optional<ReadAhead> readAhead = getReadAhead();
+			if (readAhead.isPresent()) {
+				return _fetchWithReadAhead(readAhead.get(), query);
+			}
+		}
+		return _fetchPage(query);
+	}
+
+	private Stream<T> _fetchPage(Query<T, F> query) {
+		// check page cache
+		if (query.getLimit() < Integer.MAX_VALUE) {
+			final Optional<BoundedCache<PageKey, List<T>>> cache = getPageCache();
+			if (cache.isPresent()) {
+				final PageKey key = new PageKey(getQueryFilters(query), getQuerySortKeys(query),
+						getQueryDefinition().getParameters(), query.getOffset(), query.getLimit());
+				final Optional<List<T>> cached = cache.get().get(key);
+				if (cached.isPresent()) {
+					return cached.get().stream();
+				}
+				final List<T> page = _fetchFromDatastore(query).collect(Collectors.toList());
+				cache.get().put(key, page);
+				return page.stream();
+			}
+		}
+		return _fetchFromDatastore(query);
+	}
+
+	/**
+	 * Fetch a query page, serving it from the read-ahead buffer if available, and
+	 * schedule the read-ahead of the adjacent pages.
+	 * @param readAhead The read-ahead state
+	 * @param query     The data provider query
+	 * @return The query page
+	 */
+	private Stream<T> _fetchWithReadAhead(ReadAhead readAhead, Query<T, F> query) {
+		final List<QueryFilter> filters = getQueryFilters(query);
+		final List<Object> sortKeys = getQuerySortKeys(query);
+		final long generation = readAhead.checkContext(getQueryContext(filters, sortKeys));
+		final List<T> page = readAhead
+				.get(new PageKey(filters, sortKeys, getQueryDefinition().getParameters(), query.getOffset(),
+						query.getLimit()))
+				.orElseGet(() -> _fetchPage(query).collect(Collectors.toList()));
+		// read-ahead adjacent pages
+		final List<QuerySort> sorts = getQuerySorts(query);
+		final PropertySet<?> projection = getQueryProjection(sorts);
+		final int direction = readAhead.getDirection(query.getOffset());
+		for (int i = 1; i <= readAheadPages; i++) {
+			final int offset = query.getOffset() + (direction * i * query.getLimit());
+			if (offset < 0) {
+				break;
+			}
+			final PageKey key = new PageKey(filters, sortKeys, getQueryDefinition().getParameters(), offset,
+					query.getLimit());
+			final com.holonplatform.core.query.Query q = _query(filters, sorts, offset, query.getLimit());
+			final FutureTask<Void> task = new FutureTask<>(() -> {
+				if (readAhead.isCurrent(generation)) {
+					try {
+						readAhead.complete(generation, key, q.stream(projection)
+								.map(item -> itemConverter.apply(item)).collect(Collectors.toList()));
+					} catch (RuntimeException e) {
+						LOGGER.debug("Page read-ahead failed", e);
+						readAhead.fail(generation, key);
+					}
+				}
+			}, null);
+			if (readAhead.schedule(generation, key, task)) {
+				try {
+					readAheadExecutor.execute(task);
+				} catch (RejectedExecutionException e) {
+					LOGGER.debug("Page read-ahead rejected by the executor", e);
+					readAhead.fail(generation, key);
+				}
+			}
+		}
+		return page.stream();
+	}
+
+	private Stream<T> _fetchFromDatastore(Query<T, F> query) {
+		final List<QuerySort> sorts = getQuerySorts(query);
+		// check keyset pagination
+		if (query.getLimit() < Integer.MAX_VALUE) {
+			final Optional<KeysetBoundaries> boundaries = getKeysetBoundaries();
+			if (boundaries.isPresent()) {
+				final Optional<List<KeysetSort>> keysetSorts = getKeysetSorts(sorts);
+				if (keysetSorts.isPresent()) {
+					return _fetchWithKeyset(query, sorts, keysetSorts.get(), boundaries.get()).stream()
+							.map(item -> itemConverter.apply(item));
+				}
+			}
+		}
+		return _query(getQueryFilters(query), sorts, query.getOffset(), query.getLimit())
+				.stream(getQueryProjection(sorts)).map(item -> itemConverter.apply(item));
+	}
+
+	/**
+	 * Fetch a query page using the keyset pagination mode: the closest known page
+	 * boundary which precedes the requested offset is used as a seek filter, and
+	 * only the remaining rows, if any, are skipped using the query offset.
+	 * @param query       The data provider query
+	 * @param sorts       The query sorts
+	 * @param keysetSorts The keyset sorts, including the identifier sorts
+	 * @param boundaries  The keyset page boundaries
+	 * @return The query results
+	 */
+	private List<PropertyBox> _fetchWithKeyset(Query<T, F> query, List<QuerySort> sorts,
+			List<KeysetSort> keysetSorts, KeysetBoundaries boundaries) {
+		final List<QueryFilter> filters = getQueryFilters(query);
+		final List<Object> context = getQueryContext(filters, getQuerySortKeys(query));
+
+		final List<QueryFilter> queryFilters = new LinkedList<>(filters);
+		int offset = query.getOffset();
+		final Optional<Map.Entry<Integer, List<Object>>> boundary = boundaries.floor(context, offset);
+		if (boundary.isPresent()) {
+			queryFilters.add(seekFilter(keysetSorts, boundary.get().getValue()));
+			offset = offset - boundary.get().getKey();
+		}
+
+		final List<QuerySort> querySorts = new LinkedList<>(sorts);
+		keysetSorts.stream().filter(ks -> ks.isIdentifier()).forEach(ks -> querySorts.add(ks.getSort()));
+
+		final List<PropertyBox> results = _query(queryFilters, querySorts, offset, query.getLimit())
+				.stream(getQueryProjection(querySorts)).collect(Collectors.toList());
+
+		// register the next page boundary
+		if (!results.isEmpty()) {
+			final PropertyBox last = results.get(results.size() - 1);
+			final List<Object> values = new ArrayList<>(keysetSorts.size());
+			for (KeysetSort keysetSort : keysetSorts) {
+				final Object value = last.contains(keysetSort.getProperty()) ? last.getValue(keysetSort.getProperty())
+						: null;
+				if (value == null) {
+					return results;
+				}
+				values.add(value);
+			}
+			boundaries.put(context, query.getOffset() + results.size(), values);
+		}
+		return results;
+	}
+
+	/**
+	 * Get the additional items, if an {@link AdditionalItemsProvider} is
+	 * available.
+	 * <p>
+	 * The additional items are obtained once per refresh cycle and shared by the
+	 * count and fetch operations, until {@link #refreshAll()} is invoked.
+	 * </p>
+	 * @return The additional items, empty if none
+	 */
 	private List<T> _fetchAdditional() {
-		return getAdditionalItemsProvider().map(p -> p.getAdditionalItems(datastore, target, propertySet))
-				.orElse(Collections.emptyList());
+		final AdditionalItemsProvider<T> provider = additionalItemsProvider;
+		if (provider == null) {
+			return Collections.emptyList();
+		}
+		List<T> items = additionalItems;
+		if (items == null) {
+			final List<T> provided = provider.getAdditionalItems(datastore, target, propertySet);
+			items = (provided != null) ? Collections.unmodifiableList(new ArrayList<>(provided))
+					: Collections.emptyList();
+			additionalItems = items;
+		}
+		return items;
 	}
 
 	private static <QT, QF> Query<QT, QF> modifyQuery(Query<QT, QF> query, int limit, int offset) {
@@ -347,142 +1461,1039 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 	 */
 	@Override
 	protected int sizeInBackEnd(Query<T, F> query) {
-		return Long.valueOf(_query(query, false).count()).intValue() + _sizeAdditional(query);
+		lastQueryFilter = query.getFilter().orElse(null);
+		final DataProviderCountRequest request = new DataProviderCountRequest(getQueryFilters(query));
+		final Optional<UI> ui = getAsyncUI();
+		final long count = ui.isPresent() ? _countAsync(ui.get(), query, request) : countStrategy.count(request);
+		return Long.valueOf(count).intValue() + _sizeAdditional(query);
+	}
+
+	// ------- Asynchronous operations
+
+	/**
+	 * Fetch a query page asynchronously: if the page was already loaded it is
+	 * returned, otherwise the page loading is started and the previously loaded
+	 * version of the page, if any, or an empty page is returned.
+	 * @param ui    The UI to which to deliver the results
+	 * @param query The data provider query
+	 * @return The loaded page, the previously loaded page or an empty stream if not
+	 *         available yet
+	 */
+	private Stream<T> _fetchAsync(UI ui, Query<T, F> query) {
+		final AsyncOperations operations = getAsyncOperations().orElseThrow(
+				() -> new IllegalStateException("The asynchronous mode is not enabled"));
+		final List<QueryFilter> filters = getQueryFilters(query);
+		final List<Object> sortKeys = getQuerySortKeys(query);
+		final long generation = operations.checkContext(getQueryContext(filters, sortKeys));
+		final PageKey key = new PageKey(filters, sortKeys, getQueryDefinition().getParameters(), query.getOffset(),
+				query.getLimit());
+		final Optional<List<T>> page = operations.getPage(key);
+		if (page.isPresent()) {
+			return page.get().stream();
+		}
+		if (operations.startPage(key)) {
+			// build the query in the UI thread and execute it asynchronously
+			final List<QuerySort> sorts = getQuerySorts(query);
+			final PropertySet<?> projection = getQueryProjection(sorts);
+			final com.holonplatform.core.query.Query q = _query(filters, sorts, query.getOffset(), query.getLimit());
+			executeAsync(ui, generation,
+					() -> q.stream(projection).map(item -> itemConverter.apply(item)).collect(Collectors.toList()),
+					items -> operations.completePage(generation, key, items),
+					() -> operations.failPage(generation, key));
+		}
+		updateLoadingState();
+		return operations.getStalePage(key).map(items -> items.stream()).orElseGet(() -> Stream.empty());
+	}
+
+	/**
+	 * Count the items asynchronously: if the count was already loaded it is
+	 * returned, otherwise the count is started and the last known count is
+	 * returned.
+	 * @param ui      The UI to which to deliver the results
+	 * @param query   The data provider query
+	 * @param request The count request
+	 * @return The items count, or the last known count if not available yet
+	 */
+	private long _countAsync(UI ui, Query<T, F> query, DataProviderCountRequest request) {
+		final AsyncOperations operations = getAsyncOperations().orElseThrow(
+				() -> new IllegalStateException("The asynchronous mode is not enabled"));
+		final long generation = operations
+				.checkContext(getQueryContext(request.getFilters(), getQuerySortKeys(query)));
+		final Optional<Long> count = operations.getCount();
+		if (count.isPresent()) {
+			return count.get();
+		}
+		if (operations.startCount()) {
+			final DatastoreCountStrategy strategy = countStrategy;
+			executeAsync(ui, generation, () -> strategy.count(request),
+					value -> operations.completeCount(generation, value), () -> operations.failCount(generation));
+		}
+		updateLoadingState();
+		return operations.getLastCount();
+	}
+
+	/**
+	 * Execute given operation using the asynchronous operations executor and
+	 * deliver the result to given UI.
+	 * <p>
+	 * When the result is accepted and no other operation is pending, a single data
+	 * change event is fired, so that the UI components request the loaded count
+	 * and pages, which are then served without querying the Datastore again. The
+	 * operation is not executed, and its result is discarded, if the operation was
+	 * superseded by another one before its execution or completion.
+	 * </p>
+	 * @param <R>        Result type
+	 * @param ui         The UI to which to deliver the result
+	 * @param generation The asynchronous operations generation
+	 * @param operation  The operation to execute
+	 * @param onResult   The result handler, which returns <code>true</code> if the
+	 *                   result was accepted
+	 * @param onFailure  The callback to invoke if the operation failed
+	 */
+	private <R> void executeAsync(UI ui, long generation, Supplier<R> operation, Function<R, Boolean> onResult,
+			Runnable onFailure) {
+		final AsyncOperations operations = asyncOperations;
+		checkAsyncDelivery(ui);
+		try {
+			asyncExecutor.execute(() -> {
+				if (!operations.isCurrent(generation)) {
+					// superseded
+					return;
+				}
+				try {
+					final R result = operation.get();
+					access(ui, () -> {
+						if (onResult.apply(result) && !operations.isLoading()) {
+							fireEvent(new DataChangeEvent<>(this));
+						}
+						updateLoadingState();
+					});
+				} catch (RuntimeException e) {
+					LOGGER.error("Asynchronous data provider operation failed", e);
+					access(ui, () -> {
+						onFailure.run();
+						updateLoadingState();
+					});
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			LOGGER.error("Asynchronous data provider operation rejected by the executor", e);
+			onFailure.run();
+		}
+	}
+
+	/**
+	 * Check whether the asynchronous results can be delivered to given UI without
+	 * waiting for the next client round-trip, i.e. whether server push or polling
+	 * is enabled, logging a warning once if not.
+	 * @param ui The UI
+	 */
+	private void checkAsyncDelivery(UI ui) {
+		if (!asyncDeliveryChecked) {
+			asyncDeliveryChecked = true;
+			if (!ui.getPushConfiguration().getPushMode().isEnabled() && ui.getPollInterval() <= 0) {
+				LOGGER.warn("Asynchronous data provider mode is enabled but the UI has neither server push nor "
+						+ "polling enabled: the loaded data will only be displayed at the next client request");
+			}
+		}
+	}
+
+	/**
+	 * Run given command in the context of given UI, ignoring it if the UI is
+	 * detached.
+	 * @param ui      The UI
+	 * @param command The command to run
+	 */
+	private static void access(UI ui, Command command) {
+		try {
+			ui.access(command);
+		} catch (UIDetachedException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Get the query context, which identifies the query filters, sorts and
+	 * parameters, to which the read-ahead, asynchronous and keyset pagination
+	 * states are bound.
+	 * @param filters  The query filters
+	 * @param sortKeys The query sort keys
+	 * @return The context values
+	 */
+	private List<Object> getQueryContext(List<QueryFilter> filters, List<Object> sortKeys) {
+		final List<Object> context = new ArrayList<>(filters.size() + sortKeys.size() + 1);
+		context.addAll(filters);
+		context.addAll(sortKeys);
+		context.add(getQueryDefinition().getParameters());
+		return context;
+	}
+
+	private int _sizeAdditional(Query<T, F> query) {
+		final int size = _fetchAdditional().size();
+		if (query.getLimit() < Integer.MAX_VALUE && size > query.getLimit()) {
+			return query.getLimit();
+		}
+		return size;
+	}
+
+	/**
+	 * Build a {@link Query} using the Datastore and configure it with the query
+	 * filters and sorts.
+	 * @param query     The data provider query
+	 * @param withSorts Whether to apply the query sorts, if any
+	 * @return A new Datastore query
+	 */
+	protected com.holonplatform.core.query.Query _query(Query<?, F> query, boolean withSorts) {
+		return _query(getQueryFilters(query), withSorts ? getQuerySorts(query) : Collections.emptyList(),
+				(query != null) ? query.getOffset() : 0, (query != null) ? query.getLimit() : Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Build a {@link Query} using the Datastore and configure it with given filters,
+	 * sorts and paging.
+	 * @param filters The query filters
+	 * @param sorts   The query sorts
+	 * @param offset  The query offset
+	 * @param limit   The query limit, {@link Integer#MAX_VALUE} for no limit
+	 * @return A new Datastore query
+	 */
+	private com.holonplatform.core.query.Query _query(List<QueryFilter> filters, List<QuerySort> sorts, int offset,
+			int limit) {
+
+		// build a new query using configured target
+		com.holonplatform.core.query.Query q = datastore.query(target);
+
+		// filters
+		QueryFilter.allOf(filters).ifPresent(f -> q.filter(f));
+
+		// sorts
+		if (!sorts.isEmpty()) {
+			q.sort(QuerySort.of(sorts));
+		}
+
+		// parameters
+		getQueryDefinition().getParameters().forEach((n, v) -> q.parameter(n, v));
+
+		// paging
+		if (limit < Integer.MAX_VALUE) {
+			q.limit(limit);
+			q.offset(offset);
+		}
+
+		return q;
+	}
+
+	/**
+	 * Get the query filters to apply for given data provider query, including the
+	 * ones provided by the query configuration providers.
+	 * @param query The data provider query
+	 * @return The query filters, empty if none
+	 */
+	protected List<QueryFilter> getQueryFilters(Query<?, F> query) {
+		return resolveQueryFilters((query != null) ? query.getFilter().orElse(null) : null);
+	}
+
+	/**
+	 * Get the query filters to apply for given data provider filter, including the
+	 * ones provided by the query configuration providers.
+	 * @param filter The data provider filter, may be <code>null</code>
+	 * @return The query filters, empty if none
+	 */
+	private List<QueryFilter> resolveQueryFilters(F filter) {
+		final QueryDefinition definition = getQueryDefinition();
+		final List<QueryFilter> filters = new LinkedList<>();
+
+		// data provider filter
+		if (filter != null) {
+			definition.convertFilter(filter).ifPresent(f -> filters.add(f));
+		}
+
+		// provided filters
+		filters.addAll(definition.getFilters());
+
+		return filters;
+	}
+
+	/**
+	 * Get the query sorts to apply for given data provider query, including the
+	 * default sort and the ones provided by the query configuration providers.
+	 * @param query The data provider query
+	 * @return The query sorts, empty if none
+	 */
+	protected List<QuerySort> getQuerySorts(Query<?, F> query) {
+		final QueryDefinition definition = getQueryDefinition();
+		final List<QuerySort> sorts = new LinkedList<>();
+
+		// data provider sorts
+		if (query != null) {
+			List<QuerySortOrder> orders = query.getSortOrders();
+			if (orders != null && !orders.isEmpty()) {
+				sorts.addAll(definition.convertSortOrders(orders));
+			}
+		}
+
+		// default sort
+		if (sorts.isEmpty()) {
+			getDefaultSort().ifPresent(ds -> sorts.add(ds));
+		}
+
+		// provided sorts
+		sorts.addAll(definition.getSorts());
+
+		return sorts;
+	}
+
+	/**
+	 * Get the values which identify the sorts of given data provider query, to be
+	 * used as page cache key.
+	 * @param query The data provider query
+	 * @return The sort key values
+	 */
+	private List<Object> getQuerySortKeys(Query<?, F> query) {
+		final List<Object> keys = new LinkedList<>();
+		final List<QuerySortOrder> orders = query.getSortOrders();
+		if (orders != null && !orders.isEmpty()) {
+			keys.addAll(getSortOrderKeys(orders));
+		} else {
+			getDefaultSort().ifPresent(ds -> keys.add(ds));
+		}
+		keys.addAll(getQueryDefinition().getSorts());
+		return keys;
+	}
+
+	/**
+	 * Get the values which identify given sort orders.
+	 * @param orders The sort orders
+	 * @return The sort order key values
+	 */
+	private static List<Object> getSortOrderKeys(List<QuerySortOrder> orders) {
+		final List<Object> keys = new ArrayList<>(orders.size());
+		orders.forEach(order -> keys.add(order.getSorted() + ":" + order.getDirection()));
+		return keys;
+	}
+
+	// ------- Query definition snapshot
+
+	/**
+	 * Get the current query definition snapshot, creating it if not available.
+	 * <p>
+	 * The query definition snapshot holds the filters, sorts and parameters
+	 * provided by the registered {@link QueryConfigurationProvider}s, along with
+	 * the last converted data provider filter and sort orders. It is reused by the
+	 * count and fetch operations until {@link #refreshAll()} is invoked or the
+	 * data provider query configuration changes.
+	 * </p>
+	 * @return The query definition snapshot
+	 */
+	protected QueryDefinition getQueryDefinition() {
+		QueryDefinition definition = queryDefinition;
+		if (definition == null) {
+			definition = new QueryDefinition();
+			queryDefinition = definition;
+		}
+		return definition;
+	}
+
+	/**
+	 * Discard the current query definition snapshot, if any.
+	 */
+	protected void invalidateQueryDefinition() {
+		queryDefinition = null;
+	}
+
+	// ------- Keyset pagination
+
+	/**
+	 * Get the keyset sorts which correspond to given query sorts, appending the
+	 * property set identifiers, if not already sorted, to obtain a stable sort
+	 * order.
+	 * @param sorts The query sorts
+	 * @return The keyset sorts, empty if the keyset pagination mode cannot be used
+	 *         with given sorts
+	 */
+	private Optional<List<KeysetSort>> getKeysetSorts(List<QuerySort> sorts) {
+		final List<KeysetSort> keysetSorts = new LinkedList<>();
+		for (QuerySort sort : sorts) {
+			if (!addKeysetSorts(sort, keysetSorts)) {
+				return Optional.empty();
+			}
+		}
+		final Set<?> identifiers = propertySet.getIdentifiers();
+		if (identifiers.isEmpty()) {
+			return Optional.empty();
+		}
+		for (Object identifier : identifiers) {
+			if (!(identifier instanceof Path)) {
+				return Optional.empty();
+			}
+			final Path<?> path = (Path<?>) identifier;
+			if (keysetSorts.stream().noneMatch(ks -> path.getName().equals(ks.getProperty().getName()))) {
+				final Optional<Property<?>> property = getPathIndex().getProperty(path.getName());
+				if (!property.isPresent()) {
+					return Optional.empty();
+				}
+				keysetSorts.add(new KeysetSort(QuerySort.of(path, SortDirection.ASCENDING), property.get(),
+						SortDirection.ASCENDING, true));
+			}
+		}
+		return Optional.of(keysetSorts);
+	}
+
+	/**
+	 * Add the keyset sorts which correspond to given query sort.
+	 * @param sort        The query sort
+	 * @param keysetSorts The keyset sorts list to update
+	 * @return <code>false</code> if the query sort is not supported by the keyset
+	 *         pagination mode
+	 */
+	private boolean addKeysetSorts(QuerySort sort, List<KeysetSort> keysetSorts) {
+		if (sort instanceof CompositeQuerySort) {
+			for (QuerySort s : ((CompositeQuerySort) sort).getSorts()) {
+				if (!addKeysetSorts(s, keysetSorts)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (sort instanceof PathQuerySort) {
+			final PathQuerySort<?> pathSort = (PathQuerySort<?>) sort;
+			final Optional<Property<?>> property = getPathIndex().getProperty(pathSort.getPath().getName());
+			if (property.isPresent()) {
+				keysetSorts.add(new KeysetSort(sort, property.get(), pathSort.getDirection(), false));
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Build the keyset seek filter which selects the rows following the row with
+	 * given sort values.
+	 * @param keysetSorts The keyset sorts
+	 * @param values      The sort values of the last seen row
+	 * @return The seek filter
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static QueryFilter seekFilter(List<KeysetSort> keysetSorts, List<Object> values) {
+		// (s1 > v1) OR (s1 = v1 AND s2 > v2) OR ...
+		final List<QueryFilter> filters = new ArrayList<>(keysetSorts.size());
+		for (int i = 0; i < keysetSorts.size(); i++) {
+			final List<QueryFilter> conditions = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				conditions.add(QueryFilter.eq((Path) keysetSorts.get(j).getProperty(), values.get(j)));
+			}
+			final KeysetSort keysetSort = keysetSorts.get(i);
+			conditions.add((keysetSort.getDirection() == SortDirection.DESCENDING)
+					? QueryFilter.lt((Path) keysetSort.getProperty(), values.get(i))
+					: QueryFilter.gt((Path) keysetSort.getProperty(), values.get(i)));
+			QueryFilter.allOf(conditions).ifPresent(f -> filters.add(f));
+		}
+		return QueryFilter.anyOf(filters).orElseThrow(() -> new IllegalStateException("Empty keyset seek filter"));
+	}
+
+	// ------- Default query sort order conversion functions
+
+	/**
+	 * Get a {@link QuerySort} from given {@link QuerySortOrder}, using the provided
+	 * property set path index.
+	 * @param pathIndex The property set path index to use to detect the sort
+	 *                  properties
+	 * @param order     The {@link QuerySortOrder} to convert
+	 * @return The {@link QuerySort} which represents given {@link QuerySortOrder}
+	 * @throws IllegalArgumentException If a property with the required sort name is
+	 *                                  not available in the provided property set
+	 */
+	private static QuerySort fromOrder(PropertySetPathIndex pathIndex, QuerySortOrder order) {
+		final Path<?> path = pathIndex.getPath(order.getSorted())
+				.orElseThrow(() -> new IllegalArgumentException(
+						"No property of the set matches the sort name: " + order.getSorted()));
+		final SortDirection direction = (order.getDirection() != null
+				&& order.getDirection() == com.vaadin.flow.data.provider.SortDirection.DESCENDING)
+						? SortDirection.DESCENDING
+						: SortDirection.ASCENDING;
+		return QuerySort.of(path, direction);
+	}
+
+	// ------ Count request
+
+	/**
+	 * {@link CountRequest} bound to a data provider query.
+	 */
+	private final class DataProviderCountRequest implements CountRequest {
+
+		private final List<QueryFilter> filters;
+		private final Map<String, Object> parameters;
+		private final com.holonplatform.core.query.Query countQuery;
+
+		DataProviderCountRequest(List<QueryFilter> filters) {
+			super();
+			this.filters = Collections.unmodifiableList(filters);
+			this.parameters = getQueryDefinition().getParameters();
+			this.countQuery = _query(filters, Collections.emptyList(), 0, Integer.MAX_VALUE);
+		}
+
+		@Override
+		public Datastore getDatastore() {
+			return datastore;
+		}
+
+		@Override
+		public DataTarget<?> getTarget() {
+			return target;
+		}
+
+		@Override
+		public List<QueryFilter> getFilters() {
+			return filters;
+		}
+
+		@Override
+		public Map<String, Object> getParameters() {
+			return parameters;
+		}
 
-	}
+		@Override
+		public long executeCount() {
+			return countQuery.count();
+		}
 
-	private int _sizeAdditional(Query<T, F> query) {
-		return getAdditionalItemsProvider().map(p -> p.getAdditionalItemsCount(datastore, target, propertySet))
-				.map(size -> {
-					if (query.getLimit() < Integer.MAX_VALUE && size > query.getLimit()) {
-						return query.getLimit();
-					}
-					return size;
-				}).orElse(0);
 	}
 
+	// ------ Query definition snapshot
+
 	/**
-	 * Build a {@link Query} using the Datastore and configure it with the query
-	 * filters and sorts.
-	 * @param query     The data provider query
-	 * @param withSorts Whether to apply the query sorts, if any
-	 * @return A new Datastore query
+	 * A snapshot of the query definition elements provided by the
+	 * {@link QueryConfigurationProvider}s, which also memoizes the last data
+	 * provider filter and sort orders conversion.
 	 */
-	protected com.holonplatform.core.query.Query _query(Query<?, F> query, boolean withSorts) {
+	protected final class QueryDefinition {
 
-		// build a new query using configured target
-		com.holonplatform.core.query.Query q = datastore.query(target);
+		private final List<QueryFilter> filters;
+		private final List<QuerySort> sorts;
+		private final Map<String, Object> parameters;
 
-		// filters
-		final List<QueryFilter> filters = new LinkedList<>();
+		private Object lastFilter;
+		private Optional<QueryFilter> lastConvertedFilter;
 
-		// data provider filter
-		if (query != null) {
-			query.getFilter().ifPresent(f -> {
-				QueryFilter filter = filterConverter.apply(f);
-				if (filter != null) {
-					filters.add(filter);
+		private List<Object> lastSortOrders;
+		private List<QuerySort> lastConvertedSortOrders;
+
+		QueryDefinition() {
+			super();
+			final List<QueryFilter> providedFilters = new LinkedList<>();
+			final List<QuerySort> providedSorts = new LinkedList<>();
+			final Map<String, Object> providedParameters = new LinkedHashMap<>();
+			queryConfigurationProviders.forEach(p -> {
+				QueryFilter qf = p.getQueryFilter();
+				if (qf != null) {
+					providedFilters.add(qf);
+				}
+				QuerySort qs = p.getQuerySort();
+				if (qs != null) {
+					providedSorts.add(qs);
+				}
+				ParameterSet ps = p.getQueryParameters();
+				if (ps != null) {
+					ps.forEachParameter((n, v) -> providedParameters.put(n, v));
 				}
 			});
+			this.filters = Collections.unmodifiableList(providedFilters);
+			this.sorts = Collections.unmodifiableList(providedSorts);
+			this.parameters = Collections.unmodifiableMap(providedParameters);
 		}
 
-		// provided filters
-		queryConfigurationProviders.forEach(p -> {
-			QueryFilter qf = p.getQueryFilter();
-			if (qf != null) {
-				filters.add(qf);
+		/**
+		 * Get the filters provided by the query configuration providers.
+		 * @return The provided filters, empty if none
+		 */
+		public List<QueryFilter> getFilters() {
+			return filters;
+		}
+
+		/**
+		 * Get the sorts provided by the query configuration providers.
+		 * @return The provided sorts, empty if none
+		 */
+		public List<QuerySort> getSorts() {
+			return sorts;
+		}
+
+		/**
+		 * Get the parameters provided by the query configuration providers.
+		 * @return The provided parameters, by name
+		 */
+		public Map<String, Object> getParameters() {
+			return parameters;
+		}
+
+		/**
+		 * Convert given data provider filter into a {@link QueryFilter}, reusing the
+		 * last conversion result if the filter is the same.
+		 * @param filter The data provider filter
+		 * @return Optional converted filter
+		 */
+		synchronized Optional<QueryFilter> convertFilter(F filter) {
+			if (lastConvertedFilter == null || !Objects.equals(lastFilter, filter)) {
+				lastConvertedFilter = Optional.ofNullable(filterConverter.apply(filter));
+				lastFilter = filter;
 			}
-		});
-		QueryFilter.allOf(filters).ifPresent(f -> q.filter(f));
+			return lastConvertedFilter;
+		}
 
-		// sorts
-		if (withSorts) {
-			final List<QuerySort> sorts = new LinkedList<>();
-
-			// data provider sorts
-			if (query != null) {
-				List<QuerySortOrder> orders = query.getSortOrders();
-				if (orders != null && !orders.isEmpty()) {
-					orders.forEach(order -> sorts.add(Optional.ofNullable(querySortOrderConverter.apply(order))
-							.orElseThrow(() -> new IllegalStateException(
-									"The query sort converter returned a null sort for [" + order + "]"))));
-				}
+		/**
+		 * Convert given data provider sort orders into {@link QuerySort}s, reusing
+		 * the last conversion result if the sort orders are the same.
+		 * @param orders The data provider sort orders
+		 * @return The converted sorts
+		 */
+		synchronized List<QuerySort> convertSortOrders(List<QuerySortOrder> orders) {
+			final List<Object> keys = getSortOrderKeys(orders);
+			if (lastConvertedSortOrders == null || !keys.equals(lastSortOrders)) {
+				final List<QuerySort> converted = new ArrayList<>(orders.size());
+				orders.forEach(order -> converted.add(Optional.ofNullable(querySortOrderConverter.apply(order))
+						.orElseThrow(() -> new IllegalStateException(
+								"The query sort converter returned a null sort for [" + order + "]"))));
+				lastConvertedSortOrders = Collections.unmodifiableList(converted);
+				lastSortOrders = keys;
+			}
+			return lastConvertedSortOrders;
+		}
+
+	}
+
+	// ------ Asynchronous operations state
+
+	/**
+	 * The asynchronous operations state: the loaded count and pages for the current
+	 * query context and the pending operations.
+	 * <p>
+	 * Each context change or invalidation increments the operations generation, so
+	 * that the results of the superseded operations can be discarded. When the data
+	 * is reloaded for the same context, the previously loaded pages and count are
+	 * served until the new ones are available.
+	 * </p>
+	 */
+	protected final class AsyncOperations {
+
+		/**
+		 * Maximum number of loaded pages to retain
+		 */
+		static final int MAX_PAGES = 16;
+
+		private final Set<PageKey> pendingPages = new HashSet<>();
+
+		private BoundedCache<PageKey, List<T>> pages = new BoundedCache<>(MAX_PAGES);
+		private BoundedCache<PageKey, List<T>> stalePages;
+
+		private long generation = 0L;
+		private List<Object> context;
+		private Long count;
+		private long lastCount = 0L;
+		private boolean countPending = false;
+
+		/**
+		 * Check whether given context matches the current one, superseding any pending
+		 * operation if not.
+		 * @param context The query context
+		 * @return The current operations generation
+		 */
+		synchronized long checkContext(List<Object> context) {
+			if (!Objects.equals(this.context, context)) {
+				invalidate();
+				this.context = context;
 			}
+			return generation;
+		}
+
+		/**
+		 * Get whether given generation is the current one.
+		 * @param generation The generation to check
+		 * @return <code>true</code> if given generation is the current one
+		 */
+		synchronized boolean isCurrent(long generation) {
+			return this.generation == generation;
+		}
+
+		/**
+		 * Get whether any operation is pending.
+		 * @return <code>true</code> if loading
+		 */
+		synchronized boolean isLoading() {
+			return countPending || !pendingPages.isEmpty();
+		}
+
+		/**
+		 * Supersede all the pending operations and discard the loaded data.
+		 */
+		synchronized void invalidate() {
+			generation++;
+			context = null;
+			count = null;
+			countPending = false;
+			pages.clear();
+			stalePages = null;
+			pendingPages.clear();
+		}
 
-			// default sort
-			if (sorts.isEmpty()) {
-				getDefaultSort().ifPresent(ds -> sorts.add(ds));
+		/**
+		 * Supersede the pending operations and reload the data for the current
+		 * context, retaining the loaded pages to serve them until reloaded.
+		 * @param keepCount Whether to retain the loaded count
+		 */
+		synchronized void reload(boolean keepCount) {
+			generation++;
+			if (!keepCount) {
+				count = null;
 			}
+			countPending = false;
+			if (pages.size() > 0) {
+				stalePages = pages;
+				pages = new BoundedCache<>(MAX_PAGES);
+			}
+			pendingPages.clear();
+		}
 
-			// provided sorts
-			queryConfigurationProviders.forEach(p -> {
-				QuerySort qs = p.getQuerySort();
-				if (qs != null) {
-					sorts.add(qs);
-				}
-			});
+		/**
+		 * Supersede the pending page operations and discard the loaded pages.
+		 */
+		synchronized void invalidatePages() {
+			final List<Object> currentContext = context;
+			final Long currentCount = count;
+			invalidate();
+			context = currentContext;
+			count = currentCount;
+		}
+
+		synchronized Optional<Long> getCount() {
+			return Optional.ofNullable(count);
+		}
 
-			if (!sorts.isEmpty()) {
-				q.sort(QuerySort.of(sorts));
+		synchronized long getLastCount() {
+			return lastCount;
+		}
+
+		synchronized boolean startCount() {
+			if (countPending) {
+				return false;
 			}
+			countPending = true;
+			return true;
 		}
 
-		// parameters
-		queryConfigurationProviders.forEach(p -> {
-			ParameterSet parameters = p.getQueryParameters();
-			if (parameters != null) {
-				parameters.forEachParameter((n, v) -> q.parameter(n, v));
+		synchronized boolean completeCount(long generation, long value) {
+			if (this.generation != generation) {
+				return false;
+			}
+			count = value;
+			lastCount = value;
+			countPending = false;
+			return true;
+		}
+
+		synchronized void failCount(long generation) {
+			if (this.generation == generation) {
+				countPending = false;
 			}
-		});
+		}
 
-		// paging
-		if (query != null) {
-			if (query.getLimit() < Integer.MAX_VALUE) {
-				q.limit(query.getLimit());
-				q.offset(query.getOffset());
+		synchronized Optional<List<T>> getPage(PageKey key) {
+			return pages.get(key);
+		}
+
+		synchronized Optional<List<T>> getStalePage(PageKey key) {
+			return (stalePages != null) ? stalePages.get(key) : Optional.empty();
+		}
+
+		synchronized boolean startPage(PageKey key) {
+			return pendingPages.add(key);
+		}
+
+		synchronized boolean completePage(long generation, PageKey key, List<T> items) {
+			if (this.generation != generation) {
+				return false;
+			}
+			pendingPages.remove(key);
+			pages.put(key, items);
+			if (stalePages != null) {
+				stalePages.invalidate(key);
+			}
+			return true;
+		}
+
+		synchronized void failPage(long generation, PageKey key) {
+			if (this.generation == generation) {
+				pendingPages.remove(key);
 			}
 		}
 
-		return q;
 	}
 
-	// ------- Default query sort order conversion functions
+	// ------ Read-ahead state
 
 	/**
-	 * Get a {@link QuerySort} from given {@link QuerySortOrder}, using the provided
-	 * property set.
-	 * @param propertySet The property set to use to detect the sort properties
-	 * @param order       The {@link QuerySortOrder} to convert
-	 * @return The {@link QuerySort} which represents given {@link QuerySortOrder}
-	 * @throws IllegalArgumentException If a property with the required sort name is
-	 *                                  not available in the provided property set
+	 * The page read-ahead state: the buffered pages and the pending page fetches for
+	 * the current query context.
 	 */
-	private static QuerySort fromOrder(PropertySet<?> propertySet, QuerySortOrder order) {
-		final Path<?> path = getPathByName(propertySet, order.getSorted())
-				.orElseThrow(() -> new IllegalArgumentException(
-						"No property of the set matches the sort name: " + order.getSorted()));
-		final SortDirection direction = (order.getDirection() != null
-				&& order.getDirection() == com.vaadin.flow.data.provider.SortDirection.DESCENDING)
-						? SortDirection.DESCENDING
-						: SortDirection.ASCENDING;
-		return QuerySort.of(path, direction);
+	protected final class ReadAhead {
+
+		private final BoundedCache<PageKey, List<T>> pages;
+		private final Map<PageKey, Future<?>> pending = new HashMap<>();
+
+		private long generation = 0L;
+		private List<Object> context;
+		private int lastOffset = -1;
+
+		ReadAhead(int maxPages) {
+			super();
+			this.pages = new BoundedCache<>(maxPages);
+		}
+
+		/**
+		 * Check whether given context matches the current one, cancelling any pending
+		 * read-ahead if not.
+		 * @param context The query context
+		 * @return The current read-ahead generation
+		 */
+		synchronized long checkContext(List<Object> context) {
+			if (!Objects.equals(this.context, context)) {
+				cancel();
+				this.context = context;
+			}
+			return generation;
+		}
+
+		synchronized boolean isCurrent(long generation) {
+			return this.generation == generation;
+		}
+
+		/**
+		 * Get the read-ahead direction, using given requested page offset and the
+		 * previous one.
+		 * @param offset The requested page offset
+		 * @return <code>-1</code> when the pages are requested backwards,
+		 *         <code>1</code> otherwise
+		 */
+		synchronized int getDirection(int offset) {
+			final int direction = (lastOffset >= 0 && offset < lastOffset) ? -1 : 1;
+			lastOffset = offset;
+			return direction;
+		}
+
+		synchronized Optional<List<T>> get(PageKey key) {
+			return pages.get(key);
+		}
+
+		/**
+		 * Register a page fetch task, if the page is not already available or pending.
+		 * @param generation The read-ahead generation
+		 * @param key        The page key
+		 * @param task       The page fetch task
+		 * @return <code>true</code> if the task was registered and has to be executed
+		 */
+		synchronized boolean schedule(long generation, PageKey key, Future<?> task) {
+			if (this.generation != generation || pending.containsKey(key) || pages.contains(key)) {
+				return false;
+			}
+			pending.put(key, task);
+			return true;
+		}
+
+		synchronized void complete(long generation, PageKey key, List<T> items) {
+			if (this.generation == generation) {
+				pending.remove(key);
+				pages.put(key, items);
+			}
+		}
+
+		synchronized void fail(long generation, PageKey key) {
+			if (this.generation == generation) {
+				pending.remove(key);
+			}
+		}
+
+		/**
+		 * Cancel the pending page fetches and clear the buffered pages.
+		 */
+		synchronized void cancel() {
+			generation++;
+			pending.values().forEach(f -> f.cancel(true));
+			pending.clear();
+			pages.clear();
+			context = null;
+			lastOffset = -1;
+		}
+
+		CacheStatistics getStatistics() {
+			return pages.getStatistics();
+		}
+
 	}
 
+	// ------ Page cache key
+
 	/**
-	 * Try to obtain a {@link Path} which corresponds to given
-	 * <code>propertyName</code>, using the provided property set.
-	 * @param propertySet  The property set to use
-	 * @param propertyName The property name to look for
-	 * @return Optional {@link Path} which corresponds to given
-	 *         <code>propertyName</code>
+	 * Page cache key, which identifies a query page by its filters, sorts, query
+	 * parameters, offset and limit.
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static Optional<Path<?>> getPathByName(PropertySet propertySet, String propertyName) {
-		if (propertySet != null && propertyName != null) {
-			return propertySet.stream().filter(p -> Path.class.isAssignableFrom(p.getClass()))
-					.filter(p -> propertyName.equals(((Path) p).getName())).findFirst();
+	protected static final class PageKey {
+
+		private final List<QueryFilter> filters;
+		private final List<Object> sorts;
+		private final Map<String, Object> parameters;
+		private final int offset;
+		private final int limit;
+
+		PageKey(List<QueryFilter> filters, List<Object> sorts, Map<String, Object> parameters, int offset,
+				int limit) {
+			super();
+			this.filters = filters;
+			this.sorts = sorts;
+			this.parameters = parameters;
+			this.offset = offset;
+			this.limit = limit;
 		}
-		return Optional.empty();
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(filters, sorts, parameters, offset, limit);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PageKey)) {
+				return false;
+			}
+			final PageKey other = (PageKey) obj;
+			return offset == other.offset && limit == other.limit && Objects.equals(filters, other.filters)
+					&& Objects.equals(sorts, other.sorts) && Objects.equals(parameters, other.parameters);
+		}
+
+	}
+
+	// ------ Keyset pagination support
+
+	/**
+	 * A query sort which can be used by the keyset pagination mode.
+	 */
+	private static final class KeysetSort {
+
+		private final QuerySort sort;
+		private final Property<?> property;
+		private final SortDirection direction;
+		private final boolean identifier;
+
+		KeysetSort(QuerySort sort, Property<?> property, SortDirection direction, boolean identifier) {
+			super();
+			this.sort = sort;
+			this.property = property;
+			this.direction = direction;
+			this.identifier = identifier;
+		}
+
+		QuerySort getSort() {
+			return sort;
+		}
+
+		Property<?> getProperty() {
+			return property;
+		}
+
+		SortDirection getDirection() {
+			return direction;
+		}
+
+		/**
+		 * Whether the sort was added to make the sort order stable.
+		 * @return <code>true</code> if it is an identifier sort
+		 */
+		boolean isIdentifier() {
+			return identifier;
+		}
+
+	}
+
+	/**
+	 * Keyset pagination page boundaries: for each known page start offset, the sort
+	 * values of the row which precedes it.
+	 * <p>
+	 * The boundaries are bound to a query context (filters, sorts and parameters)
+	 * and they are discarded when the context changes.
+	 * </p>
+	 */
+	protected static final class KeysetBoundaries {
+
+		/**
+		 * Default maximum number of page boundaries
+		 */
+		static final int DEFAULT_MAX_SIZE = 512;
+
+		private final int maxSize;
+
+		private final TreeMap<Integer, List<Object>> boundaries = new TreeMap<>();
+
+		private List<Object> context;
+
+		KeysetBoundaries(int maxSize) {
+			super();
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * Get the closest boundary which is less than or equal to given offset.
+		 * @param context The query context
+		 * @param offset  The page offset
+		 * @return Optional boundary offset and sort values
+		 */
+		synchronized Optional<Map.Entry<Integer, List<Object>>> floor(List<Object> context, int offset) {
+			if (!Objects.equals(this.context, context)) {
+				return Optional.empty();
+			}
+			return Optional.ofNullable(boundaries.floorEntry(offset));
+		}
+
+		/**
+		 * Register a page boundary.
+		 * @param context The query context
+		 * @param offset  The offset of the page which follows the boundary
+		 * @param values  The sort values of the last row before the boundary
+		 */
+		synchronized void put(List<Object> context, int offset, List<Object> values) {
+			if (!Objects.equals(this.context, context)) {
+				this.context = context;
+				boundaries.clear();
+			}
+			boundaries.put(offset, values);
+			// evict the boundary farthest from the last registered one
+			while (boundaries.size() > maxSize) {
+				if ((offset - boundaries.firstKey()) > (boundaries.lastKey() - offset)) {
+					boundaries.pollFirstEntry();
+				} else {
+					boundaries.pollLastEntry();
+				}
+			}
+		}
+
+		/**
+		 * Remove all the page boundaries.
+		 */
+		synchronized void clear() {
+			context = null;
+			boundaries.clear();
+		}
+
 	}
 
 	// ------ Builder
@@ -553,6 +2564,37 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 			return getBuilder();
 		}
 
+		@Override
+		public B pageCache(int maxPages) {
+			dataProvider.setPageCacheSize(maxPages);
+			return getBuilder();
+		}
+
+		@Override
+		public B countStrategy(DatastoreCountStrategy countStrategy) {
+			dataProvider.setCountStrategy(countStrategy);
+			return getBuilder();
+		}
+
+		@Override
+		public B keysetPagination(boolean keysetPagination) {
+			dataProvider.setKeysetPagination(keysetPagination);
+			return getBuilder();
+		}
+
+		@Override
+		public B asyncExecutor(Executor executor) {
+			ObjectUtils.argumentNotNull(executor, "Executor must be not null");
+			dataProvider.setAsyncExecutor(executor);
+			return getBuilder();
+		}
+
+		@Override
+		public B readAhead(int pages, Executor executor) {
+			dataProvider.setReadAhead(pages, executor);
+			return getBuilder();
+		}
+
 		@Override
 		public DatastoreDataProvider<T, F> build() {
 			return dataProvider;
@@ -642,6 +2684,9 @@ public class DefaultDatastoreDataProvider<T, F> extends AbstractBackEndDataProvi
 				}
 				return null;
 			});
+			if (identifierProperty instanceof Path) {
+				dataProvider.itemIdentifierPath = (Path<?>) identifierProperty;
+			}
 			return this;
 		}
 
@@ -15,19 +15,35 @@
  */
 package com.holonplatform.vaadin.flow.internal.data;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemListingDataProviderAdapter;
 import com.vaadin.flow.data.provider.AbstractDataProvider;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.DataProviderListener;
 import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.shared.Registration;
 
 /**
  * Default {@link ItemListingDataProviderAdapter} implementation.
+ * <p>
+ * Adding or removing an additional item only notifies a change of this data provider: the concrete data provider is
+ * not refreshed and, until its data changes, the last concrete items count and the last fetched concrete items are
+ * reused to serve the listing reload, so no concrete data provider query is performed. Refreshing an additional item
+ * notifies an item refresh.
+ * </p>
  *
  * @param <T> Data type
  * @param <F> Filter type
@@ -39,11 +55,50 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 
 	private static final long serialVersionUID = -5037549436183583417L;
 
+	/**
+	 * Max number of fetched items to track for the soft refresh
+	 */
+	private static final int MAX_FETCHED_ITEMS = 1000;
+
 	private final DataProvider<T, F> dataProvider;
 
 	private boolean frozen = false;
 
-	private final List<T> additionalItems = new LinkedList<>();
+	/**
+	 * Additional items, in the order they were added
+	 */
+	private final List<T> additionalItems = new ArrayList<>();
+
+	/**
+	 * Concrete data provider listener registration
+	 */
+	private Registration dataProviderRegistration;
+
+	/**
+	 * Number of listeners registered to this data provider
+	 */
+	private int listeners = 0;
+
+	/**
+	 * The concrete data provider items which were last fetched
+	 */
+	private transient FetchedItems<T> fetchedItems;
+
+	/**
+	 * The filter of the last concrete data provider items count
+	 */
+	private transient Object countFilter;
+
+	/**
+	 * The last concrete data provider items count, <code>null</code> if not available
+	 */
+	private transient Integer count;
+
+	/**
+	 * Whether the tracked concrete data provider count and items can be reused, since only the additional items
+	 * changed after they were obtained
+	 */
+	private transient boolean reuseFetched = false;
 
 	/**
 	 * Constructor.
@@ -63,6 +118,50 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 		return dataProvider;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.provider.AbstractDataProvider#addDataProviderListener(com.vaadin.flow.data.provider.
+	 * DataProviderListener)
+	 */
+	@Override
+	public Registration addDataProviderListener(DataProviderListener<T> listener) {
+		final Registration registration = super.addDataProviderListener(listener);
+		// forward the concrete data provider events only while this data provider has listeners
+		if (listeners++ == 0) {
+			dataProviderRegistration = getDataProvider().addDataProviderListener(event -> onDataProviderEvent(event));
+		}
+		return new ListenerRegistration(registration);
+	}
+
+	/**
+	 * Invoked when a listener registration is removed.
+	 */
+	private void onListenerRemoved() {
+		if (--listeners == 0 && dataProviderRegistration != null) {
+			dataProviderRegistration.remove();
+			dataProviderRegistration = null;
+		}
+	}
+
+	/**
+	 * Fire a data change event using this data provider as source when the concrete data provider fires a data change
+	 * event.
+	 * @param event The concrete data provider event
+	 */
+	@SuppressWarnings("unchecked")
+	private void onDataProviderEvent(DataChangeEvent<T> event) {
+		if (event instanceof DataRefreshEvent) {
+			final DataRefreshEvent<T> refreshEvent = (DataRefreshEvent<T>) event;
+			if (fetchedItems != null) {
+				fetchedItems.replace(refreshEvent.getItem(), item -> getId(item));
+			}
+			fireEvent(new DataRefreshEvent<>(this, refreshEvent.getItem(), refreshEvent.isRefreshChildren()));
+		} else {
+			clearFetchedItems();
+			fireEvent(new DataChangeEvent<>(this));
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.vaadin.flow.data.provider.DataProvider#isInMemory()
@@ -72,6 +171,15 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 		return getDataProvider().isInMemory();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.provider.DataProvider#getId(java.lang.Object)
+	 */
+	@Override
+	public Object getId(T item) {
+		return getDataProvider().getId(item);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.vaadin.flow.data.provider.DataProvider#size(com.vaadin.flow.data.provider.Query)
@@ -81,7 +189,15 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 		if (isFrozen()) {
 			return 0;
 		}
-		return getDataProvider().size(query) + this.additionalItems.size();
+		final Integer last = this.count;
+		if (reuseFetched && last != null && Objects.equals(countFilter, query.getFilter().orElse(null))) {
+			return last.intValue() + this.additionalItems.size();
+		}
+		final int size = getDataProvider().size(query);
+		// track the count for the soft refresh
+		this.countFilter = query.getFilter().orElse(null);
+		this.count = size;
+		return size + this.additionalItems.size();
 	}
 
 	/*
@@ -93,10 +209,99 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 		if (isFrozen()) {
 			return Stream.empty();
 		}
-		if (!this.additionalItems.isEmpty()) {
-			return Stream.concat(this.additionalItems.stream(), getDataProvider().fetch(query));
+		if (this.additionalItems.isEmpty()) {
+			return fetchFromDataProvider(query, query.getOffset(), query.getLimit());
+		}
+		// additional items come first
+		final int offset = query.getOffset();
+		final int limit = query.getLimit();
+		final int count = this.additionalItems.size();
+		if (offset >= count) {
+			return fetchFromDataProvider(query, offset - count, limit);
+		}
+		final int end = (limit < Integer.MAX_VALUE) ? Math.min(count, offset + limit) : count;
+		final List<T> head = new ArrayList<>(this.additionalItems.subList(offset, end));
+		final int remaining = (limit < Integer.MAX_VALUE) ? limit - head.size() : Integer.MAX_VALUE;
+		if (remaining <= 0) {
+			return head.stream();
+		}
+		return Stream.concat(head.stream(), fetchFromDataProvider(query, 0, remaining));
+	}
+
+	/**
+	 * Fetch the items from the concrete data provider.
+	 * @param query The query
+	 * @param offset The concrete data provider query offset
+	 * @param limit The concrete data provider query limit
+	 * @return The items
+	 */
+	private Stream<T> fetchFromDataProvider(Query<T, F> query, int offset, int limit) {
+		final Query<T, F> backendQuery = (offset == query.getOffset() && limit == query.getLimit()) ? query
+				: new Query<>(offset, limit, query.getSortOrders(), query.getInMemorySorting(),
+						query.getFilter().orElse(null));
+		if (limit == Integer.MAX_VALUE) {
+			return getDataProvider().fetch(backendQuery);
+		}
+		if (reuseFetched && fetchedItems != null) {
+			final Optional<List<T>> reused = fetchedItems.getRange(backendQuery,
+					Objects.equals(countFilter, backendQuery.getFilter().orElse(null)) ? this.count : null);
+			if (reused.isPresent()) {
+				return reused.get().stream();
+			}
+		}
+		final List<T> fetched = getDataProvider().fetch(backendQuery).collect(Collectors.toList());
+		// track the fetched items for the soft refresh
+		if (fetchedItems == null || !fetchedItems.append(backendQuery, fetched)) {
+			fetchedItems = new FetchedItems<>(backendQuery, fetched);
+		}
+		return fetched.stream();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.provider.AbstractDataProvider#refreshAll()
+	 */
+	@Override
+	public void refreshAll() {
+		clearFetchedItems();
+		getDataProvider().refreshAll();
+		if (dataProviderRegistration == null) {
+			// otherwise the concrete data provider event is forwarded
+			super.refreshAll();
+		}
+	}
+
+	/**
+	 * Discard the tracked concrete data provider items and count.
+	 */
+	private void clearFetchedItems() {
+		fetchedItems = null;
+		countFilter = null;
+		count = null;
+		reuseFetched = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.provider.AbstractDataProvider#refreshItem(java.lang.Object)
+	 */
+	@Override
+	public void refreshItem(T item) {
+		refreshItem(item, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.flow.data.provider.AbstractDataProvider#refreshItem(java.lang.Object, boolean)
+	 */
+	@Override
+	public void refreshItem(T item, boolean refreshChildren) {
+		if (indexOfAdditionalItem(item) > -1 || dataProviderRegistration == null) {
+			super.refreshItem(item, refreshChildren);
+		} else {
+			// the concrete data provider event is forwarded
+			getDataProvider().refreshItem(item, refreshChildren);
 		}
-		return getDataProvider().fetch(query);
 	}
 
 	/*
@@ -114,6 +319,9 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 	 */
 	@Override
 	public void setFrozen(boolean frozen) {
+		if (this.frozen != frozen) {
+			clearFetchedItems();
+		}
 		this.frozen = frozen;
 	}
 
@@ -123,7 +331,33 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 	 */
 	@Override
 	public List<T> getAdditionalItems() {
-		return Collections.unmodifiableList(this.additionalItems);
+		return Collections.unmodifiableList(new ArrayList<>(this.additionalItems));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.ItemListingDataProviderAdapter#isAdditionalItem(java.lang.Object)
+	 */
+	@Override
+	public boolean isAdditionalItem(T item) {
+		return indexOfAdditionalItem(item) > -1;
+	}
+
+	/**
+	 * Get the index of given additional item, looking for the same instance first and for an equal item then.
+	 * @param item The item
+	 * @return The additional item index, <code>-1</code> if given item is not an additional item
+	 */
+	private int indexOfAdditionalItem(T item) {
+		if (item == null) {
+			return -1;
+		}
+		for (int i = 0; i < this.additionalItems.size(); i++) {
+			if (this.additionalItems.get(i) == item) {
+				return i;
+			}
+		}
+		return this.additionalItems.indexOf(item);
 	}
 
 	/*
@@ -134,7 +368,9 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 	public void addAdditionalItem(T item) {
 		ObjectUtils.argumentNotNull(item, "Additional item to add must be not null");
 		this.additionalItems.add(item);
-		refreshAll();
+		// the concrete data provider is not refreshed
+		reuseFetched = true;
+		super.refreshAll();
 	}
 
 	/*
@@ -144,8 +380,12 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 	@Override
 	public boolean removeAdditionalItem(T item) {
 		ObjectUtils.argumentNotNull(item, "Additional item to remove must be not null");
-		if (this.additionalItems.remove(item)) {
-			refreshAll();
+		final int index = indexOfAdditionalItem(item);
+		if (index > -1) {
+			this.additionalItems.remove(index);
+			// the concrete data provider is not refreshed
+			reuseFetched = true;
+			super.refreshAll();
 			return true;
 		}
 		return false;
@@ -159,8 +399,208 @@ public class DefaultItemListingDataProviderAdapter<T, F> extends AbstractDataPro
 	public void removeAdditionalItems() {
 		if (!this.additionalItems.isEmpty()) {
 			this.additionalItems.clear();
-			refreshAll();
+			// the concrete data provider is not refreshed
+			reuseFetched = true;
+			super.refreshAll();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.ItemListingDataProviderAdapter#softRefresh(java.util.function.
+	 * BiPredicate)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public int softRefresh(BiPredicate<T, T> changed) {
+		ObjectUtils.argumentNotNull(changed, "Item change check function must be not null");
+		if (isFrozen()) {
+			return 0;
+		}
+		final FetchedItems<T> fetched = fetchedItems;
+		if (fetched == null || fetched.isEmpty()) {
+			return -1;
+		}
+		// discard the concrete data provider cached data
+		if (getDataProvider() instanceof DatastoreDataProvider) {
+			((DatastoreDataProvider<T, F>) getDataProvider()).clearCaches();
 		}
+		// check size
+		final Query<T, F> query = fetched.getQuery(0, 0);
+		final F filter = query.getFilter().orElse(null);
+		final Integer size = this.count;
+		if (size == null || !Objects.equals(countFilter, filter)
+				|| size.intValue() != getDataProvider().size(new Query<>(filter))) {
+			return -1;
+		}
+		// reload
+		final int loaded = fetched.size();
+		final List<T> reloaded = getDataProvider().fetch(fetched.getQuery(fetched.getOffset(), loaded))
+				.collect(Collectors.toList());
+		if (reloaded.size() < loaded) {
+			return -1;
+		}
+		final List<T> updated = new ArrayList<>();
+		for (int i = 0; i < loaded; i++) {
+			final T item = fetched.get(i);
+			final T reloadedItem = reloaded.get(i);
+			if (!Objects.equals(getId(item), getId(reloadedItem))) {
+				return -1;
+			}
+			if (changed.test(item, reloadedItem)) {
+				updated.add(reloadedItem);
+			}
+		}
+		// replace the changed items and notify
+		for (int i = 0; i < loaded; i++) {
+			fetched.set(i, reloaded.get(i));
+		}
+		updated.forEach(item -> fireEvent(new DataRefreshEvent<>(this, item, false)));
+		return updated.size();
+	}
+
+	/**
+	 * Data provider listener registration.
+	 */
+	private final class ListenerRegistration implements Registration {
+
+		private static final long serialVersionUID = 3470591297233707592L;
+
+		private final Registration registration;
+
+		private boolean removed = false;
+
+		ListenerRegistration(Registration registration) {
+			super();
+			this.registration = registration;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.vaadin.flow.shared.Registration#remove()
+		 */
+		@Override
+		public void remove() {
+			if (!removed) {
+				removed = true;
+				registration.remove();
+				onListenerRemoved();
+			}
+		}
+
+	}
+
+	// ------- Fetched items
+
+	/**
+	 * The contiguous concrete data provider items which were last fetched using the same filter and sorts. Used to
+	 * perform a soft refresh and to serve the fetches when only the additional items changed.
+	 * 
+	 * @param <T> Data type
+	 */
+	private static final class FetchedItems<T> {
+
+		private final Query<T, ?> query;
+		private final List<T> items;
+		private int offset;
+
+		FetchedItems(Query<T, ?> query, List<T> items) {
+			super();
+			this.query = query;
+			this.items = new ArrayList<>(items);
+			this.offset = query.getOffset();
+			trim();
+		}
+
+		/**
+		 * Append the items fetched with given query, if the query uses the same filter and sorts and it is contiguous
+		 * to the tracked items.
+		 * @param next The query
+		 * @param fetched The fetched items
+		 * @return <code>true</code> if the items were appended, <code>false</code> otherwise
+		 */
+		boolean append(Query<T, ?> next, List<T> fetched) {
+			if (next.getOffset() != offset + items.size()
+					|| !Objects.equals(query.getFilter().orElse(null), next.getFilter().orElse(null))
+					|| !Objects.equals(query.getSortOrders(), next.getSortOrders())) {
+				return false;
+			}
+			items.addAll(fetched);
+			trim();
+			return true;
+		}
+
+		private void trim() {
+			// keep the last fetched items
+			final int exceeding = items.size() - MAX_FETCHED_ITEMS;
+			if (exceeding > 0) {
+				items.subList(0, exceeding).clear();
+				offset += exceeding;
+			}
+		}
+
+		/**
+		 * Get the tracked items which correspond to given query, if the query uses the same filter and sorts and the
+		 * tracked items cover the requested range.
+		 * @param range The query
+		 * @param total The total number of items which match the query filter, if known
+		 * @return The tracked items in the requested range, empty if not available
+		 */
+		Optional<List<T>> getRange(Query<T, ?> range, Integer total) {
+			if (range.getOffset() < offset
+					|| !Objects.equals(query.getFilter().orElse(null), range.getFilter().orElse(null))
+					|| !Objects.equals(query.getSortOrders(), range.getSortOrders())) {
+				return Optional.empty();
+			}
+			final int start = range.getOffset() - offset;
+			final int end = start + range.getLimit();
+			if (end <= items.size()) {
+				return Optional.of(new ArrayList<>(items.subList(start, end)));
+			}
+			// the tracked items reach the end of the data
+			if (total != null && offset + items.size() >= total.intValue() && start <= items.size()) {
+				return Optional.of(new ArrayList<>(items.subList(start, items.size())));
+			}
+			return Optional.empty();
+		}
+
+		@SuppressWarnings("unchecked")
+		<F> Query<T, F> getQuery(int queryOffset, int queryLimit) {
+			return new Query<>(queryOffset, queryLimit, query.getSortOrders(), query.getInMemorySorting(),
+					(F) query.getFilter().orElse(null));
+		}
+
+		int getOffset() {
+			return offset;
+		}
+
+		boolean isEmpty() {
+			return items.isEmpty();
+		}
+
+		int size() {
+			return items.size();
+		}
+
+		T get(int index) {
+			return items.get(index);
+		}
+
+		void set(int index, T item) {
+			items.set(index, item);
+		}
+
+		void replace(T item, Function<T, Object> identifier) {
+			if (item != null) {
+				final Object id = identifier.apply(item);
+				for (int i = 0; i < items.size(); i++) {
+					if (Objects.equals(id, identifier.apply(items.get(i)))) {
+						items.set(i, item);
+					}
+				}
+			}
+		}
+
 	}
 
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.data;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
+
+/**
+ * A {@link DatastoreCountStrategy} which uses a {@link CountEstimator} to obtain an approximate items count, falling
+ * back to an exact count query when no estimate is available.
+ *
+ * @since 6.0.3
+ */
+public class EstimatedDatastoreCountStrategy implements DatastoreCountStrategy {
+
+	private static final long serialVersionUID = 1794412870653447166L;
+
+	private final CountEstimator estimator;
+
+	/**
+	 * Constructor.
+	 * @param estimator The count estimator (not null)
+	 */
+	public EstimatedDatastoreCountStrategy(CountEstimator estimator) {
+		super();
+		ObjectUtils.argumentNotNull(estimator, "CountEstimator must be not null");
+		this.estimator = estimator;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.flow.data.DatastoreCountStrategy#count(com.holonplatform.vaadin.flow.data.
+	 * DatastoreCountStrategy.CountRequest)
+	 */
+	@Override
+	public long count(CountRequest request) {
+		final long estimate = estimator.estimate(request.getDatastore(), request.getTarget(), request.getFilter());
+		if (estimate >= 0) {
+			return estimate;
+		}
+		return request.executeCount();
+	}
+
+}
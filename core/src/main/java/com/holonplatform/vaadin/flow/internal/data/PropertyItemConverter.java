@@ -15,6 +15,13 @@
  */
 package com.holonplatform.vaadin.flow.internal.data;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -22,11 +29,17 @@ import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
 import com.holonplatform.vaadin.flow.internal.VaadinLogger;
+import com.holonplatform.vaadin.flow.internal.utils.BoundedCache;
 
 /**
  * {@link ItemConverter} using a {@link Property} to represents the value within a {@link PropertyBox} item type.
+ * <p>
+ * An optional bounded lookup cache can be enabled using {@link #setLookupCache(int, Duration)}, to avoid to perform
+ * the value to item conversion each time for the same values.
+ * </p>
  * 
  * @param <T> Value type
  * 
@@ -38,6 +51,9 @@ public class PropertyItemConverter<T> implements ItemConverter<T, PropertyBox> {
 
 	private final Property<T> property;
 	private Function<T, Optional<PropertyBox>> toItemConverter;
+	private Function<Collection<T>, List<PropertyBox>> toItemsConverter;
+
+	private BoundedCache<T, PropertyBox> lookupCache;
 
 	/**
 	 * Constructor.
@@ -76,6 +92,99 @@ public class PropertyItemConverter<T> implements ItemConverter<T, PropertyBox> {
 		this.toItemConverter = toItemConverter;
 	}
 
+	/**
+	 * Get the function to use to convert a collection of values into the corresponding {@link PropertyBox} type
+	 * items.
+	 * @return The function to use to convert a collection of values into the corresponding items, <code>null</code>
+	 *         if not available
+	 * @since 6.0.3
+	 */
+	public Function<Collection<T>, List<PropertyBox>> getToItemsConverter() {
+		return toItemsConverter;
+	}
+
+	/**
+	 * Set the function to use to convert a collection of values into the corresponding {@link PropertyBox} type
+	 * items. When not configured, the {@link #getToItemConverter()} function is invoked for each value.
+	 * @param toItemsConverter the to items converter function to set
+	 * @since 6.0.3
+	 */
+	public void setToItemsConverter(Function<Collection<T>, List<PropertyBox>> toItemsConverter) {
+		this.toItemsConverter = toItemsConverter;
+	}
+
+	/**
+	 * Enable or disable the value to item lookup cache.
+	 * <p>
+	 * When enabled, the items obtained from the value to item conversion are cached and returned for subsequent
+	 * conversions of the same value, until the cache entry expires or it is evicted to respect the cache maximum size.
+	 * </p>
+	 * @param maxSize The maximum number of items to cache, <code>0</code> or less to disable the lookup cache
+	 * @param timeToLive The cached items time-to-live, <code>null</code> if cached items never expire
+	 * @since 6.0.3
+	 */
+	public synchronized void setLookupCache(int maxSize, Duration timeToLive) {
+		this.lookupCache = (maxSize > 0) ? new BoundedCache<>(maxSize, timeToLive) : null;
+	}
+
+	/**
+	 * Get whether the value to item lookup cache is enabled.
+	 * @return <code>true</code> if the lookup cache is enabled
+	 * @since 6.0.3
+	 */
+	public synchronized boolean isLookupCacheEnabled() {
+		return lookupCache != null;
+	}
+
+	/**
+	 * Get the value to item lookup cache statistics.
+	 * @return The lookup cache statistics, disabled cache statistics if the lookup cache is not enabled
+	 * @since 6.0.3
+	 */
+	public CacheStatistics getLookupCacheStatistics() {
+		return getLookupCache().map(c -> c.getStatistics()).orElse(CacheStatistics.disabled());
+	}
+
+	/**
+	 * Put given items in the lookup cache, if enabled, using the property value of each item as key.
+	 * @param items The items to cache
+	 * @since 6.0.3
+	 */
+	public void cacheItems(Collection<PropertyBox> items) {
+		if (items != null) {
+			getLookupCache().ifPresent(cache -> items.forEach(item -> {
+				if (item != null) {
+					item.getValueIfPresent(property).ifPresent(value -> cache.put(value, item));
+				}
+			}));
+		}
+	}
+
+	/**
+	 * Remove the cached item bound to given value, if any.
+	 * @param value The value
+	 * @since 6.0.3
+	 */
+	public void invalidateLookupCache(T value) {
+		getLookupCache().ifPresent(cache -> cache.invalidate(value));
+	}
+
+	/**
+	 * Remove all the cached items.
+	 * @since 6.0.3
+	 */
+	public void invalidateLookupCache() {
+		getLookupCache().ifPresent(cache -> cache.clear());
+	}
+
+	/**
+	 * Get the value to item lookup cache, if enabled.
+	 * @return Optional lookup cache
+	 */
+	private synchronized Optional<BoundedCache<T, PropertyBox>> getLookupCache() {
+		return Optional.ofNullable(lookupCache);
+	}
+
 	@Override
 	public T getValue(PropertyBox item) {
 		return (item != null) ? item.getValue(property) : null;
@@ -84,6 +193,16 @@ public class PropertyItemConverter<T> implements ItemConverter<T, PropertyBox> {
 	@Override
 	public Optional<PropertyBox> getItem(T value) {
 		if (toItemConverter != null) {
+			final Optional<BoundedCache<T, PropertyBox>> cache = (value != null) ? getLookupCache() : Optional.empty();
+			if (cache.isPresent()) {
+				final Optional<PropertyBox> cached = cache.get().get(value);
+				if (cached.isPresent()) {
+					return cached;
+				}
+				final Optional<PropertyBox> item = toItemConverter.apply(value);
+				item.ifPresent(i -> cache.get().put(value, i));
+				return item;
+			}
 			return toItemConverter.apply(value);
 		}
 		LOGGER.warn(
@@ -91,4 +210,45 @@ public class PropertyItemConverter<T> implements ItemConverter<T, PropertyBox> {
 		return Optional.empty();
 	}
 
+	@Override
+	public List<PropertyBox> getItems(Collection<T> values) {
+		if (values == null || values.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final Optional<BoundedCache<T, PropertyBox>> cache = getLookupCache();
+		if (cache.isPresent() && toItemsConverter != null) {
+			// lookup cached items and convert the missing ones at once
+			final Map<T, PropertyBox> items = new HashMap<>(values.size());
+			final List<T> missing = new ArrayList<>();
+			for (T value : values) {
+				if (value != null && !items.containsKey(value)) {
+					final Optional<PropertyBox> cached = cache.get().get(value);
+					if (cached.isPresent()) {
+						items.put(value, cached.get());
+					} else {
+						missing.add(value);
+					}
+				}
+			}
+			if (!missing.isEmpty()) {
+				toItemsConverter.apply(missing).forEach(item -> item.getValueIfPresent(property).ifPresent(value -> {
+					items.putIfAbsent(value, item);
+					cache.get().put(value, item);
+				}));
+			}
+			final List<PropertyBox> result = new ArrayList<>(items.size());
+			for (T value : values) {
+				final PropertyBox item = (value != null) ? items.remove(value) : null;
+				if (item != null) {
+					result.add(item);
+				}
+			}
+			return result;
+		}
+		if (toItemsConverter != null) {
+			return toItemsConverter.apply(values);
+		}
+		return ItemConverter.super.getItems(values);
+	}
+
 }
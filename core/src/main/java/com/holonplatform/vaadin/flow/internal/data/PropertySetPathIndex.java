@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.data;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import com.holonplatform.core.Path;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertySet;
+
+/**
+ * An immutable index of the {@link Path} type properties of a {@link PropertySet}, by path name.
+ * <p>
+ * When more than one property of the set has the same name, the first one in the property set iteration order is
+ * indexed. The index of a property set is built once and shared: use {@link #of(PropertySet)} to obtain it.
+ * </p>
+ * <p>
+ * The shared indexes are weakly bound to the property sets and only weakly referenced themselves, so neither the
+ * property sets nor the indexed properties are retained: an index is kept as long as its users, for example the data
+ * providers which use it, hold it.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class PropertySetPathIndex {
+
+	/**
+	 * Shared indexes, weakly bound to the property sets
+	 */
+	private static final Map<PropertySet<?>, WeakReference<PropertySetPathIndex>> INDEXES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private final Map<String, Path<?>> paths;
+
+	/**
+	 * Constructor.
+	 * @param propertySet The property set to index (not null)
+	 */
+	@SuppressWarnings("rawtypes")
+	private PropertySetPathIndex(PropertySet<?> propertySet) {
+		super();
+		final Map<String, Path<?>> index = new HashMap<>(propertySet.size() * 2);
+		for (Object property : propertySet) {
+			if (property instanceof Path) {
+				final String name = ((Path) property).getName();
+				if (name != null) {
+					index.putIfAbsent(name, (Path<?>) property);
+				}
+			}
+		}
+		this.paths = Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * Get the {@link Path} with given name.
+	 * @param name The path name
+	 * @return Optional {@link Path} with given name
+	 */
+	public Optional<Path<?>> getPath(String name) {
+		return (name != null) ? Optional.ofNullable(paths.get(name)) : Optional.empty();
+	}
+
+	/**
+	 * Get the {@link Property} which is a {@link Path} with given name.
+	 * @param name The property name
+	 * @return Optional {@link Property} with given name
+	 */
+	public Optional<Property<?>> getProperty(String name) {
+		return getPath(name).filter(p -> p instanceof Property).map(p -> (Property<?>) p);
+	}
+
+	/**
+	 * Get whether a {@link Path} with given name is available.
+	 * @param name The path name
+	 * @return <code>true</code> if a path with given name is indexed
+	 */
+	public boolean contains(String name) {
+		return name != null && paths.containsKey(name);
+	}
+
+	/**
+	 * Get the number of indexed paths.
+	 * @return The index size
+	 */
+	public int size() {
+		return paths.size();
+	}
+
+	/**
+	 * Get the shared path index of given property set, building it if not already available.
+	 * @param propertySet The property set (not null)
+	 * @return The property set path index
+	 */
+	public static PropertySetPathIndex of(PropertySet<?> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		synchronized (INDEXES) {
+			final WeakReference<PropertySetPathIndex> reference = INDEXES.get(propertySet);
+			PropertySetPathIndex index = (reference != null) ? reference.get() : null;
+			if (index == null) {
+				index = new PropertySetPathIndex(propertySet);
+				INDEXES.put(propertySet, new WeakReference<>(index));
+			}
+			return index;
+		}
+	}
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.utils;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.flow.internal.VaadinLogger;
+
+/**
+ * Provides generated bean property accessors, i.e. functions which invoke the bean property getter and setter methods
+ * directly instead of using reflection, and generated bean instance factories.
+ * <p>
+ * The accessors are generated using {@link LambdaMetafactory} when possible, falling back to a {@link MethodHandle}
+ * invocation otherwise. The accessors are generated only once for each bean class and property and cached using a
+ * {@link ClassValue}, bound to the bean class.
+ * </p>
+ * <p>
+ * The cache does not hold the bean class nor its property descriptors, but the generated accessors do reference the
+ * bean class and the class loader of this class. So, when a bean class is loaded by a class loader which outlives the
+ * class loader of this class, the latter cannot be unloaded while the bean class is reachable (see JDK-8136353).
+ * </p>
+ * <p>
+ * Only the public getter and setter methods declared by a public class and the public no-args constructor of a public
+ * bean class are supported. The accessors do not perform any value conversion.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class BeanPropertyAccessors {
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Bean class accessors
+	 */
+	private static final ClassValue<ClassAccessors> ACCESSORS = new ClassValue<ClassAccessors>() {
+
+		@Override
+		protected ClassAccessors computeValue(Class<?> type) {
+			return new ClassAccessors(type);
+		}
+
+	};
+
+	private BeanPropertyAccessors() {
+	}
+
+	/**
+	 * Get the generated factory for given bean class, which invokes the bean class public no-args constructor.
+	 * @param beanClass The bean class (not null)
+	 * @return The function to use to create a new bean instance, empty if a generated factory is not available for
+	 *         the bean class
+	 */
+	public static Optional<Supplier<Object>> getFactory(Class<?> beanClass) {
+		ObjectUtils.argumentNotNull(beanClass, "Bean class must be not null");
+		return ACCESSORS.get(beanClass).getFactory();
+	}
+
+	/**
+	 * Get the generated read accessor for given bean class property.
+	 * @param beanClass The bean class (not null)
+	 * @param propertyName The property name (not null)
+	 * @return The function to use to read the property value from a bean instance, empty if a generated accessor is
+	 *         not available for the property
+	 */
+	public static Optional<Function<Object, Object>> getReader(Class<?> beanClass, String propertyName) {
+		ObjectUtils.argumentNotNull(beanClass, "Bean class must be not null");
+		ObjectUtils.argumentNotNull(propertyName, "Property name must be not null");
+		return ACCESSORS.get(beanClass).getReader(propertyName);
+	}
+
+	/**
+	 * Get the generated write accessor for given bean class property.
+	 * @param beanClass The bean class (not null)
+	 * @param propertyName The property name (not null)
+	 * @return The function to use to write the property value into a bean instance, empty if a generated accessor is
+	 *         not available for the property
+	 */
+	public static Optional<BiConsumer<Object, Object>> getWriter(Class<?> beanClass, String propertyName) {
+		ObjectUtils.argumentNotNull(beanClass, "Bean class must be not null");
+		ObjectUtils.argumentNotNull(propertyName, "Property name must be not null");
+		return ACCESSORS.get(beanClass).getWriter(propertyName);
+	}
+
+	/**
+	 * Get the type of given bean class property, as declared by the property getter or setter method.
+	 * @param beanClass The bean class (not null)
+	 * @param propertyName The property name (not null)
+	 * @return The property type, empty if the property is not available
+	 */
+	public static Optional<Class<?>> getPropertyType(Class<?> beanClass, String propertyName) {
+		ObjectUtils.argumentNotNull(beanClass, "Bean class must be not null");
+		ObjectUtils.argumentNotNull(propertyName, "Property name must be not null");
+		return ACCESSORS.get(beanClass).getPropertyType(propertyName);
+	}
+
+	/**
+	 * The generated accessors of a bean class.
+	 */
+	private static final class ClassAccessors {
+
+		private final WeakReference<Class<?>> beanClass;
+
+		private final Map<String, Optional<Function<Object, Object>>> readers = new ConcurrentHashMap<>();
+
+		private final Map<String, Optional<BiConsumer<Object, Object>>> writers = new ConcurrentHashMap<>();
+
+		private volatile Optional<Supplier<Object>> factory;
+
+		ClassAccessors(Class<?> beanClass) {
+			super();
+			this.beanClass = new WeakReference<>(beanClass);
+		}
+
+		Optional<Class<?>> getPropertyType(String propertyName) {
+			return getDescriptor(propertyName).map(d -> d.getPropertyType());
+		}
+
+		Optional<Supplier<Object>> getFactory() {
+			Optional<Supplier<Object>> f = factory;
+			if (f == null) {
+				f = Optional.ofNullable(beanClass.get()).flatMap(type -> generateFactory(type));
+				factory = f;
+			}
+			return f;
+		}
+
+		Optional<Function<Object, Object>> getReader(String propertyName) {
+			return readers.computeIfAbsent(propertyName, name -> getDescriptor(name).map(d -> d.getReadMethod())
+					.filter(m -> isAccessible(m)).flatMap(m -> generateReader(m)));
+		}
+
+		Optional<BiConsumer<Object, Object>> getWriter(String propertyName) {
+			return writers.computeIfAbsent(propertyName, name -> getDescriptor(name).map(d -> d.getWriteMethod())
+					.filter(m -> isAccessible(m)).flatMap(m -> generateWriter(m)));
+		}
+
+		private boolean isAccessible(Method method) {
+			return method != null && Modifier.isPublic(method.getDeclaringClass().getModifiers())
+					&& Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers());
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Optional<Supplier<Object>> generateFactory(Class<?> beanClass) {
+			if (!Modifier.isPublic(beanClass.getModifiers()) || Modifier.isAbstract(beanClass.getModifiers())
+					|| beanClass.isInterface()) {
+				return Optional.empty();
+			}
+			final MethodHandle handle;
+			try {
+				final Constructor<?> constructor = beanClass.getConstructor();
+				handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+			} catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+				LOGGER.debug(() -> "Cannot generate the factory for bean class [" + beanClass + "]", e);
+				return Optional.empty();
+			}
+			try {
+				final MethodHandles.Lookup lookup = MethodHandles.lookup();
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+						MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), handle,
+						MethodType.methodType(beanClass));
+				return Optional.of((Supplier<Object>) site.getTarget().invoke());
+			} catch (Throwable e) {
+				LOGGER.debug(() -> "Cannot generate the factory lambda for bean class [" + beanClass
+						+ "], falling back to the method handle invocation", e);
+			}
+			final MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+			return Optional.of(() -> {
+				try {
+					return generic.invokeExact();
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new IllegalStateException("Failed to instantiate bean class [" + beanClass + "]", e);
+				}
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Optional<Function<Object, Object>> generateReader(Method method) {
+			final MethodHandle handle;
+			try {
+				handle = MethodHandles.publicLookup().unreflect(method);
+			} catch (IllegalAccessException e) {
+				LOGGER.debug(() -> "Cannot generate the read accessor for method [" + method + "]", e);
+				return Optional.empty();
+			}
+			try {
+				final MethodHandles.Lookup lookup = MethodHandles.lookup();
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+						MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+						handle, handle.type().wrap());
+				return Optional.of((Function<Object, Object>) site.getTarget().invoke());
+			} catch (Throwable e) {
+				LOGGER.debug(() -> "Cannot generate the read accessor lambda for method [" + method
+						+ "], falling back to the method handle invocation", e);
+			}
+			final MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+			return Optional.of(instance -> {
+				try {
+					return generic.invokeExact(instance);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new IllegalStateException("Failed to invoke method [" + method + "]", e);
+				}
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Optional<BiConsumer<Object, Object>> generateWriter(Method method) {
+			final MethodHandle handle;
+			try {
+				handle = MethodHandles.publicLookup().unreflect(method);
+			} catch (IllegalAccessException e) {
+				LOGGER.debug(() -> "Cannot generate the write accessor for method [" + method + "]", e);
+				return Optional.empty();
+			}
+			final MethodHandle setter = handle.asType(handle.type().changeReturnType(void.class));
+			try {
+				final MethodHandles.Lookup lookup = MethodHandles.lookup();
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+						MethodType.methodType(BiConsumer.class),
+						MethodType.methodType(void.class, Object.class, Object.class), setter,
+						setter.type().wrap().changeReturnType(void.class));
+				return Optional.of((BiConsumer<Object, Object>) site.getTarget().invoke());
+			} catch (Throwable e) {
+				LOGGER.debug(() -> "Cannot generate the write accessor lambda for method [" + method
+						+ "], falling back to the method handle invocation", e);
+			}
+			final MethodHandle generic = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			return Optional.of((instance, value) -> {
+				try {
+					generic.invokeExact(instance, value);
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new IllegalStateException("Failed to invoke method [" + method + "]", e);
+				}
+			});
+		}
+
+		/**
+		 * Get the descriptor of given bean class property. The bean class descriptors are not retained, since the
+		 * {@link Introspector} already caches them.
+		 * @param propertyName The property name
+		 * @return The property descriptor, empty if not available
+		 */
+		private Optional<PropertyDescriptor> getDescriptor(String propertyName) {
+			final Class<?> type = beanClass.get();
+			if (type == null) {
+				return Optional.empty();
+			}
+			try {
+				for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+					if (propertyName.equals(descriptor.getName())) {
+						return Optional.of(descriptor);
+					}
+				}
+			} catch (IntrospectionException e) {
+				LOGGER.debug(() -> "Failed to introspect bean class [" + type + "]", e);
+			}
+			return Optional.empty();
+		}
+
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.utils;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
+
+/**
+ * A size-bounded, thread-safe cache which evicts the least recently used entry when the maximum size is exceeded.
+ * <p>
+ * An optional time-to-live can be configured: when the time elapsed since an entry was put in cache exceeds the
+ * time-to-live, the entry is considered expired and it is removed on the next lookup.
+ * </p>
+ * <p>
+ * The cache keeps track of the lookup hits and misses, which can be obtained using {@link #getStatistics()}.
+ * </p>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ *
+ * @since 6.0.3
+ */
+public class BoundedCache<K, V> implements Serializable {
+
+	private static final long serialVersionUID = -3419735683062468218L;
+
+	private final int maxSize;
+
+	private final long timeToLiveNanos;
+
+	private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+	private long hitCount = 0L;
+	private long missCount = 0L;
+
+	/**
+	 * Constructor.
+	 * @param maxSize The maximum number of entries to keep (must be greater than <code>0</code>)
+	 */
+	public BoundedCache(int maxSize) {
+		this(maxSize, null);
+	}
+
+	/**
+	 * Constructor.
+	 * @param maxSize The maximum number of entries to keep (must be greater than <code>0</code>)
+	 * @param timeToLive The entries time-to-live, <code>null</code> if entries never expire
+	 */
+	public BoundedCache(int maxSize, Duration timeToLive) {
+		super();
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The cache max size must be greater than 0");
+		}
+		if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+			throw new IllegalArgumentException("The cache time-to-live must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		this.timeToLiveNanos = (timeToLive != null) ? timeToLive.toNanos() : -1L;
+		this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 5254906322339574357L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+				return size() > BoundedCache.this.maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Get the maximum number of entries of the cache.
+	 * @return the cache maximum size
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Get the value bound to given key, if available, updating the hit/miss counters.
+	 * @param key The key
+	 * @return Optional cached value
+	 */
+	public synchronized Optional<V> get(K key) {
+		final CacheEntry<V> entry = getEntry(key);
+		if (entry != null) {
+			hitCount++;
+			return Optional.of(entry.value);
+		}
+		missCount++;
+		return Optional.empty();
+	}
+
+	/**
+	 * Get whether a value is bound to given key, without updating the hit/miss counters.
+	 * @param key The key
+	 * @return <code>true</code> if a value is cached for given key
+	 */
+	public synchronized boolean contains(K key) {
+		return getEntry(key) != null;
+	}
+
+	/**
+	 * Get the not expired entry bound to given key, removing it if expired.
+	 * @param key The key
+	 * @return The cache entry, <code>null</code> if none or expired
+	 */
+	private CacheEntry<V> getEntry(K key) {
+		final CacheEntry<V> entry = entries.get(key);
+		if (entry != null && timeToLiveNanos > 0 && (System.nanoTime() - entry.created) > timeToLiveNanos) {
+			entries.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Put a value in cache.
+	 * @param key The key (not null)
+	 * @param value The value (not null)
+	 */
+	public synchronized void put(K key, V value) {
+		if (key != null && value != null) {
+			entries.put(key, new CacheEntry<>(value));
+		}
+	}
+
+	/**
+	 * Remove the value bound to given key, if any.
+	 * @param key The key
+	 */
+	public synchronized void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Remove all the cached values.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Get the number of cached entries.
+	 * @return The cache size
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Get a snapshot of the cache usage statistics.
+	 * @return The cache statistics
+	 */
+	public synchronized CacheStatistics getStatistics() {
+		return CacheStatistics.create(hitCount, missCount, entries.size(), maxSize);
+	}
+
+	/**
+	 * A cache entry which holds the creation time.
+	 * 
+	 * @param <V> Value type
+	 */
+	private static final class CacheEntry<V> implements Serializable {
+
+		private static final long serialVersionUID = 8416427400436624353L;
+
+		final V value;
+		final long created;
+
+		CacheEntry(V value) {
+			super();
+			this.value = value;
+			this.created = System.nanoTime();
+		}
+
+	}
+
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.internal.utils;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * A {@link Set} of item ids which stores integral ids ({@link Long}, {@link Integer}, {@link Short} or {@link Byte})
+ * as primitive <code>long</code> values, in an open addressing hash table.
+ * <p>
+ * The primitive storage is used as long as all the ids are of the same integral type. When an id of a different type
+ * is added, the ids are moved to a standard hash set. <code>null</code> ids are not supported.
+ * </p>
+ * <p>
+ * The iterators work on a snapshot of the set, taken when the iterator is created.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public class ItemIdSet extends AbstractSet<Object> implements Serializable {
+
+	private static final long serialVersionUID = 4931688270215540736L;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The integral id type, if the primitive storage is in use
+	 */
+	private Class<?> numericType;
+
+	/**
+	 * Primitive ids hash table: <code>0</code> marks an empty slot
+	 */
+	private long[] keys;
+
+	/**
+	 * Whether the <code>0</code> id is contained
+	 */
+	private boolean containsZero = false;
+
+	/**
+	 * Primitive ids count
+	 */
+	private int numericSize = 0;
+
+	/**
+	 * Ids, if the primitive storage is not in use
+	 */
+	private Set<Object> ids;
+
+	/**
+	 * Constructor.
+	 */
+	public ItemIdSet() {
+		super();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#add(java.lang.Object)
+	 */
+	@Override
+	public boolean add(Object id) {
+		ObjectUtils.argumentNotNull(id, "Item id must be not null");
+		if (ids == null) {
+			if (numericType == null && isIntegral(id)) {
+				numericType = id.getClass();
+			}
+			if (isNumeric(id)) {
+				return addNumeric(((Number) id).longValue());
+			}
+			migrate();
+		}
+		return ids.add(id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#remove(java.lang.Object)
+	 */
+	@Override
+	public boolean remove(Object o) {
+		if (ids != null) {
+			return ids.remove(o);
+		}
+		return isNumeric(o) && removeNumeric(((Number) o).longValue());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#contains(java.lang.Object)
+	 */
+	@Override
+	public boolean contains(Object o) {
+		if (ids != null) {
+			return ids.contains(o);
+		}
+		return isNumeric(o) && containsNumeric(((Number) o).longValue());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return (ids != null) ? ids.size() : numericSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#clear()
+	 */
+	@Override
+	public void clear() {
+		numericType = null;
+		keys = null;
+		containsZero = false;
+		numericSize = 0;
+		ids = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#iterator()
+	 */
+	@Override
+	public Iterator<Object> iterator() {
+		final Object[] snapshot = (ids != null) ? ids.toArray() : numericSnapshot();
+		return new Iterator<Object>() {
+
+			private int index = 0;
+			private Object last;
+
+			@Override
+			public boolean hasNext() {
+				return index < snapshot.length;
+			}
+
+			@Override
+			public Object next() {
+				if (index >= snapshot.length) {
+					throw new NoSuchElementException();
+				}
+				last = snapshot[index++];
+				return last;
+			}
+
+			@Override
+			public void remove() {
+				if (last == null) {
+					throw new IllegalStateException();
+				}
+				ItemIdSet.this.remove(last);
+				last = null;
+			}
+
+		};
+	}
+
+	/**
+	 * Get whether the primitive storage is in use.
+	 * @return <code>true</code> if the ids are stored as primitive values
+	 */
+	public boolean isPrimitive() {
+		return ids == null;
+	}
+
+	private static boolean isIntegral(Object id) {
+		return id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+	}
+
+	private boolean isNumeric(Object id) {
+		return id != null && numericType != null && id.getClass() == numericType;
+	}
+
+	private Object box(long value) {
+		if (numericType == Integer.class) {
+			return Integer.valueOf((int) value);
+		}
+		if (numericType == Short.class) {
+			return Short.valueOf((short) value);
+		}
+		if (numericType == Byte.class) {
+			return Byte.valueOf((byte) value);
+		}
+		return Long.valueOf(value);
+	}
+
+	private Object[] numericSnapshot() {
+		final Object[] snapshot = new Object[numericSize];
+		int index = 0;
+		if (containsZero) {
+			snapshot[index++] = box(0L);
+		}
+		if (keys != null) {
+			for (long key : keys) {
+				if (key != 0L) {
+					snapshot[index++] = box(key);
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Move the primitive ids to a standard hash set.
+	 */
+	private void migrate() {
+		final Set<Object> migrated = new HashSet<>(Math.max(DEFAULT_CAPACITY, numericSize * 2));
+		for (Object id : numericSnapshot()) {
+			migrated.add(id);
+		}
+		clear();
+		ids = migrated;
+	}
+
+	private static int hash(long key) {
+		final long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private int indexOf(long key) {
+		if (keys == null) {
+			return -1;
+		}
+		final int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		while (keys[i] != 0L) {
+			if (keys[i] == key) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private boolean containsNumeric(long key) {
+		return (key == 0L) ? containsZero : indexOf(key) >= 0;
+	}
+
+	private boolean addNumeric(long key) {
+		if (key == 0L) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			numericSize++;
+			return true;
+		}
+		if (keys == null) {
+			keys = new long[DEFAULT_CAPACITY];
+		}
+		if (!insert(keys, key)) {
+			return false;
+		}
+		numericSize++;
+		final int stored = containsZero ? numericSize - 1 : numericSize;
+		if (stored > (keys.length >> 1) + (keys.length >> 2)) {
+			final long[] rehashed = new long[keys.length << 1];
+			for (long k : keys) {
+				if (k != 0L) {
+					insert(rehashed, k);
+				}
+			}
+			keys = rehashed;
+		}
+		return true;
+	}
+
+	private static boolean insert(long[] table, long key) {
+		final int mask = table.length - 1;
+		int i = hash(key) & mask;
+		while (table[i] != 0L) {
+			if (table[i] == key) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		table[i] = key;
+		return true;
+	}
+
+	private boolean removeNumeric(long key) {
+		if (key == 0L) {
+			if (!containsZero) {
+				return false;
+			}
+			containsZero = false;
+			numericSize--;
+			return true;
+		}
+		int i = indexOf(key);
+		if (i < 0) {
+			return false;
+		}
+		keys[i] = 0L;
+		numericSize--;
+		// shift back the following entries of the probe sequence
+		final int mask = keys.length - 1;
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (keys[j] == 0L) {
+				break;
+			}
+			final int k = hash(keys[j]) & mask;
+			if ((j > i && (k <= i || k > j)) || (j < i && (k <= i && k > j))) {
+				keys[i] = keys[j];
+				keys[j] = 0L;
+				i = j;
+			}
+		}
+		return true;
+	}
+
+}
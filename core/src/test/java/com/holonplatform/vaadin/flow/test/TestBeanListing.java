@@ -57,6 +57,7 @@ import com.holonplatform.vaadin.flow.data.ItemSort;
 import com.holonplatform.vaadin.flow.internal.components.AbstractItemListing;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn.SortMode;
+import com.holonplatform.vaadin.flow.internal.utils.BeanPropertyAccessors;
 import com.holonplatform.vaadin.flow.test.util.ComponentTestUtils;
 import com.holonplatform.vaadin.flow.test.util.LocalizationTestUtils;
 import com.vaadin.flow.component.ComponentUtil;
@@ -108,6 +109,27 @@ public class TestBeanListing {
 
 	}
 
+	public static class TracedBean {
+
+		private String name;
+
+		private StackTraceElement[] readTrace;
+
+		public String getName() {
+			readTrace = new Throwable().getStackTrace();
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public StackTraceElement[] getReadTrace() {
+			return readTrace;
+		}
+
+	}
+
 	private static final String ID = "id";
 	private static final String NAME = "name";
 
@@ -524,6 +546,20 @@ public class TestBeanListing {
 		assertTrue(items.stream().filter(i -> i.getId() == 1L).findFirst().isPresent());
 		assertTrue(items.stream().filter(i -> i.getId() == 2L).findFirst().isPresent());
 
+		final AtomicInteger created = new AtomicInteger(0);
+		listing = BeanListing.builder(TestBean.class).dataSource(datastore, TARGET, () -> {
+			created.incrementAndGet();
+			return new TestBean();
+		}).build();
+
+		items = getDataProvider(listing).fetch(new Query<>()).collect(Collectors.toList());
+		assertEquals(2, items.size());
+		assertEquals(2, created.get());
+		assertEquals("test1", items.stream().filter(i -> i.getId() == 1L).map(i -> i.getName()).findFirst()
+				.orElse(null));
+		assertEquals("test2", items.stream().filter(i -> i.getId() == 2L).map(i -> i.getName()).findFirst()
+				.orElse(null));
+
 		listing = BeanListing.builder(TestBean.class).dataSource(datastore, TARGET)
 				.withQueryFilter(beanPropertySet.property(ID).lt(2L)).build();
 
@@ -790,6 +826,49 @@ public class TestBeanListing {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testGeneratedAccessors() {
+
+		final TestBean bean = new TestBean(1L, "test1");
+
+		assertEquals(1L, BeanPropertyAccessors.getReader(TestBean.class, ID).map(r -> r.apply(bean)).orElse(null));
+		assertEquals("test1",
+				BeanPropertyAccessors.getReader(TestBean.class, NAME).map(r -> r.apply(bean)).orElse(null));
+		assertFalse(BeanPropertyAccessors.getReader(TestBean.class, "xxx").isPresent());
+		assertEquals(long.class, BeanPropertyAccessors.getPropertyType(TestBean.class, ID).orElse(null));
+
+		BeanPropertyAccessors.getWriter(TestBean.class, ID).ifPresent(w -> w.accept(bean, 2L));
+		BeanPropertyAccessors.getWriter(TestBean.class, NAME).ifPresent(w -> w.accept(bean, "test2"));
+		assertEquals(2L, bean.getId());
+		assertEquals("test2", bean.getName());
+
+		final BeanListing<TestBean> listing = BeanListing.builder(TestBean.class).build();
+		final Column<TestBean> column = getImpl(listing).getGrid()
+				.getColumnByKey(getImpl(listing).getColumnConfiguration(NAME).getColumnKey());
+		assertNotNull(column);
+		final ValueProvider<TestBean, Object> vp = (ValueProvider<TestBean, Object>) column.getRenderer()
+				.getValueProviders().values().iterator().next();
+		assertEquals("test2", vp.apply(bean));
+
+		// the top level property column reads the value using the generated accessor
+		final TracedBean traced = new TracedBean();
+		traced.setName("traced");
+		final AbstractItemListing<TracedBean, String> tracedImpl = (AbstractItemListing<TracedBean, String>) BeanListing
+				.builder(TracedBean.class).build();
+		final Column<TracedBean> tracedColumn = tracedImpl.getGrid()
+				.getColumnByKey(tracedImpl.getColumnConfiguration(NAME).getColumnKey());
+		assertNotNull(tracedColumn);
+		final ValueProvider<TracedBean, Object> tvp = (ValueProvider<TracedBean, Object>) tracedColumn.getRenderer()
+				.getValueProviders().values().iterator().next();
+		assertEquals("traced", tvp.apply(traced));
+		assertNotNull(traced.getReadTrace());
+		assertTrue(Arrays.stream(traced.getReadTrace())
+				.anyMatch(e -> e.getClassName().endsWith("DefaultBeanListing$GeneratedPropertyValueGetter")));
+		assertFalse(Arrays.stream(traced.getReadTrace())
+				.anyMatch(e -> e.getClassName().startsWith("java.lang.reflect.")));
+	}
+
 	@Test
 	public void testItemDetails() {
 
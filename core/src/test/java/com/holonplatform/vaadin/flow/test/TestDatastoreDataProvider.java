@@ -0,0 +1,813 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.flow.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.ParameterSet;
+import com.holonplatform.core.Registration;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.property.NumericProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.StringProperty;
+import com.holonplatform.core.property.VirtualProperty;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.datastore.jdbc.JdbcDatastore;
+import com.holonplatform.jdbc.BasicDataSource;
+import com.holonplatform.jdbc.DatabasePlatform;
+import com.holonplatform.vaadin.flow.components.PropertyListing;
+import com.holonplatform.vaadin.flow.data.AdditionalItemsProvider;
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
+import com.holonplatform.vaadin.flow.data.DatastoreChangeBus;
+import com.holonplatform.vaadin.flow.data.DatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
+import com.holonplatform.vaadin.flow.data.ItemListingDataProviderAdapter;
+import com.holonplatform.vaadin.flow.internal.data.CachedDatastoreCountStrategy;
+import com.holonplatform.vaadin.flow.internal.data.PropertySetPathIndex;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.Command;
+
+public class TestDatastoreDataProvider extends AbstractSessionTest {
+
+	private static final NumericProperty<Long> ID = NumericProperty.longType("id");
+	private static final StringProperty NAME = StringProperty.create("name");
+
+	private static final PropertySet<?> SET = PropertySet.builderOf(ID, NAME).withIdentifier(ID).build();
+
+	private static final DataTarget<?> TARGET = DataTarget.named("test2");
+
+	private static Datastore createDatastore() {
+		return JdbcDatastore.builder()
+				.dataSource(
+						BasicDataSource.builder().url("jdbc:h2:mem:test;INIT=RUNSCRIPT FROM 'classpath:test_init.sql'")
+								.username("sa").driverClassName(DatabasePlatform.H2.getDriverClassName()).build())
+				.traceEnabled(true).build();
+	}
+
+	private static Query<PropertyBox, QueryFilter> page(int offset, int limit) {
+		return new Query<>(offset, limit, Collections.emptyList(), null, null);
+	}
+
+	@Test
+	public void testPageCache() {
+
+		final Datastore datastore = createDatastore();
+
+		DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).withDefaultQuerySort(ID.asc()).build();
+
+		assertEquals(0, dataProvider.getPageCacheSize());
+		assertEquals(0, dataProvider.getPageCacheStatistics().getMaxSize());
+
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET).withDefaultQuerySort(ID.asc())
+				.pageCache(2).build();
+
+		assertEquals(2, dataProvider.getPageCacheSize());
+
+		List<PropertyBox> items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+
+		CacheStatistics statistics = dataProvider.getPageCacheStatistics();
+		assertEquals(0, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getSize());
+
+		items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+
+		statistics = dataProvider.getPageCacheStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		items = dataProvider.fetch(page(0, 2)).collect(Collectors.toList());
+		assertEquals(2, items.size());
+
+		statistics = dataProvider.getPageCacheStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(3, statistics.getMissCount());
+		assertEquals(2, statistics.getSize());
+
+		// query parameters
+		final AtomicInteger parameter = new AtomicInteger(1);
+		dataProvider.addQueryConfigurationProvider(new QueryConfigurationProvider() {
+
+			@Override
+			public QueryFilter getQueryFilter() {
+				return null;
+			}
+
+			@Override
+			public ParameterSet getQueryParameters() {
+				return ParameterSet.builder().withParameter("test", parameter.get()).build();
+			}
+
+		});
+
+		assertEquals(1, dataProvider.fetch(page(0, 1)).count());
+		assertEquals(1, dataProvider.fetch(page(0, 1)).count());
+
+		statistics = dataProvider.getPageCacheStatistics();
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(4, statistics.getMissCount());
+
+		parameter.set(2);
+		dataProvider.addQueryConfigurationProvider(new QueryConfigurationProvider() {
+
+			@Override
+			public QueryFilter getQueryFilter() {
+				return null;
+			}
+
+		});
+
+		assertEquals(1, dataProvider.fetch(page(0, 1)).count());
+
+		statistics = dataProvider.getPageCacheStatistics();
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(5, statistics.getMissCount());
+
+		dataProvider.refreshAll();
+		assertEquals(0, dataProvider.getPageCacheStatistics().getSize());
+
+	}
+
+	@Test
+	public void testCountStrategy() {
+
+		final Datastore datastore = createDatastore();
+
+		DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).build();
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+
+		final CachedDatastoreCountStrategy cached = (CachedDatastoreCountStrategy) DatastoreCountStrategy
+				.cached(Duration.ofMinutes(1));
+
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET).countStrategy(cached).build();
+
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+
+		CacheStatistics statistics = cached.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+
+		// shared by a data provider bound to a different target
+		final StringProperty CODE = StringProperty.create("code");
+		final DatastoreDataProvider<PropertyBox, QueryFilter> other = DatastoreDataProvider
+				.builder(datastore, DataTarget.named("test1"), PropertySet.builderOf(CODE).withIdentifier(CODE).build())
+				.countStrategy(cached).build();
+		assertEquals(2, other.size(page(0, Integer.MAX_VALUE)));
+		statistics = cached.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+
+		// no count query after a refresh, within the time-to-live
+		dataProvider.refreshAll();
+		assertEquals(2, cached.getStatistics().getSize());
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		statistics = cached.getStatistics();
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+
+		// filter changes back and forth
+		assertEquals(1, dataProvider.size(new Query<>(ID.eq(1L))));
+		dataProvider.refreshAll();
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		dataProvider.refreshAll();
+		assertEquals(1, dataProvider.size(new Query<>(ID.eq(1L))));
+		statistics = cached.getStatistics();
+		assertEquals(4, statistics.getHitCount());
+		assertEquals(3, statistics.getMissCount());
+
+		// explicit invalidation
+		dataProvider.clearCaches();
+		assertEquals(0, cached.getStatistics().getSize());
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		assertEquals(4, cached.getStatistics().getMissCount());
+
+		final AtomicInteger estimates = new AtomicInteger(0);
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET)
+				.countStrategy(DatastoreCountStrategy.estimated((d, t, f) -> {
+					estimates.incrementAndGet();
+					return 1000L;
+				})).build();
+		assertEquals(1000, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		assertEquals(1, estimates.get());
+
+		dataProvider.setCountStrategy(DatastoreCountStrategy.estimated((d, t, f) -> -1L));
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+
+	}
+
+	@Test
+	public void testKeysetPagination() {
+
+		final Datastore datastore = createDatastore();
+
+		DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).build();
+		assertFalse(dataProvider.isKeysetPagination());
+
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET).keysetPagination(true).build();
+		assertTrue(dataProvider.isKeysetPagination());
+
+		List<PropertyBox> items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		items = dataProvider.fetch(page(2, 1)).collect(Collectors.toList());
+		assertEquals(0, items.size());
+
+		dataProvider.refreshAll();
+
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET).withDefaultQuerySort(NAME.desc())
+				.keysetPagination(true).build();
+
+		items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+
+	}
+
+	@Test
+	public void testAsyncFetch() {
+
+		when(vaadinSession.access(any(Command.class))).thenAnswer(invocation -> {
+			((Command) invocation.getArgument(0)).execute();
+			return null;
+		});
+
+		final Datastore datastore = createDatastore();
+
+		final List<Runnable> tasks = new LinkedList<>();
+		final DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).withDefaultQuerySort(ID.asc()).asyncExecutor(r -> tasks.add(r))
+				.build();
+		assertTrue(dataProvider.getAsyncExecutor().isPresent());
+
+		final AtomicInteger changes = new AtomicInteger(0);
+		dataProvider.addDataProviderListener(e -> changes.incrementAndGet());
+		final List<Boolean> loadingStates = new LinkedList<>();
+		dataProvider.addLoadingStateListener(loading -> loadingStates.add(loading));
+
+		assertEquals(0, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		assertEquals(0, dataProvider.fetch(page(0, 1)).count());
+		assertTrue(dataProvider.isLoading());
+		assertEquals(2, tasks.size());
+
+		tasks.forEach(t -> t.run());
+		tasks.clear();
+		assertFalse(dataProvider.isLoading());
+		assertEquals(1, changes.get());
+		assertEquals(2, loadingStates.size());
+		assertTrue(loadingStates.get(0));
+		assertFalse(loadingStates.get(1));
+
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		List<PropertyBox> items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+		assertTrue(tasks.isEmpty());
+
+		// superseded
+		assertEquals(0, dataProvider.fetch(page(1, 1)).count());
+		assertTrue(dataProvider.isLoading());
+		dataProvider.refreshAll();
+		assertFalse(dataProvider.isLoading());
+		changes.set(0);
+		tasks.forEach(t -> t.run());
+		tasks.clear();
+		assertEquals(0, changes.get());
+		assertEquals(0, dataProvider.fetch(page(1, 1)).count());
+		assertEquals(1, tasks.size());
+
+		// previous count and pages served while reloading
+		assertEquals(2, dataProvider.size(page(0, Integer.MAX_VALUE)));
+		items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+		assertTrue(dataProvider.isLoading());
+		assertEquals(3, tasks.size());
+		tasks.forEach(t -> t.run());
+		tasks.clear();
+		assertFalse(dataProvider.isLoading());
+		assertEquals(1, changes.get());
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+		assertTrue(tasks.isEmpty());
+
+		// no UI: synchronous
+		CurrentInstance.set(UI.class, null);
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+	}
+
+	@Test
+	public void testReadAhead() {
+
+		final Datastore datastore = createDatastore();
+
+		DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).build();
+		assertEquals(0, dataProvider.getReadAheadPages());
+		assertEquals(0, dataProvider.getReadAheadStatistics().getMaxSize());
+
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET).withDefaultQuerySort(ID.asc())
+				.readAhead(1, r -> r.run()).build();
+		assertEquals(1, dataProvider.getReadAheadPages());
+
+		List<PropertyBox> items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(1L), items.get(0).getValue(ID));
+
+		CacheStatistics statistics = dataProvider.getReadAheadStatistics();
+		assertEquals(0, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getSize());
+
+		items = dataProvider.fetch(page(1, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		statistics = dataProvider.getReadAheadStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+
+		dataProvider.refreshAll();
+		assertEquals(0, dataProvider.getReadAheadStatistics().getSize());
+
+	}
+
+	@Test
+	public void testQueryProjection() {
+
+		final NumericProperty<Integer> CODE = NumericProperty.integerType("id");
+		final PropertySet<?> SET_NO_ID = PropertySet.of(CODE, NAME);
+
+		final Datastore datastore = createDatastore();
+
+		DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).withDefaultQuerySort(ID.asc()).build();
+		assertFalse(dataProvider.getQueryProjection().isPresent());
+
+		dataProvider.setQueryProjection(PropertySet.of(NAME));
+		assertTrue(dataProvider.getQueryProjection().isPresent());
+
+		List<PropertyBox> items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertTrue(items.get(0).contains(ID));
+		assertTrue(items.get(0).contains(NAME));
+		assertEquals("test1", items.get(0).getValue(NAME));
+
+		dataProvider = DatastoreDataProvider.builder(datastore, TARGET, SET_NO_ID).withDefaultQuerySort(NAME.desc())
+				.build();
+		dataProvider.setQueryProjection(PropertySet.of(CODE));
+
+		items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertTrue(items.get(0).contains(CODE));
+		assertTrue(items.get(0).contains(NAME));
+		assertEquals(Integer.valueOf(2), items.get(0).getValue(CODE));
+
+		dataProvider.setQueryProjection(PropertySet.of(NAME));
+		dataProvider.setDefaultSort(CODE.asc());
+
+		items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertTrue(items.get(0).contains(CODE));
+		assertEquals("test1", items.get(0).getValue(NAME));
+
+		dataProvider.setQueryProjection(null);
+		items = dataProvider.fetch(page(0, 1)).collect(Collectors.toList());
+		assertTrue(items.get(0).contains(CODE));
+		assertTrue(items.get(0).contains(NAME));
+
+	}
+
+	@Test
+	public void testPathIndex() throws InterruptedException {
+
+		final PropertySetPathIndex index = PropertySetPathIndex.of(SET);
+		assertSame(index, PropertySetPathIndex.of(SET));
+		assertEquals(2, index.size());
+		assertTrue(index.contains("id"));
+		assertTrue(index.contains("name"));
+		assertFalse(index.contains("xxx"));
+		assertFalse(index.contains(null));
+		assertEquals(ID, index.getPath("id").orElse(null));
+		assertEquals(NAME, index.getProperty("name").orElse(null));
+		assertFalse(index.getProperty("xxx").isPresent());
+
+		final DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(createDatastore(), TARGET, SET).build();
+
+		List<PropertyBox> items = dataProvider.fetch(new Query<>(0, 2,
+				Collections.singletonList(new QuerySortOrder("id", SortDirection.DESCENDING)), null, null))
+				.collect(Collectors.toList());
+		assertEquals(2, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		assertThrows(IllegalArgumentException.class, () -> dataProvider.getQuerySortOrderConverter()
+				.apply(new QuerySortOrder("xxx", SortDirection.ASCENDING)));
+
+		PropertySet<?> set = PropertySet.of(StringProperty.create("transient"));
+		final WeakReference<PropertySet<?>> reference = new WeakReference<>(set);
+		assertTrue(PropertySetPathIndex.of(set).contains("transient"));
+		set = null;
+
+		for (int i = 0; i < 20 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertNull(reference.get());
+
+	}
+
+	@Test
+	public void testQueryDefinitionSnapshot() {
+
+		final AtomicInteger filterCount = new AtomicInteger(0);
+		final AtomicInteger converterCount = new AtomicInteger(0);
+
+		final DatastoreDataProvider<PropertyBox, String> dataProvider = DatastoreDataProvider
+				.builder(createDatastore(), TARGET, SET, (String value) -> {
+					converterCount.incrementAndGet();
+					return NAME.eq(value);
+				}).withQueryConfigurationProvider(new QueryConfigurationProvider() {
+
+					@Override
+					public QueryFilter getQueryFilter() {
+						filterCount.incrementAndGet();
+						return ID.gt(0L);
+					}
+
+					@Override
+					public QuerySort getQuerySort() {
+						return null;
+					}
+
+					@Override
+					public ParameterSet getQueryParameters() {
+						return null;
+					}
+
+				}).withDefaultQuerySort(ID.asc()).build();
+
+		final Query<PropertyBox, String> query = new Query<>(0, 10, Collections.emptyList(), null, "test2");
+
+		assertEquals(1, dataProvider.size(query));
+		List<PropertyBox> items = dataProvider.fetch(query).collect(Collectors.toList());
+		assertEquals(1, items.size());
+		assertEquals(Long.valueOf(2L), items.get(0).getValue(ID));
+
+		assertEquals(1, filterCount.get());
+		assertEquals(1, converterCount.get());
+
+		assertEquals(1, dataProvider.size(new Query<>(0, 10, Collections.emptyList(), null, "test1")));
+		assertEquals(1, filterCount.get());
+		assertEquals(2, converterCount.get());
+
+		dataProvider.refreshAll();
+
+		assertEquals(1, dataProvider.size(new Query<>(0, 10, Collections.emptyList(), null, "test1")));
+		assertEquals(2, filterCount.get());
+		assertEquals(3, converterCount.get());
+
+	}
+
+	@Test
+	public void testAdditionalItems() {
+
+		final AtomicInteger itemsCount = new AtomicInteger(0);
+
+		final DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(createDatastore(), TARGET, SET).withDefaultQuerySort(ID.asc())
+				.additionalItemsProvider(new AdditionalItemsProvider<PropertyBox>() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					public int getAdditionalItemsCount(Datastore datastore, DataTarget<?> target,
+							PropertySet<?> propertySet) {
+						return 1;
+					}
+
+					@Override
+					public List<PropertyBox> getAdditionalItems(Datastore datastore, DataTarget<?> target,
+							PropertySet<?> propertySet) {
+						itemsCount.incrementAndGet();
+						return Collections.singletonList(
+								PropertyBox.builder(SET).set(ID, 99L).set(NAME, "additional").build());
+					}
+
+				}).build();
+
+		assertEquals(3, dataProvider.size(page(0, 10)));
+		List<PropertyBox> items = dataProvider.fetch(page(0, 10)).collect(Collectors.toList());
+		assertEquals(3, items.size());
+		assertEquals(Long.valueOf(99L), items.get(0).getValue(ID));
+		items = dataProvider.fetch(page(10, 10)).collect(Collectors.toList());
+		assertEquals(0, items.size());
+
+		assertEquals(1, itemsCount.get());
+
+		dataProvider.refreshAll();
+		assertEquals(3, dataProvider.size(page(0, 10)));
+		assertEquals(2, itemsCount.get());
+
+	}
+
+	@Test
+	public void testProbe() {
+
+		final Datastore datastore = createDatastore();
+
+		final DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(datastore, TARGET, SET).build();
+
+		assertEquals(dataProvider.probe(null), dataProvider.probe(null));
+		assertEquals(Arrays.asList(2L, 2L), dataProvider.probe(ID));
+		assertThrows(IllegalArgumentException.class, () -> dataProvider.probe(VirtualProperty.create(String.class, pb -> "x")));
+
+		dataProvider.addQueryConfigurationProvider(new QueryConfigurationProvider() {
+
+			@Override
+			public QueryFilter getQueryFilter() {
+				return ID.lt(2L);
+			}
+
+		});
+		assertEquals(Arrays.asList(1L, 1L), dataProvider.probe(ID));
+
+		// listing auto refresh
+		assertThrows(IllegalArgumentException.class, () -> PropertyListing.builder(SET).dataSource(datastore, TARGET)
+				.autoRefresh(Duration.ofSeconds(-1)));
+
+		final PropertyListing listing = PropertyListing.builder(SET).dataSource(datastore, TARGET)
+				.autoRefresh(Duration.ofSeconds(5), ID).build();
+
+		assertEquals(-1, ui.getPollInterval());
+		ui.add(listing.getComponent());
+		assertEquals(5000, ui.getPollInterval());
+		ui.remove(listing.getComponent());
+		assertEquals(-1, ui.getPollInterval());
+
+		// the shortest interval is applied
+		final PropertyListing listing2 = PropertyListing.builder(SET).dataSource(datastore, TARGET)
+				.autoRefresh(Duration.ofSeconds(2)).build();
+		ui.add(listing.getComponent());
+		ui.add(listing2.getComponent());
+		assertEquals(2000, ui.getPollInterval());
+		ui.remove(listing2.getComponent());
+		assertEquals(5000, ui.getPollInterval());
+		ui.remove(listing.getComponent());
+		assertEquals(-1, ui.getPollInterval());
+
+		ui.setPollInterval(1000);
+		ui.add(listing.getComponent());
+		assertEquals(1000, ui.getPollInterval());
+		ui.remove(listing.getComponent());
+		assertEquals(1000, ui.getPollInterval());
+		ui.setPollInterval(-1);
+
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testChangeBus() {
+
+		final DatastoreChangeBus changeBus = DatastoreChangeBus.create();
+
+		final DatastoreDataProvider<PropertyBox, QueryFilter> dataProvider = DatastoreDataProvider
+				.builder(createDatastore(), TARGET, SET).build();
+
+		final AtomicInteger refreshAll = new AtomicInteger(0);
+		final List<PropertyBox> refreshed = new LinkedList<>();
+		dataProvider.addDataProviderListener(e -> {
+			if (e instanceof DataRefreshEvent) {
+				refreshed.add(((DataRefreshEvent<PropertyBox>) e).getItem());
+			} else {
+				refreshAll.incrementAndGet();
+			}
+		});
+
+		final Registration registration = dataProvider.subscribe(changeBus, null);
+
+		changeBus.publish(TARGET, Collections.singleton(1L));
+		assertEquals(0, refreshAll.get());
+		assertEquals(1, refreshed.size());
+		assertEquals(Long.valueOf(1L), refreshed.get(0).getValue(ID));
+
+		// own changes are ignored
+		changeBus.publish(dataProvider, TARGET, Collections.singleton(2L));
+		assertEquals(1, refreshed.size());
+
+		// other targets
+		changeBus.publish(DataTarget.named("test1"), Collections.singleton(1L));
+		assertEquals(1, refreshed.size());
+		assertEquals(0, refreshAll.get());
+
+		// unknown items
+		changeBus.publish(TARGET);
+		assertEquals(1, refreshAll.get());
+		changeBus.publish(TARGET, Collections.singleton(999L));
+		assertEquals(2, refreshAll.get());
+
+		registration.remove();
+		changeBus.publish(TARGET);
+		assertEquals(2, refreshAll.get());
+		assertEquals(1, refreshed.size());
+
+	}
+
+	@Test
+	public void testChangeBusUIRetention() throws InterruptedException {
+
+		final DatastoreChangeBus changeBus = DatastoreChangeBus.create();
+
+		UI subscriber = new UI();
+		final WeakReference<UI> reference = new WeakReference<>(subscriber);
+		final Registration registration = changeBus.subscribe(TARGET, subscriber, e -> {
+		});
+		changeBus.publish(TARGET, Collections.singleton(1L));
+		registration.remove();
+		subscriber = null;
+
+		for (int i = 0; i < 20 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertNull(reference.get());
+
+	}
+
+	@Test
+	public void testItemListingDataProviderAdapter() {
+
+		final List<String> backend = new LinkedList<>(Arrays.asList("a", "b", "c"));
+		final AtomicInteger counts = new AtomicInteger(0);
+		final AtomicInteger fetches = new AtomicInteger(0);
+
+		final DataProvider<String, Void> concrete = DataProvider.<String>fromCallbacks(q -> {
+			fetches.incrementAndGet();
+			return backend.stream().skip(q.getOffset()).limit(q.getLimit());
+		}, q -> {
+					counts.incrementAndGet();
+					return backend.size();
+				});
+		final ItemListingDataProviderAdapter<String, Void> adapter = ItemListingDataProviderAdapter.adapt(concrete);
+
+		final AtomicInteger events = new AtomicInteger(0);
+		final AtomicInteger concreteEvents = new AtomicInteger(0);
+		adapter.addDataProviderListener(e -> events.incrementAndGet());
+		concrete.addDataProviderListener(e -> concreteEvents.incrementAndGet());
+
+		assertEquals(3, adapter.size(new Query<>()));
+		assertEquals(Arrays.asList("a", "b", "c"),
+				adapter.fetch(new Query<>(0, 50, Collections.emptyList(), null, null)).collect(Collectors.toList()));
+
+		for (int i = 0; i < 10; i++) {
+			adapter.addAdditionalItem("d" + i);
+			assertEquals(4 + i, adapter.size(new Query<>()));
+		}
+		assertEquals(10, events.get());
+		// the concrete data provider is not refreshed nor queried
+		assertEquals(0, concreteEvents.get());
+		assertEquals(1, counts.get());
+
+		List<String> items = adapter.fetch(new Query<>(0, 50, Collections.emptyList(), null, null))
+				.collect(Collectors.toList());
+		assertEquals(13, items.size());
+		assertEquals("d0", items.get(0));
+		assertEquals("a", items.get(10));
+
+		// paging
+		items = adapter.fetch(new Query<>(8, 4, Collections.emptyList(), null, null)).collect(Collectors.toList());
+		assertEquals(Arrays.asList("d8", "d9", "a", "b"), items);
+		items = adapter.fetch(new Query<>(12, 4, Collections.emptyList(), null, null)).collect(Collectors.toList());
+		assertEquals(Arrays.asList("c"), items);
+		// the last fetched concrete items are reused
+		assertEquals(1, fetches.get());
+
+		assertTrue(adapter.isAdditionalItem("d3"));
+		assertFalse(adapter.isAdditionalItem("a"));
+
+		// the concrete data provider data is reused until refreshed
+		backend.add("e");
+		assertEquals(13, adapter.size(new Query<>()));
+
+		assertTrue(adapter.removeAdditionalItem("d5"));
+		assertFalse(adapter.removeAdditionalItem("d5"));
+		assertEquals(12, adapter.size(new Query<>()));
+		assertEquals(0, concreteEvents.get());
+		assertEquals(1, counts.get());
+
+		final int countsBeforeRefresh = counts.get();
+		adapter.refreshAll();
+		assertEquals(1, concreteEvents.get());
+		assertEquals(13, adapter.size(new Query<>()));
+		assertEquals(countsBeforeRefresh + 1, counts.get());
+
+		adapter.removeAdditionalItems();
+		assertEquals(4, adapter.size(new Query<>()));
+		assertTrue(adapter.getAdditionalItems().isEmpty());
+
+	}
+
+	@Test
+	public void testItemListingDataProviderAdapterListeners() {
+
+		final DataProvider<String, Void> concrete = DataProvider.<String>fromCallbacks(
+				q -> Stream.of("a", "b").skip(q.getOffset()).limit(q.getLimit()), q -> 2);
+		final ItemListingDataProviderAdapter<String, Void> adapter = ItemListingDataProviderAdapter.adapt(concrete);
+
+		final AtomicInteger events = new AtomicInteger(0);
+
+		// the concrete data provider listener is removed along with the last adapter listener
+		for (int i = 0; i < 3; i++) {
+			final com.vaadin.flow.shared.Registration registration = adapter
+					.addDataProviderListener(e -> events.incrementAndGet());
+			registration.remove();
+			registration.remove();
+		}
+		concrete.refreshAll();
+		assertEquals(0, events.get());
+
+		final com.vaadin.flow.shared.Registration registration = adapter
+				.addDataProviderListener(e -> events.incrementAndGet());
+		concrete.refreshAll();
+		assertEquals(1, events.get());
+		concrete.refreshItem("a");
+		assertEquals(2, events.get());
+
+		registration.remove();
+		concrete.refreshAll();
+		assertEquals(2, events.get());
+
+	}
+
+}
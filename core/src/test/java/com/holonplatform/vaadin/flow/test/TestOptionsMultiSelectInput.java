@@ -732,6 +732,18 @@ public class TestOptionsMultiSelectInput {
 		assertEquals(1, pitems.stream().filter(i -> "A".equals(i.getValue(CODE))).count());
 		assertEquals(1, pitems.stream().filter(i -> "B".equals(i.getValue(CODE))).count());
 
+		// batch value to item conversion
+
+		input4 = Input.multiOptionSelect(CODE).dataSource(datastore, TARGET1, TEST1).build();
+		input4.setValue(new HashSet<>(Arrays.asList("A", "B", "X")));
+		assertEquals(2, input4.getValue().size());
+		assertTrue(input4.getValue().contains("A"));
+		assertTrue(input4.getValue().contains("B"));
+
+		Set<PropertyBox> selected = ((CheckboxGroup<PropertyBox>) input4.getComponent()).getValue();
+		assertEquals(2, selected.size());
+		assertEquals(1, selected.stream().filter(i -> "Description A".equals(i.getValue(DESCRIPTION))).count());
+
 	}
 
 	@Test
@@ -18,7 +18,9 @@ package com.holonplatform.vaadin.flow.test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,6 +34,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -59,17 +62,21 @@ import com.holonplatform.vaadin.flow.components.Selectable.SelectionMode;
 import com.holonplatform.vaadin.flow.components.builders.ItemListingConfigurator.ColumnAlignment;
 import com.holonplatform.vaadin.flow.components.builders.PropertyListingBuilder;
 import com.holonplatform.vaadin.flow.components.support.Unit;
+import com.holonplatform.vaadin.flow.data.CacheStatistics;
 import com.holonplatform.vaadin.flow.data.ItemSort;
 import com.holonplatform.vaadin.flow.internal.components.AbstractItemListing;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn;
 import com.holonplatform.vaadin.flow.internal.components.support.ItemListingColumn.SortMode;
+import com.holonplatform.vaadin.flow.internal.components.support.PooledComponentRenderer;
 import com.holonplatform.vaadin.flow.test.util.ComponentTestUtils;
 import com.holonplatform.vaadin.flow.test.util.LocalizationTestUtils;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.component.grid.GridSelectionColumn;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataProvider;
@@ -338,6 +345,14 @@ public class TestPropertyListing {
 		listing = PropertyListing.builder(SET).renderer(ID, rnd).build();
 		assertEquals(rnd, getImpl(listing).getColumnConfiguration(ID).getRenderer().orElse(null));
 
+		listing = PropertyListing.builder(SET).templateRenderer(ID, "<b>${item.value}</b>", "value", item -> "test")
+				.build();
+		assertTrue(getImpl(listing).getColumnConfiguration(ID).getRenderer().orElse(null) instanceof LitRenderer);
+
+		listing = PropertyListing.builder(SET).renderAsTemplate(NAME, "<span theme=\"badge\">${item.value}</span>")
+				.build();
+		assertTrue(getImpl(listing).getColumnConfiguration(NAME).getRenderer().orElse(null) instanceof LitRenderer);
+
 		final ValueProvider<PropertyBox, String> vp = item -> "test";
 		listing = PropertyListing.builder(SET).valueProvider(ID, vp).build();
 		assertEquals(vp, getImpl(listing).getColumnConfiguration(ID).getValueProvider().orElse(null));
@@ -409,6 +424,43 @@ public class TestPropertyListing {
 		assertNotNull(c3);
 	}
 
+	@Test
+	public void testSortUsing() {
+
+		PropertyListing listing = PropertyListing.builder(SET).sortUsing(NAME, ID).build();
+
+		final Grid<?> grid = (Grid<?>) listing.getComponent();
+		Column<?> column = grid.getColumnByKey(getImpl(listing).getColumnConfiguration(NAME).getColumnKey());
+		assertTrue(column.isSortable());
+
+		List<QuerySortOrder> orders = column.getSortOrder(SortDirection.ASCENDING).collect(Collectors.toList());
+		assertEquals(1, orders.size());
+		assertEquals(ID.getName(), orders.get(0).getSorted());
+		assertEquals(SortDirection.ASCENDING, orders.get(0).getDirection());
+
+		listing = PropertyListing.builder(SET).sortUsing(ID, NAME, ID).build();
+
+		column = ((Grid<?>) listing.getComponent())
+				.getColumnByKey(getImpl(listing).getColumnConfiguration(ID).getColumnKey());
+		orders = column.getSortOrder(SortDirection.DESCENDING).collect(Collectors.toList());
+		assertEquals(2, orders.size());
+		assertEquals(NAME.getName(), orders.get(0).getSorted());
+		assertEquals(ID.getName(), orders.get(1).getSorted());
+		assertEquals(SortDirection.DESCENDING, orders.get(1).getDirection());
+
+		// explicit sorts must be resolvable by the Datastore data provider
+		final Datastore datastore = JdbcDatastore.builder()
+				.dataSource(
+						BasicDataSource.builder().url("jdbc:h2:mem:test;INIT=RUNSCRIPT FROM 'classpath:test_init.sql'")
+								.username("sa").driverClassName(DatabasePlatform.H2.getDriverClassName()).build())
+				.build();
+		final DataTarget<?> target = DataTarget.named("test2");
+		assertNotNull(PropertyListing.builder(SET).dataSource(datastore, target).sortUsing(NAME, ID).build());
+		assertThrows(IllegalStateException.class, () -> PropertyListing.builder(SET).dataSource(datastore, target)
+				.sortUsing(NAME, StringProperty.create("unknown")).build());
+
+	}
+
 	@Test
 	public void testHeader() {
 
@@ -568,6 +620,20 @@ public class TestPropertyListing {
 		assertEquals(ID.getName(), bs.get(0).getSorted());
 		assertEquals(SortDirection.DESCENDING, bs.get(0).getDirection());
 
+		// undefined size
+		listing = PropertyListing.builder(SET).dataSource(datastore, TARGET).build();
+		assertTrue(getDataCommunicator(listing).isDefinedSize());
+
+		listing = PropertyListing.builder(SET).dataSource(datastore, TARGET).undefinedSize(true).build();
+		assertFalse(getDataCommunicator(listing).isDefinedSize());
+
+		listing = PropertyListing.builder(SET).dataSource(datastore, TARGET).undefinedSize(500).build();
+		assertFalse(getDataCommunicator(listing).isDefinedSize());
+		assertEquals(500, getDataCommunicator(listing).getItemCountEstimate());
+
+		items = getDataProvider(listing).fetch(new Query<>()).collect(Collectors.toList());
+		assertEquals(2, items.size());
+
 	}
 
 	@Test
@@ -605,6 +671,110 @@ public class TestPropertyListing {
 		assertEquals(itm, value.item);
 		assertEquals(2, fired.get());
 
+		value.item = null;
+		assertTrue(listing.refreshItemById(1L));
+		assertNotNull(value.item);
+		assertEquals(Long.valueOf(1L), value.item.getValue(ID));
+		assertNotSame(itm, value.item);
+		assertEquals(3, fired.get());
+
+		assertFalse(listing.refreshItemById(999L));
+		assertEquals(3, fired.get());
+
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDraftAdditionalItems() {
+
+		final PropertyListing listing = PropertyListing.builder(SET)
+				.dataSource(DataProvider.fromCallbacks(
+						q -> Stream.of(PropertyBox.builder(SET).set(ID, 1L).set(NAME, "test1").build())
+								.skip(q.getOffset()).limit(q.getLimit()),
+						q -> 1))
+				.build();
+
+		// two draft rows without id
+		final PropertyBox draft1 = PropertyBox.builder(SET).set(NAME, "draft1").build();
+		final PropertyBox draft2 = PropertyBox.builder(SET).set(NAME, "draft2").build();
+		listing.addAdditionalItem(draft1);
+		listing.addAdditionalItem(draft2);
+
+		assertEquals(2, listing.getAdditionalItems().size());
+		assertSame(draft1, listing.getAdditionalItems().get(0));
+		assertSame(draft2, listing.getAdditionalItems().get(1));
+
+		final DataProvider<PropertyBox, Object> dataProvider = (DataProvider<PropertyBox, Object>) getDataProvider(
+				listing);
+		assertEquals(3, dataProvider.size(new Query<>()));
+		final List<PropertyBox> items = dataProvider.fetch(new Query<>(0, 50, Collections.emptyList(), null, null))
+				.collect(Collectors.toList());
+		assertEquals(3, items.size());
+		assertEquals("draft1", items.get(0).getValue(NAME));
+		assertEquals("draft2", items.get(1).getValue(NAME));
+		assertEquals("test1", items.get(2).getValue(NAME));
+
+		assertTrue(listing.removeAdditionalItem(draft2));
+		assertEquals(1, listing.getAdditionalItems().size());
+		assertSame(draft1, listing.getAdditionalItems().get(0));
+		assertEquals(2, dataProvider.size(new Query<>()));
+
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSoftRefresh() {
+
+		final List<PropertyBox> backend = new java.util.ArrayList<>();
+		backend.add(PropertyBox.builder(SET).set(ID, 1L).set(NAME, "test1").build());
+		backend.add(PropertyBox.builder(SET).set(ID, 2L).set(NAME, "test2").build());
+
+		final AtomicInteger fired = new AtomicInteger(0);
+		final ItemValue value = new ItemValue();
+
+		final PropertyListing listing = PropertyListing.builder(SET)
+				.dataSource(DataProvider.fromCallbacks(q -> backend.stream().skip(q.getOffset()).limit(q.getLimit()),
+						q -> backend.size()))
+				.withItemRefreshListener(e -> {
+					fired.incrementAndGet();
+					value.item = e.getItem();
+				}).build();
+
+		final DataProvider<PropertyBox, Object> dataProvider = (DataProvider<PropertyBox, Object>) getDataProvider(
+				listing);
+		assertEquals(2, dataProvider.size(new Query<>()));
+		assertEquals(2, dataProvider.fetch(new Query<>(0, 50, Collections.emptyList(), null, null)).count());
+
+		// no changes
+		listing.softRefresh();
+		assertEquals(0, fired.get());
+
+		// changed item
+		backend.set(1, PropertyBox.builder(SET).set(ID, 2L).set(NAME, "changed").build());
+		listing.softRefresh();
+		assertEquals(1, fired.get());
+		assertNotNull(value.item);
+		assertEquals("changed", value.item.getValue(NAME));
+
+		// version
+		final PropertyListing versioned = PropertyListing.builder(SET)
+				.dataSource(DataProvider.fromCallbacks(q -> backend.stream().skip(q.getOffset()).limit(q.getLimit()),
+						q -> backend.size()))
+				.itemVersionProvider(item -> item.getValue(ID)).withItemRefreshListener(e -> fired.incrementAndGet())
+				.build();
+		((DataProvider<PropertyBox, Object>) getDataProvider(versioned))
+				.fetch(new Query<>(0, 50, Collections.emptyList(), null, null)).count();
+		backend.set(0, PropertyBox.builder(SET).set(ID, 1L).set(NAME, "changed").build());
+		versioned.softRefresh();
+		assertEquals(1, fired.get());
+
+		// count changed
+		backend.add(PropertyBox.builder(SET).set(ID, 3L).set(NAME, "test3").build());
+		value.item = null;
+		listing.softRefresh();
+		assertEquals(2, fired.get());
+		assertNull(value.item);
+
 	}
 
 	private class ItemValue {
@@ -729,6 +899,196 @@ public class TestPropertyListing {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSelectAll() {
+
+		final DataTarget<?> TARGET = DataTarget.named("test2");
+
+		final Datastore datastore = JdbcDatastore.builder()
+				.dataSource(
+						BasicDataSource.builder().url("jdbc:h2:mem:test;INIT=RUNSCRIPT FROM 'classpath:test_init.sql'")
+								.username("sa").driverClassName(DatabasePlatform.H2.getDriverClassName()).build())
+				.traceEnabled(true).build();
+
+		final PropertyListing single = PropertyListing.builder(SET).dataSource(datastore, TARGET).singleSelect()
+				.build();
+		assertThrows(IllegalStateException.class, () -> single.selectAll());
+
+		final PropertyListing listing = PropertyListing.builder(SET).dataSource(datastore, TARGET).multiSelect()
+				.build();
+		assertFalse(listing.isAllSelected());
+		assertFalse(listing.getSelectionFilter().isPresent());
+
+		// select all checkbox
+		final GridSelectionColumn selectionColumn = ((Grid<?>) listing.getComponent()).getChildren()
+				.filter(c -> c instanceof GridSelectionColumn).map(c -> (GridSelectionColumn) c).findFirst()
+				.orElse(null);
+		assertNotNull(selectionColumn);
+		assertFalse(selectionColumn.getElement().getProperty("selectAll", false));
+
+		listing.selectAll();
+		assertTrue(listing.isAllSelected());
+		assertTrue(selectionColumn.getElement().getProperty("selectAll", false));
+		assertEquals(2, listing.getSelectedItems().size());
+		assertEquals(2, listing.getSelectedItems().stream().count());
+		assertTrue(listing.getSelectionFilter().isPresent());
+		assertEquals(2L, datastore.query(TARGET).filter(listing.getSelectionFilter().get()).count());
+
+		// displayed items
+		final List<PropertyBox> items = getDataProvider(listing).fetch(new Query<>()).collect(Collectors.toList());
+		assertEquals(2, items.size());
+		final PropertyBox item1 = items.stream().filter(i -> i.getValue(ID).longValue() == 1L).findFirst()
+				.orElse(null);
+		assertNotNull(item1);
+		assertTrue(listing.isSelected(item1));
+
+		listing.deselect(item1);
+		assertTrue(listing.isAllSelected());
+		assertFalse(selectionColumn.getElement().getProperty("selectAll", false));
+		assertFalse(listing.isSelected(item1));
+		assertEquals(1, listing.getSelectedItems().size());
+		assertEquals(Long.valueOf(2L), listing.getSelectedItems().iterator().next().getValue(ID));
+		assertEquals(1L, datastore.query(TARGET).filter(listing.getSelectionFilter().get()).count());
+
+		listing.select(item1);
+		assertEquals(2, listing.getSelectedItems().size());
+		assertTrue(selectionColumn.getElement().getProperty("selectAll", false));
+
+		listing.deselectAll();
+		assertFalse(listing.isAllSelected());
+		assertFalse(selectionColumn.getElement().getProperty("selectAll", false));
+		assertEquals(0, listing.getSelectedItems().size());
+		assertFalse(listing.getSelectionFilter().isPresent());
+
+		// filtered
+		final PropertyListing filtered = PropertyListing.builder(SET).dataSource(datastore, TARGET)
+				.withQueryFilter(ID.lt(2L)).multiSelect().build();
+		filtered.selectAll();
+		assertEquals(1, filtered.getSelectedItems().size());
+		assertEquals(1L, datastore.query(TARGET).filter(filtered.getSelectionFilter().get()).count());
+
+		// data provider filter
+		final PropertyListing providerFiltered = PropertyListing.builder(SET).dataSource(datastore, TARGET)
+				.multiSelect().build();
+		final DataProvider<PropertyBox, QueryFilter> dataProvider = (DataProvider<PropertyBox, QueryFilter>) getDataProvider(
+				providerFiltered);
+		assertEquals(1, dataProvider.size(new Query<>(ID.eq(2L))));
+		providerFiltered.selectAll();
+		assertEquals(1L, datastore.query(TARGET).filter(providerFiltered.getSelectionFilter().get()).count());
+		assertEquals(1, providerFiltered.getSelectedItems().size());
+		assertEquals(Long.valueOf(2L), providerFiltered.getSelectedItems().iterator().next().getValue(ID));
+
+	}
+
+	@Test
+	public void testIdSelection() {
+
+		final DataTarget<?> TARGET = DataTarget.named("test2");
+
+		final Datastore datastore = JdbcDatastore.builder()
+				.dataSource(
+						BasicDataSource.builder().url("jdbc:h2:mem:test;INIT=RUNSCRIPT FROM 'classpath:test_init.sql'")
+								.username("sa").driverClassName(DatabasePlatform.H2.getDriverClassName()).build())
+				.traceEnabled(true).build();
+
+		final Set<PropertyBox> selected = new HashSet<>();
+
+		final PropertyListing listing = PropertyListing.builder(SET).dataSource(datastore, TARGET).multiSelect()
+				.idSelection(true).withSelectionListener(e -> {
+					selected.clear();
+					selected.addAll(e.getAllSelectedItems());
+				}).build();
+
+		final List<PropertyBox> items = getDataProvider(listing).fetch(new Query<>()).collect(Collectors.toList());
+		assertEquals(2, items.size());
+
+		listing.select(items.get(0));
+		listing.select(items.get(1));
+		assertEquals(2, listing.getSelectedItems().size());
+		assertEquals(2, selected.size());
+		assertTrue(listing.isSelected(items.get(0)));
+
+		// the items are loaded from the datastore
+		final List<PropertyBox> loaded = listing.getSelectedItems().stream().collect(Collectors.toList());
+		assertEquals(2, loaded.size());
+		assertNotSame(items.get(0), loaded.get(0));
+		assertEquals(2L, datastore.query(TARGET).filter(listing.getSelectionFilter().get()).count());
+
+		listing.deselect(items.get(0));
+		assertEquals(1, listing.getSelectedItems().size());
+		assertEquals(1, selected.size());
+		assertFalse(listing.isSelected(items.get(0)));
+		assertEquals(Long.valueOf(items.get(1).getValue(ID)),
+				listing.getSelectedItems().iterator().next().getValue(ID));
+
+		listing.deselectAll();
+		assertEquals(0, listing.getSelectedItems().size());
+		assertEquals(0, selected.size());
+		assertFalse(listing.getSelectionFilter().isPresent());
+
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBulkOperations() {
+
+		final DataTarget<?> TARGET = DataTarget.named("test2");
+
+		final Datastore datastore = JdbcDatastore.builder()
+				.dataSource(
+						BasicDataSource.builder().url("jdbc:h2:mem:test;INIT=RUNSCRIPT FROM 'classpath:test_init.sql'")
+								.username("sa").driverClassName(DatabasePlatform.H2.getDriverClassName()).build())
+				.traceEnabled(true).build();
+
+		final PropertyListing items = PropertyListing.builder(SET)
+				.items(PropertyBox.builder(SET).set(ID, 1L).set(NAME, "test1").build()).multiSelect().build();
+		assertThrows(IllegalStateException.class, () -> items.deleteSelectedItems());
+		assertThrows(IllegalStateException.class, () -> items.updateFilteredItems(u -> u.set(NAME, "x")));
+
+		final AtomicInteger refreshed = new AtomicInteger(0);
+
+		final PropertyListing listing = PropertyListing.builder(SET).dataSource(datastore, TARGET).multiSelect()
+				.withItemRefreshListener(e -> refreshed.incrementAndGet()).build();
+
+		// no selection
+		assertEquals(0L, listing.deleteSelectedItems());
+		assertEquals(0L, listing.updateSelectedItems(u -> u.set(NAME, "x")));
+		assertEquals(0, refreshed.get());
+
+		final List<PropertyBox> loaded = getDataProvider(listing).fetch(new Query<>()).collect(Collectors.toList());
+		listing.select(loaded.get(0));
+		assertEquals(1L, listing.updateSelectedItems(u -> u.set(NAME, "x")));
+		assertTrue(refreshed.get() > 0);
+		assertTrue(listing.isSelected(loaded.get(0)));
+
+		assertEquals(1L, listing.deleteSelectedItems());
+		assertEquals(0, listing.getSelectedItems().size());
+
+		listing.selectAll();
+		assertEquals(2L, listing.updateSelectedItems(u -> u.set(NAME, "x")));
+
+		assertEquals(2L, listing.updateFilteredItems(u -> u.set(NAME, "x")));
+		// unfiltered delete must be explicitly allowed
+		assertThrows(IllegalStateException.class, () -> listing.deleteFilteredItems());
+		assertTrue(listing.isAllSelected());
+		assertEquals(2L, listing.deleteFilteredItems(true));
+		assertFalse(listing.isAllSelected());
+
+		final PropertyListing filtered = PropertyListing.builder(SET).dataSource(datastore, TARGET)
+				.withQueryFilter(ID.lt(2L)).build();
+		assertEquals(1L, filtered.updateFilteredItems(u -> u.set(NAME, "x")));
+		assertEquals(1L, filtered.deleteFilteredItems());
+
+		// data provider filter
+		final PropertyListing providerFiltered = PropertyListing.builder(SET).dataSource(datastore, TARGET).build();
+		assertEquals(1, ((DataProvider<PropertyBox, QueryFilter>) getDataProvider(providerFiltered))
+				.size(new Query<>(ID.eq(2L))));
+		assertEquals(1L, providerFiltered.updateFilteredItems(u -> u.set(NAME, "x")));
+		assertEquals(1L, providerFiltered.deleteFilteredItems());
+
+	}
+
 	@Test
 	public void testVisibleColumns() {
 
@@ -768,6 +1128,90 @@ public class TestPropertyListing {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testPresentationCache() {
+
+		PropertyListing listing = PropertyListing.builder(SET).build();
+		assertEquals(0, getImpl(listing).getColumnConfiguration(NAME).getPresentationCacheSize());
+
+		listing = PropertyListing.builder(SET).presentationCache(NAME).build();
+		assertEquals(ItemListingColumn.DEFAULT_PRESENTATION_CACHE_SIZE,
+				getImpl(listing).getColumnConfiguration(NAME).getPresentationCacheSize());
+
+		assertThrows(IllegalArgumentException.class, () -> PropertyListing.builder(SET).presentationCache(NAME, -1));
+
+		listing = PropertyListing.builder(SET).presentationCache(NAME, 10).build();
+		assertFalse(getImpl(listing).getPresentationCacheStatistics(NAME).isPresent());
+		assertFalse(getImpl(listing).getPresentationCacheStatistics(ID).isPresent());
+
+		final Column<PropertyBox> column = getImpl(listing).getGrid()
+				.getColumnByKey(getImpl(listing).getColumnConfiguration(NAME).getColumnKey());
+		assertNotNull(column);
+		final ValueProvider<PropertyBox, Object> vp = (ValueProvider<PropertyBox, Object>) column.getRenderer()
+				.getValueProviders().values().iterator().next();
+
+		assertEquals("v1", vp.apply(PropertyBox.builder(SET).set(ID, 1L).set(NAME, "v1").build()));
+		assertEquals("v1", vp.apply(PropertyBox.builder(SET).set(ID, 2L).set(NAME, "v1").build()));
+		assertEquals("v2", vp.apply(PropertyBox.builder(SET).set(ID, 3L).set(NAME, "v2").build()));
+
+		final CacheStatistics statistics = getImpl(listing).getPresentationCacheStatistics(NAME).orElse(null);
+		assertNotNull(statistics);
+		assertEquals(1L, statistics.getHitCount());
+		assertEquals(2L, statistics.getMissCount());
+
+		getImpl(listing).clearPresentationCaches();
+		assertEquals("v1", vp.apply(PropertyBox.builder(SET).set(ID, 1L).set(NAME, "v1").build()));
+		assertEquals(3L, getImpl(listing).getPresentationCacheStatistics(NAME).map(s -> s.getMissCount()).orElse(0L));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testPooledComponentRenderer() {
+
+		final AtomicInteger created = new AtomicInteger(0);
+
+		final PropertyListing listing = PropertyListing.builder(SET).pooledComponentRenderer(NAME, () -> {
+			created.incrementAndGet();
+			return new Button();
+		}, (button, item) -> button.setText(item.getValue(NAME)), 1).build();
+
+		final Renderer<PropertyBox> renderer = getImpl(listing).getColumnConfiguration(NAME).getRenderer()
+				.orElse(null);
+		assertNotNull(renderer);
+		assertTrue(renderer instanceof PooledComponentRenderer);
+
+		final PooledComponentRenderer<Button, PropertyBox> pooled = (PooledComponentRenderer<Button, PropertyBox>) renderer;
+		assertEquals(1, pooled.getPoolSize());
+
+		final Button b1 = pooled.createComponent(PropertyBox.builder(SET).set(ID, 1L).set(NAME, "n1").build());
+		assertEquals("n1", b1.getText());
+		final Button b2 = pooled.createComponent(PropertyBox.builder(SET).set(ID, 2L).set(NAME, "n2").build());
+		assertEquals("n2", b2.getText());
+		assertNotSame(b1, b2);
+		assertEquals(2, created.get());
+
+		// release
+		final UI ui = new UI();
+		ui.add(b1, b2);
+		ui.remove(b1, b2);
+		assertEquals(1, pooled.getPooledCount());
+
+		// recycle
+		final Button b3 = pooled.createComponent(PropertyBox.builder(SET).set(ID, 3L).set(NAME, "n3").build());
+		assertTrue(b3 == b1 || b3 == b2);
+		assertEquals("n3", b3.getText());
+		assertEquals(2, created.get());
+		assertEquals(0, pooled.getPooledCount());
+
+		pooled.createComponent(PropertyBox.builder(SET).set(ID, 4L).set(NAME, "n4").build());
+		assertEquals(3, created.get());
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new PooledComponentRenderer<Button, PropertyBox>(() -> new Button(), (b, i) -> {
+				}, -1));
+	}
+
 	@Test
 	public void testComponentColumns() {
 
@@ -25,12 +25,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
@@ -58,7 +60,9 @@ import com.holonplatform.vaadin.flow.components.builders.SingleSelectConfigurato
 import com.holonplatform.vaadin.flow.components.builders.SingleSelectConfigurator.PropertySingleSelectInputBuilder;
 import com.holonplatform.vaadin.flow.components.builders.SingleSelectConfigurator.SingleSelectInputBuilder;
 import com.holonplatform.vaadin.flow.components.support.Unit;
+import com.holonplatform.vaadin.flow.data.DatastoreDataProvider;
 import com.holonplatform.vaadin.flow.data.ItemConverter;
+import com.holonplatform.vaadin.flow.internal.data.PropertyItemConverter;
 import com.holonplatform.vaadin.flow.test.util.BeanTest1;
 import com.holonplatform.vaadin.flow.test.util.ComponentTestUtils;
 import com.holonplatform.vaadin.flow.test.util.LocalizationTestUtils;
@@ -753,6 +757,63 @@ public class TestSingleSelectInput {
 
 	}
 
+	@Test
+	public void testLookupCache() {
+
+		final Datastore datastore = JdbcDatastore.builder()
+				.dataSource(
+						BasicDataSource.builder().url("jdbc:h2:mem:test;INIT=RUNSCRIPT FROM 'classpath:test_init.sql'")
+								.username("sa").driverClassName(DatabasePlatform.H2.getDriverClassName()).build())
+				.traceEnabled(true).build();
+
+		final AtomicInteger lookups = new AtomicInteger(0);
+		final PropertyItemConverter<String> converter = new PropertyItemConverter<>(CODE, value -> {
+			lookups.incrementAndGet();
+			return datastore.query(TARGET1).filter(CODE.eq(value)).findOne(TEST1);
+		});
+
+		assertFalse(converter.isLookupCacheEnabled());
+		assertEquals(0, converter.getLookupCacheStatistics().getMaxSize());
+
+		converter.setLookupCache(10, Duration.ofMinutes(10));
+		assertTrue(converter.isLookupCacheEnabled());
+
+		assertTrue(converter.getItem("A").isPresent());
+		assertTrue(converter.getItem("A").isPresent());
+		assertEquals(1, lookups.get());
+		assertEquals(1, converter.getLookupCacheStatistics().getHitCount());
+		assertEquals(1, converter.getLookupCacheStatistics().getMissCount());
+
+		assertFalse(converter.getItem("X").isPresent());
+		assertEquals(2, lookups.get());
+		assertEquals(1, converter.getLookupCacheStatistics().getSize());
+
+		converter.invalidateLookupCache("A");
+		assertTrue(converter.getItem("A").isPresent());
+		assertEquals(3, lookups.get());
+
+		// seed from fetched items
+		converter.invalidateLookupCache();
+		final DatastoreDataProvider<PropertyBox, String> dataProvider = DatastoreDataProvider.create(datastore,
+				TARGET1, TEST1, value -> CODE.eq(value));
+		dataProvider.addFetchListener(items -> converter.cacheItems(items));
+		assertEquals(2, dataProvider.fetch(new Query<>()).count());
+		assertEquals(2, converter.getLookupCacheStatistics().getSize());
+
+		assertEquals("Description B", converter.getItem("B").map(i -> i.getValue(DESCRIPTION)).orElse(null));
+		assertEquals(3, lookups.get());
+
+		// builder
+		final SingleSelect<String> input = Input.singleSimpleSelect(CODE).dataSource(datastore, TARGET1, TEST1)
+				.lookupCache(10, null).build();
+		input.setValue("A");
+		assertEquals("A", input.getValue());
+		input.refresh();
+		input.setValue("B");
+		assertEquals("B", input.getValue());
+
+	}
+
 	@Test
 	public void testValidatable() {
 